@@ -0,0 +1,117 @@
+package com.example.wiseai_dev;
+
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.application.service.PaymentProviderRegistry;
+import com.example.wiseai_dev.payment.application.service.PaymentService;
+import com.example.wiseai_dev.payment.domain.model.Payment;
+import com.example.wiseai_dev.payment.domain.repository.PaymentRepository;
+import com.example.wiseai_dev.payment.infrastructure.persistence.entity.PaymentProviderEntity;
+import com.example.wiseai_dev.payment.infrastructure.persistence.jpa.PaymentProviderJpaRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * H2 기반 예약 생성 → 결제(Mock 카드 PG) 전체 흐름 (서비스 계층, HTTP 제외)
+ * - 매 호출마다 겹치지 않는 새 30분 슬롯을 예약하고 바로 결제
+ * - 조회(findReservation / findPayment)는 미리 결제해 둔 예약 하나를 공개 API로 읽음 (엔티티 ↔ 도메인 변환 포함)
+ * - SampleTime 결과로 p50/p99 회귀를 추적
+ * 실행: ./gradlew jmh -Pjmh.includes=BookingEndToEndBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookingEndToEndBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private PaymentService paymentService;
+    private PaymentRepository paymentRepository;
+    private Long roomId;
+    private Long userId;
+    private LocalDateTime base;
+    private long sequence;
+    private Long paidReservationId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(WiseaiDevApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN",
+                        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN")
+                .run();
+
+        reservationService = context.getBean(ReservationService.class);
+        paymentService = context.getBean(PaymentService.class);
+        paymentRepository = context.getBean(PaymentRepository.class);
+
+        // jmh 클래스패스에는 data.sql이 없으므로 직접 준비
+        userId = context.getBean(UserRepository.class)
+                .save(User.builder().name("bench").email("bench@example.com").build())
+                .getId();
+        roomId = context.getBean(MeetingRoomRepository.class)
+                .save(MeetingRoom.create("벤치마크회의실", 10, 10000))
+                .getId();
+        PaymentProviderEntity provider = new PaymentProviderEntity();
+        provider.setName("Card");
+        provider.setApiEndpoint("http://localhost/card");
+        context.getBean(PaymentProviderJpaRepository.class).save(provider);
+        context.getBean(PaymentProviderRegistry.class).refresh();
+
+        base = LocalDate.now().plusDays(1).atStartOfDay();
+        paidReservationId = createReservationAndPay().getReservationId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ReservationResponse createReservation() {
+        return reservationService.createReservation(nextRequest());
+    }
+
+    @Benchmark
+    public PaymentResponse createReservationAndPay() {
+        ReservationResponse reservation = reservationService.createReservation(nextRequest());
+        return paymentService.processReservationPayment(reservation.getId(), "Card");
+    }
+
+    @Benchmark
+    public ReservationResponse findReservation() {
+        return reservationService.getReservationById(paidReservationId);
+    }
+
+    @Benchmark
+    public Payment findPayment() {
+        return paymentRepository.findByReservationId(paidReservationId).orElseThrow();
+    }
+
+    private ReservationRequest nextRequest() {
+        LocalDateTime start = base.plusMinutes(30 * sequence++);
+        ReservationRequest request = new ReservationRequest();
+        request.setMeetingRoomId(roomId);
+        request.setStartTime(start);
+        request.setEndTime(start.plusMinutes(30));
+        request.setUserId(userId);
+        return request;
+    }
+}
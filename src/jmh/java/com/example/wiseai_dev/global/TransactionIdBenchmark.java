@@ -0,0 +1,61 @@
+package com.example.wiseai_dev.global;
+
+import com.example.wiseai_dev.global.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 ID 생성 비용 비교: 기존 방식(시각 포맷 + UUID 앞 8자리) vs SnowflakeIdGenerator
+ * - 기존 방식은 호출마다 DateTimeFormatter 생성, SecureRandom 기반 UUID, 문자열 여러 개를 만듦
+ * - contended*는 8개 스레드가 같은 생성기를 공유하는 경우 (CAS 경합)
+ * 실행: ./gradlew jmh -Pjmh.includes=TransactionIdBenchmark  (-prof gc 로 호출당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionIdBenchmark {
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+    @Benchmark
+    public String legacy() {
+        return legacyTransactionId();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return generator.nextId("TXN-");
+    }
+
+    @Benchmark
+    public long snowflakeNumeric() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String contendedLegacy() {
+        return legacyTransactionId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String contendedSnowflake() {
+        return generator.nextId("TXN-");
+    }
+
+    // 기존 PaymentService.generateTransactionId
+    private static String legacyTransactionId() {
+        return "TXN-" +
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) +
+                "-" +
+                UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
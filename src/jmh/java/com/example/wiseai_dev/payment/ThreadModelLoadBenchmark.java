@@ -0,0 +1,200 @@
+package com.example.wiseai_dev.payment;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.payment.application.service.PaymentProviderRegistry;
+import com.example.wiseai_dev.payment.domain.gateway.PaymentGateway;
+import com.example.wiseai_dev.payment.domain.model.Payment;
+import com.example.wiseai_dev.payment.domain.model.PaymentResult;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+import com.example.wiseai_dev.payment.infrastructure.persistence.entity.PaymentProviderEntity;
+import com.example.wiseai_dev.payment.infrastructure.persistence.jpa.PaymentProviderJpaRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 실행 모드 부하 비교 (처리량 + p99)
+ * - 실제 HTTP로 예약 생성(JDBC) → 결제(PG 지연 gatewayLatencyMs) 흐름을 CLIENTS개 동시 클라이언트가 반복 호출
+ * - 두 모드 모두 Tomcat/PG 동시 호출 상한을 같게 두고 스레드 모델만 바꿔서 비교
+ * - Throughput은 ops/ms, SampleTime 결과의 p0.99가 p99 응답 시간
+ * 실행: ./gradlew jmh -Pjmh.includes=ThreadModelLoadBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(ThreadModelLoadBenchmark.CLIENTS)
+public class ThreadModelLoadBenchmark {
+
+    static final int CLIENTS = 256;
+
+    private static final int ROOMS = 16;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int GATEWAY_CONCURRENCY = 64;
+
+    @Param({"platform", "virtual"})
+    public String threadModel;
+
+    @Param({"50"})
+    public int gatewayLatencyMs;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private ObjectMapper objectMapper;
+    private URI baseUri;
+    private Long userId;
+    private final List<Long> roomIds = new ArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private LocalDateTime base;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = "virtual".equals(threadModel);
+        int latencyMs = gatewayLatencyMs;
+        context = new SpringApplicationBuilder(WiseaiDevApplication.class)
+                .profiles("test")
+                .initializers(ctx -> ((GenericApplicationContext) ctx)
+                        .registerBean(SlowPaymentGateway.class, () -> new SlowPaymentGateway(latencyMs)))
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                        "payment.gateway.pool-size=" + GATEWAY_CONCURRENCY,
+                        "payment.gateway.queue-capacity=" + CLIENTS * 4,
+                        "spring.datasource.hikari.maximum-pool-size=20",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN")
+                .run();
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUri = URI.create("http://localhost:" + port);
+        objectMapper = context.getBean(ObjectMapper.class);
+        client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(8))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // jmh 클래스패스에는 data.sql이 없으므로 직접 준비
+        userId = context.getBean(UserRepository.class)
+                .save(User.builder().name("load").email("load@example.com").build())
+                .getId();
+        MeetingRoomRepository meetingRoomRepository = context.getBean(MeetingRoomRepository.class);
+        for (int i = 0; i < ROOMS; i++) {
+            roomIds.add(meetingRoomRepository.save(MeetingRoom.create("부하회의실" + i, 10, 10000)).getId());
+        }
+        PaymentProviderEntity provider = new PaymentProviderEntity();
+        provider.setName("Slow");
+        provider.setApiEndpoint("http://localhost/slow");
+        context.getBean(PaymentProviderJpaRepository.class).save(provider);
+        context.getBean(PaymentProviderRegistry.class).refresh();
+
+        base = LocalDate.now().plusDays(1).atStartOfDay();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long book() throws IOException, InterruptedException {
+        return createReservation();
+    }
+
+    @Benchmark
+    public JsonNode bookAndPay() throws IOException, InterruptedException {
+        long reservationId = createReservation();
+        return post("/reservations/" + reservationId + "/payment",
+                Map.of("paymentProviderName", "Slow"));
+    }
+
+    /**
+     * 회의실을 돌아가며 겹치지 않는 30분 슬롯을 하나씩 예약
+     */
+    private long createReservation() throws IOException, InterruptedException {
+        long n = sequence.getAndIncrement();
+        LocalDateTime start = base.plusMinutes(30 * (n / ROOMS));
+        JsonNode data = post("/reservations", Map.of(
+                "meetingRoomId", roomIds.get((int) (n % ROOMS)),
+                "startTime", start.toString(),
+                "endTime", start.plusMinutes(30).toString(),
+                "userId", userId));
+        return data.get("id").asLong();
+    }
+
+    private JsonNode post(String path, Map<String, Object> body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("요청 실패. path: " + path + ", status: " + response.statusCode()
+                    + ", body: " + response.body());
+        }
+        return objectMapper.readTree(response.body()).get("data");
+    }
+
+    /**
+     * 지연이 있는 PG 대역
+     */
+    static class SlowPaymentGateway implements PaymentGateway {
+
+        private final long latencyMs;
+
+        SlowPaymentGateway(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        public String getProviderName() {
+            return "Slow";
+        }
+
+        @Override
+        public PaymentResult processPayment(Payment payment) {
+            try {
+                Thread.sleep(latencyMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("PG 호출 중단", e);
+            }
+            String transactionId = "SLOW_" + UUID.randomUUID().toString().substring(0, 8);
+            return PaymentResult.builder()
+                    .status(PaymentStatus.SUCCESS)
+                    .transactionId(transactionId)
+                    .providerName("Slow")
+                    .rawResponse("{\"status\":\"SUCCESS\"}")
+                    .build();
+        }
+
+        @Override
+        public void processWebhook(Map<String, Object> webhookData) {
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.wiseai_dev.reservation;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationUpdateRequest;
+import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소수의 예약 행에 변경이 몰릴 때 재시도 정책별 goodput 비교
+ * - fixed: 지터 없는 지수 백오프(100ms부터, 3회) - 기존 정책과 같은 조건, 충돌한 요청들이 같은 시각에 다시 부딪힘
+ * - jitter: 공용 정책 (decorrelated jitter, 4회)
+ * - jitter-lock: 공용 정책 + ContentionTracker (hot 행은 비관적 락으로 읽음)
+ * - 보조 카운터 successes(초당) = goodput, failures = 재시도를 소진하고 실패한 변경 수
+ * 실행: ./gradlew jmh -Pjmh.includes=OptimisticLockContentionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class OptimisticLockContentionBenchmark {
+
+    private static final int HOT_ROWS = 4;
+
+    @Param({"fixed", "jitter", "jitter-lock"})
+    public String policy;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private Long userId;
+    private final long[] reservationIds = new long[HOT_ROWS];
+    private final LocalDateTime[] starts = new LocalDateTime[HOT_ROWS];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean fixed = "fixed".equals(policy);
+        context = new SpringApplicationBuilder(WiseaiDevApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "retry.optimistic-lock.jitter=" + !fixed,
+                        "retry.optimistic-lock.max-attempts=" + (fixed ? 3 : 4),
+                        "retry.optimistic-lock.initial-interval=" + (fixed ? "100ms" : "20ms"),
+                        "retry.contention.enabled=" + "jitter-lock".equals(policy),
+                        "spring.datasource.hikari.maximum-pool-size=16",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN")
+                .run();
+        reservationService = context.getBean(ReservationService.class);
+
+        // jmh 클래스패스에는 data.sql이 없으므로 직접 준비 (예약마다 다른 날짜 → 서로 겹치지 않음)
+        userId = context.getBean(UserRepository.class)
+                .save(User.builder().name("bench").email("bench@example.com").build())
+                .getId();
+        Long roomId = context.getBean(MeetingRoomRepository.class)
+                .save(MeetingRoom.create("벤치마크회의실", 10, 10000))
+                .getId();
+        for (int i = 0; i < HOT_ROWS; i++) {
+            starts[i] = LocalDate.now().plusDays(1 + i).atTime(10, 0);
+            ReservationRequest request = new ReservationRequest();
+            request.setMeetingRoomId(roomId);
+            request.setStartTime(starts[i]);
+            request.setEndTime(starts[i].plusHours(1));
+            request.setUserId(userId);
+            reservationIds[i] = reservationService.createReservation(request).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ReservationResponse update(Outcomes outcomes) {
+        int row = ThreadLocalRandom.current().nextInt(HOT_ROWS);
+        // 같은 날 안에서 종료 시각만 바꿔 다른 행과는 겹치지 않게 함
+        ReservationUpdateRequest request = new ReservationUpdateRequest();
+        request.setStartTime(starts[row]);
+        request.setEndTime(starts[row].plusMinutes(ThreadLocalRandom.current().nextBoolean() ? 60 : 90));
+        request.setUserId(userId);
+        try {
+            ReservationResponse response = reservationService.updateReservation(reservationIds[row], request);
+            outcomes.successes++;
+            return response;
+        } catch (OptimisticLockingFailureException e) {
+            outcomes.failures++;
+            return null;
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long successes;
+        public long failures;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            successes = 0;
+            failures = 0;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.wiseai_dev.reservation;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.ReservationIntervalIndex;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 대량 등록 처리량 (rows/s): 건별 생성 vs 일괄 생성(POST /reservations/batch 경로)
+ * - singleRequests: 예약마다 createReservation (트랜잭션/겹침 검사/INSERT가 건별)
+ * - batchRequest: createReservations 한 번 (점유 슬롯 조회 1회 + saveAll → JDBC 배치 INSERT)
+ * - jdbcBatchSize=1 은 배치를 끈 경우로, 일괄 생성에서 배치 INSERT 자체의 효과를 분리해서 봄
+ * 실행: ./gradlew jmh -Pjmh.includes=ReservationBatchInsertBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(ReservationBatchInsertBenchmark.ROWS)
+public class ReservationBatchInsertBenchmark {
+
+    static final int ROWS = 100;
+
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private Long roomId;
+    private Long userId;
+    private LocalDateTime base;
+    private long slot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = new SpringApplicationBuilder(WiseaiDevApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN")
+                .run();
+
+        reservationService = context.getBean(ReservationService.class);
+
+        // jmh 클래스패스에는 data.sql이 없으므로 직접 준비
+        userId = context.getBean(UserRepository.class)
+                .save(User.builder().name("bench").email("bench-batch@example.com").build())
+                .getId();
+        roomId = context.getBean(MeetingRoomRepository.class)
+                .save(MeetingRoom.create("일괄등록회의실", 10, 10000))
+                .getId();
+        base = LocalDate.now().plusDays(1).atStartOfDay();
+
+        // 건별 생성의 겹침 검사가 DB 폴백 없이 인덱스로 처리되도록 적재 완료까지 대기
+        ReservationIntervalIndex intervalIndex = context.getBean(ReservationIntervalIndex.class);
+        while (!intervalIndex.covers(roomId, base)) {
+            intervalIndex.warmUpAsync(roomId);
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singleRequests(Blackhole blackhole) {
+        for (ReservationRequest request : nextRequests()) {
+            blackhole.consume(reservationService.createReservation(request));
+        }
+    }
+
+    @Benchmark
+    public List<ReservationResponse> batchRequest() {
+        return reservationService.createReservations(nextRequests());
+    }
+
+    // 겹치지 않도록 30분 슬롯을 계속 앞으로 이동
+    private List<ReservationRequest> nextRequests() {
+        List<ReservationRequest> requests = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDateTime start = base.plusMinutes(30 * slot++);
+            ReservationRequest request = new ReservationRequest();
+            request.setMeetingRoomId(roomId);
+            request.setStartTime(start);
+            request.setEndTime(start.plusMinutes(30));
+            request.setUserId(userId);
+            requests.add(request);
+        }
+        return requests;
+    }
+}
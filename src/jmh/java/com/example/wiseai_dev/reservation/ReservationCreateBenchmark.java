@@ -0,0 +1,122 @@
+package com.example.wiseai_dev.reservation;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.ReservationIntervalIndex;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 생성 경로의 SQL 수 / 지연 비교: 회의실 캐시 사용 vs 미사용
+ * - 보조 카운터(반복 단위 합계): calls = 예약 생성 수, statements = 준비된 SQL 수, selects = 엔티티 로딩 + 쿼리 실행 수
+ *   → statements / calls 가 호출당 SQL 수 (캐시 사용 시 회의실 SELECT 1건이 빠짐)
+ * 실행: ./gradlew jmh -Pjmh.includes=ReservationCreateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationCreateBenchmark {
+
+    @Param({"true", "false"})
+    public boolean meetingRoomCache;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private Statistics statistics;
+    private Long roomId;
+    private Long userId;
+    private LocalDateTime base;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = new SpringApplicationBuilder(WiseaiDevApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "meeting-room.cache.enabled=" + meetingRoomCache,
+                        // 백그라운드 만료 스캔/점유 프로젝션 SQL이 statements 카운터에 섞이지 않도록
+                        "reservation.hold.expiry.enabled=false",
+                        "reservation.occupancy.enabled=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN",
+                        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN")
+                .run();
+
+        reservationService = context.getBean(ReservationService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        // jmh 클래스패스에는 data.sql이 없으므로 직접 준비
+        userId = context.getBean(UserRepository.class)
+                .save(User.builder().name("bench").email("bench@example.com").build())
+                .getId();
+        roomId = context.getBean(MeetingRoomRepository.class)
+                .save(MeetingRoom.create("벤치마크회의실", 10, 10000))
+                .getId();
+        base = LocalDate.now().plusDays(1).atStartOfDay();
+
+        // 겹침 검사는 두 경우 모두 인덱스로 처리되도록 적재 완료까지 대기
+        ReservationIntervalIndex intervalIndex = context.getBean(ReservationIntervalIndex.class);
+        while (!intervalIndex.covers(roomId, base)) {
+            intervalIndex.warmUpAsync(roomId);
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ReservationResponse createReservation(SqlCounters counters) {
+        LocalDateTime start = base.plusMinutes(30 * sequence++);
+        ReservationRequest request = new ReservationRequest();
+        request.setMeetingRoomId(roomId);
+        request.setStartTime(start);
+        request.setEndTime(start.plusMinutes(30));
+        request.setUserId(userId);
+
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long selectsBefore = statistics.getEntityFetchCount() + statistics.getEntityLoadCount() + statistics.getQueryExecutionCount();
+        ReservationResponse response = reservationService.createReservation(request);
+        counters.calls++;
+        counters.statements += statistics.getPrepareStatementCount() - statementsBefore;
+        counters.selects += statistics.getEntityFetchCount() + statistics.getEntityLoadCount()
+                + statistics.getQueryExecutionCount() - selectsBefore;
+        return response;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SqlCounters {
+        public long calls;
+        public long statements;
+        public long selects;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            calls = 0;
+            statements = 0;
+            selects = 0;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.wiseai_dev.reservation;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.ReservationIntervalIndex;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.SlotBitmapAvailabilityEngine;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.ReservationJpaRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.repository.ReservationRepositoryImpl;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 겹침 조회 비교: 기존 JPQL(엔티티 + 사용자 매핑) vs projection 쿼리 vs 구간 인덱스 vs 슬롯 비트맵
+ * 실행: ./gradlew jmh -Pjmh.includes=ReservationOverlapBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationOverlapBenchmark {
+
+    private static final int SEEDED_RESERVATIONS = 2_000;
+    private static final int PROBES = 1 << 10;
+
+    private ConfigurableApplicationContext context;
+    private Long roomId;
+    private ReservationRepository reservationRepository;
+    private ReservationRepositoryImpl databaseRepository;
+    private ReservationJpaRepository jpaRepository;
+    private ReservationIntervalIndex intervalIndex;
+    private SlotBitmapAvailabilityEngine bitmapEngine;
+    private TransactionTemplate readOnlyTransaction;
+
+    private LocalDateTime[] probes;
+    private LocalDate weekFrom;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        context = new SpringApplicationBuilder(WiseaiDevApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "reservation.availability.engine=bitmap",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN")
+                .run();
+
+        reservationRepository = context.getBean(ReservationRepository.class);
+        databaseRepository = context.getBean(ReservationRepositoryImpl.class);
+        jpaRepository = context.getBean(ReservationJpaRepository.class);
+        intervalIndex = context.getBean(ReservationIntervalIndex.class);
+        bitmapEngine = context.getBean(SlotBitmapAvailabilityEngine.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        // 하루 4건(09, 11, 13, 15시 1시간씩)으로 SEEDED_RESERVATIONS건 적재 (jmh 클래스패스에는 data.sql이 없으므로 직접 준비)
+        LocalDateTime base = LocalDate.now().plusDays(1).atTime(9, 0);
+        User user = context.getBean(UserRepository.class)
+                .save(User.builder().name("bench").email("bench@example.com").build());
+        roomId = context.getBean(MeetingRoomRepository.class)
+                .save(MeetingRoom.create("벤치마크회의실", 10, 10000))
+                .getId();
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transaction.executeWithoutResult(status -> {
+            for (int i = 0; i < SEEDED_RESERVATIONS; i++) {
+                LocalDateTime start = base.plusDays(i / 4).plusHours((i % 4) * 2L);
+                reservationRepository.save(Reservation.create(
+                        roomId, start, start.plusHours(1), user, 10000, ReservationStatus.CONFIRMED));
+            }
+        });
+
+        Random random = new Random(42);
+        int seededDays = SEEDED_RESERVATIONS / 4;
+        probes = new LocalDateTime[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = base.plusDays(random.nextInt(seededDays)).plusMinutes(30L * random.nextInt(20));
+        }
+        weekFrom = base.toLocalDate().plusDays(seededDays / 2);
+
+        // 인메모리 구조 적재 완료까지 대기
+        intervalIndex.warmUpAsync(roomId);
+        bitmapEngine.warmUpAsync(roomId);
+        while (!intervalIndex.covers(roomId, base) || !bitmapEngine.covers(roomId, base, base.plusHours(1))) {
+            Thread.sleep(10);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean jpqlOverlapQuery() {
+        LocalDateTime start = nextProbe();
+        List<Reservation> existing = readOnlyTransaction.execute(status ->
+                reservationRepository.findByMeetingRoomIdAndTimeRange(roomId, start, start.plusHours(1)));
+        return !existing.isEmpty();
+    }
+
+    @Benchmark
+    public boolean projectionOverlapQuery() {
+        LocalDateTime start = nextProbe();
+        return !jpaRepository.findOverlappingIntervals(roomId, start, start.plusHours(1)).isEmpty();
+    }
+
+    @Benchmark
+    public boolean intervalIndexOverlap() {
+        LocalDateTime start = nextProbe();
+        return intervalIndex.hasOverlap(roomId, start, start.plusHours(1), null);
+    }
+
+    @Benchmark
+    public boolean bitmapOverlap() {
+        LocalDateTime start = nextProbe();
+        return bitmapEngine.hasOverlap(roomId, start, start.plusHours(1), null);
+    }
+
+    @Benchmark
+    public Map<Long, long[]> rangeScanOccupiedWeek() {
+        return databaseRepository.findOccupiedSlots(List.of(roomId), weekFrom, weekFrom.plusDays(6));
+    }
+
+    @Benchmark
+    public long[] bitmapOccupiedWeek() {
+        return bitmapEngine.occupiedSlots(roomId, weekFrom, weekFrom.plusDays(6));
+    }
+
+    private LocalDateTime nextProbe() {
+        return probes[cursor++ & (PROBES - 1)];
+    }
+}
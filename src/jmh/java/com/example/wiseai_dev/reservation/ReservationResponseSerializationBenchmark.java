@@ -0,0 +1,68 @@
+package com.example.wiseai_dev.reservation;
+
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 응답 변환(ReservationResponse.fromDomain) + JSON 직렬화 비용
+ * - ObjectMapper는 Spring MVC와 같은 Jackson2ObjectMapperBuilder 기본 설정 (JavaTimeModule 포함)
+ * - page는 목록 조회 기본 페이지 크기(20건) 기준
+ * 실행: ./gradlew jmh -Pjmh.includes=ReservationResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectMapper objectMapper;
+    private Reservation reservation;
+    private List<Reservation> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime base = LocalDate.now().plusDays(1).atTime(9, 0);
+        User user = new User(1L, "홍길동");
+        page = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            LocalDateTime start = base.plusMinutes(30L * i);
+            page.add(new Reservation((long) i + 1, 1L, start, start.plusMinutes(30),
+                    user, ReservationStatus.CONFIRMED, 10000, 0L));
+        }
+        reservation = page.get(0);
+    }
+
+    @Benchmark
+    public ReservationResponse fromDomain() {
+        return ReservationResponse.fromDomain(reservation);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ReservationResponse.fromDomain(reservation));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        List<ReservationResponse> responses = new ArrayList<>(page.size());
+        for (Reservation r : page) {
+            responses.add(ReservationResponse.fromDomain(r));
+        }
+        return objectMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.wiseai_dev.reservation;
+
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 생성 요청 처리 중 DB를 뺀 계산 비용: 시간 검증, 금액 계산, 도메인 생성, 응답 변환, 타이머 기록
+ * - 공개 API(createReservation)를 호출하고 회의실/사용자 조회와 저장은 메모리 대역으로 고정 (캐시 적중과 같은 조건)
+ * 실행: ./gradlew jmh -Pjmh.includes=ReservationServiceLogicBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReservationServiceLogicBenchmark {
+
+    private static final Long ROOM_ID = 1L;
+    private static final Long USER_ID = 1L;
+
+    private ReservationService reservationService;
+    private ReservationRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MeetingRoom meetingRoom = MeetingRoom.of(ROOM_ID, "벤치마크회의실", 10, 10000);
+        User user = new User(USER_ID, "bench");
+        MeetingRoomRepository meetingRoomRepository = stub(MeetingRoomRepository.class, "findById", Optional.of(meetingRoom));
+        UserRepository userRepository = stub(UserRepository.class, "findReferenceById", Optional.of(user));
+        // 저장은 받은 예약을 그대로 돌려줌
+        ReservationRepository reservationRepository = (ReservationRepository) Proxy.newProxyInstance(
+                ReservationRepository.class.getClassLoader(),
+                new Class<?>[]{ReservationRepository.class},
+                (proxy, method, args) -> {
+                    if ("save".equals(method.getName())) {
+                        return args[0];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        reservationService = new ReservationService(reservationRepository, meetingRoomRepository, userRepository,
+                new SimpleMeterRegistry(), null);
+
+        LocalDateTime startTime = LocalDate.now().plusDays(1).atTime(10, 0);
+        request = new ReservationRequest();
+        request.setMeetingRoomId(ROOM_ID);
+        request.setUserId(USER_ID);
+        request.setStartTime(startTime);
+        request.setEndTime(startTime.plusMinutes(90));
+    }
+
+    @Benchmark
+    public ReservationResponse createReservation() {
+        return reservationService.createReservation(request);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, String methodName, Object result) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (methodName.equals(method.getName())) {
+                        return result;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.wiseai_dev.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작업 하나의 응답 시간 / 상태 코드 기록 (클라이언트 스레드별로 하나씩 두고 마지막에 합침 → 기록 중 경합 없음)
+ */
+final class LatencyRecorder {
+
+    private long[] latenciesMicros = new long[1024];
+    private int size;
+    private long errors;
+    private final Map<Integer, Long> statusCodes = new TreeMap<>();
+
+    void record(long latencyMicros, int statusCode) {
+        if (size == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, size * 2);
+        }
+        latenciesMicros[size++] = latencyMicros;
+        statusCodes.merge(statusCode, 1L, Long::sum);
+        if (statusCode < 200 || statusCode >= 300) {
+            errors++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, size + other.size);
+        }
+        System.arraycopy(other.latenciesMicros, 0, latenciesMicros, size, other.size);
+        size += other.size;
+        errors += other.errors;
+        other.statusCodes.forEach((code, count) -> statusCodes.merge(code, count, Long::sum));
+    }
+
+    long count() {
+        return size;
+    }
+
+    long errors() {
+        return errors;
+    }
+
+    Map<Integer, Long> statusCodes() {
+        return statusCodes;
+    }
+
+    /**
+     * 백분위 응답 시간 (ms)
+     */
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesMicros, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.min(size - 1, Math.ceil(percentile / 100.0 * size) - 1);
+        return sorted[Math.max(index, 0)] / 1000.0;
+    }
+}
@@ -0,0 +1,388 @@
+package com.example.wiseai_dev.loadtest;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.payment.application.service.PaymentProviderRegistry;
+import com.example.wiseai_dev.payment.domain.model.PaymentProvider;
+import com.example.wiseai_dev.payment.domain.repository.PaymentProviderRepository;
+import com.example.wiseai_dev.payment.infrastructure.persistence.entity.PaymentProviderEntity;
+import com.example.wiseai_dev.payment.infrastructure.persistence.jpa.PaymentProviderJpaRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 예약/결제/웹훅 혼합 부하 드라이버
+ * - 애플리케이션을 같은 JVM에서 임의 포트로 띄우고 (PG 시뮬레이션 모드) 실제 컨트롤러로 HTTP 요청을 보냄
+ * - 클라이언트 1명 = 가상 스레드 1개: 예약 생성 → (pay-ratio) 결제 → (status-ratio) 상태 조회 → (webhook-ratio) 중복 웹훅
+ * - 결과: 작업별 처리량 / p50 / p99 / 상태 코드, 재시도 수, 커넥션 풀 / PG 실행기 / Tomcat 포화도 (표준 출력 + JSON)
+ *
+ * 실행 (H2):    ./gradlew loadTest
+ * 실행 (MySQL): ./gradlew loadTest --args="--spring.profiles.active=local --load.clients=128 --load.duration=2m"
+ * 옵션(기본값): load.clients=64, load.duration=60s, load.warmup=10s, load.rooms=32,
+ *              load.pay-ratio=0.9, load.status-ratio=0.5, load.webhook-ratio=0.2,
+ *              load.providers=Card,Simple,VirtualAccount, load.report-file=build/reports/loadtest/report.json
+ * PG 지연/오류 분포는 payment.gateway.simulation.* 로 조정
+ */
+public class PaymentLoadDriver {
+
+    private static final int MAX_CLIENT_RETRIES = 3;
+    private static final List<String> SATURATION_GAUGES = List.of(
+            "hikaricp.connections.active",
+            "hikaricp.connections.pending",
+            "tomcat.threads.busy",
+            "payment.gateway.executor.active",
+            "payment.gateway.executor.queued",
+            "payment.webhook.queue.size");
+    private static final List<String> SERVER_COUNTERS = List.of(
+            "payment.gateway.calls",
+            "payment.singleflight.joins",
+            "payment.idempotency.hits",
+            "payment.webhook.events",
+            "payment.webhook.coalesced",
+            "payment.gateway.simulation.errors",
+            "payment.gateway.simulation.webhooks",
+            "payment.gateway.simulation.webhooks.redelivered",
+            "payment.gateway.simulation.webhooks.dropped");
+
+    private final ConfigurableApplicationContext context;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final URI baseUri;
+
+    private final int clients;
+    private final Duration duration;
+    private final Duration warmup;
+    private final double payRatio;
+    private final double statusRatio;
+    private final double webhookRatio;
+    private final List<String> providers;
+    private final Path reportFile;
+
+    private final List<Long> roomIds = new ArrayList<>();
+    private final List<AtomicLong> roomSlots = new ArrayList<>();
+    private final AtomicLong clientRetries = new AtomicLong();
+    private final Map<String, double[]> saturation = new LinkedHashMap<>();
+    private Long userId;
+    private LocalDateTime base;
+
+    public static void main(String[] args) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(WiseaiDevApplication.class)
+                .properties(
+                        "spring.profiles.active=test",
+                        "server.port=0",
+                        "server.tomcat.mbeanregistry.enabled=true",
+                        "payment.gateway.simulation.enabled=true",
+                        "payment.webhook.spill-dir=build/loadtest/webhook-spill",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql=WARN")
+                .run(args);
+        try {
+            new PaymentLoadDriver(context).run();
+        } finally {
+            context.close();
+        }
+    }
+
+    PaymentLoadDriver(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.meterRegistry = context.getBean(MeterRegistry.class);
+        this.objectMapper = context.getBean(ObjectMapper.class);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        this.baseUri = URI.create("http://localhost:" + port);
+
+        Environment env = context.getEnvironment();
+        this.clients = env.getProperty("load.clients", Integer.class, 64);
+        this.duration = env.getProperty("load.duration", Duration.class, Duration.ofSeconds(60));
+        this.warmup = env.getProperty("load.warmup", Duration.class, Duration.ofSeconds(10));
+        this.payRatio = env.getProperty("load.pay-ratio", Double.class, 0.9);
+        this.statusRatio = env.getProperty("load.status-ratio", Double.class, 0.5);
+        this.webhookRatio = env.getProperty("load.webhook-ratio", Double.class, 0.2);
+        this.providers = List.of(env.getProperty("load.providers", "Card,Simple,VirtualAccount").split(","));
+        this.reportFile = Path.of(env.getProperty("load.report-file", "build/reports/loadtest/report.json"));
+
+        seed(env.getProperty("load.rooms", Integer.class, 32));
+    }
+
+    /**
+     * 부하용 데이터 준비 (매 실행마다 새 사용자/회의실 → 이전 실행 데이터와 겹치지 않음)
+     */
+    private void seed(int rooms) {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        userId = context.getBean(UserRepository.class)
+                .save(User.builder().name("load").email("load-" + runId + "@example.com").build())
+                .getId();
+        MeetingRoomRepository meetingRoomRepository = context.getBean(MeetingRoomRepository.class);
+        for (int i = 0; i < rooms; i++) {
+            roomIds.add(meetingRoomRepository.save(MeetingRoom.create("부하회의실-" + runId + "-" + i, 10, 10000)).getId());
+            roomSlots.add(new AtomicLong());
+        }
+
+        Set<String> existing = context.getBean(PaymentProviderRepository.class).findAll().stream()
+                .map(PaymentProvider::getName)
+                .collect(Collectors.toSet());
+        PaymentProviderJpaRepository providerJpaRepository = context.getBean(PaymentProviderJpaRepository.class);
+        for (String name : providers) {
+            if (!existing.contains(name)) {
+                PaymentProviderEntity provider = new PaymentProviderEntity();
+                provider.setName(name);
+                provider.setApiEndpoint("http://localhost/simulated/" + name);
+                providerJpaRepository.save(provider);
+            }
+        }
+        context.getBean(PaymentProviderRegistry.class).refresh();
+
+        base = LocalDate.now().plusDays(1).atStartOfDay();
+    }
+
+    private void run() throws Exception {
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + warmup.toNanos();
+        long endNanos = measureStartNanos + duration.toNanos();
+        System.out.printf("부하 시작: clients=%d, warmup=%s, duration=%s, target=%s%n", clients, warmup, duration, baseUri);
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> {
+            if (System.nanoTime() >= measureStartNanos) {
+                sampleSaturation();
+            }
+        }, 100, 100, TimeUnit.MILLISECONDS);
+
+        Map<String, Double> countersAtStart;
+        List<Future<Map<String, LatencyRecorder>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int clientIndex = i;
+                results.add(executor.submit(() -> runClient(clientIndex, measureStartNanos, endNanos)));
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, measureStartNanos - System.nanoTime()));
+            countersAtStart = snapshotCounters();
+            clientRetries.set(0);
+        }
+        sampler.shutdown();
+        sampler.awaitTermination(1, TimeUnit.SECONDS);
+        double measuredSeconds = (System.nanoTime() - measureStartNanos) / 1e9;
+
+        Map<String, LatencyRecorder> operations = new LinkedHashMap<>();
+        for (Future<Map<String, LatencyRecorder>> result : results) {
+            result.get().forEach((name, recorder) ->
+                    operations.computeIfAbsent(name, n -> new LatencyRecorder()).merge(recorder));
+        }
+        Map<String, Double> counters = new LinkedHashMap<>();
+        snapshotCounters().forEach((name, value) -> counters.put(name, value - countersAtStart.getOrDefault(name, 0.0)));
+
+        report(operations, counters, measuredSeconds);
+    }
+
+    /**
+     * 클라이언트 1명의 반복 시나리오
+     */
+    private Map<String, LatencyRecorder> runClient(int clientIndex, long measureStartNanos, long endNanos) {
+        Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int room = clientIndex % roomIds.size();
+
+        while (System.nanoTime() < endNanos) {
+            boolean measuring = System.nanoTime() >= measureStartNanos;
+            try {
+                LocalDateTime start = base.plusMinutes(30 * roomSlots.get(room).getAndIncrement());
+                Result created = call(recorders, measuring, "reservation.create", "POST", "/reservations", Map.of(
+                        "meetingRoomId", roomIds.get(room),
+                        "startTime", start.toString(),
+                        "endTime", start.plusMinutes(30).toString(),
+                        "userId", userId), null);
+                if (created.data == null || random.nextDouble() >= payRatio) {
+                    continue;
+                }
+
+                long reservationId = created.data.get("id").asLong();
+                String provider = providers.get(random.nextInt(providers.size()));
+                Result paid = call(recorders, measuring, "payment.pay", "POST", "/reservations/" + reservationId + "/payment",
+                        Map.of("paymentProviderName", provider), UUID.randomUUID().toString());
+
+                if (random.nextDouble() < statusRatio) {
+                    call(recorders, measuring, "payment.status", "GET", "/reservations/" + reservationId + "/status", null, null);
+                }
+
+                // PG 재전송처럼 이미 반영된 결과의 웹훅을 한 번 더 보냄
+                if (paid.data != null && random.nextDouble() < webhookRatio) {
+                    String status = paid.data.path("status").asText();
+                    if ("SUCCESS".equals(status) || "FAILED".equals(status)) {
+                        call(recorders, measuring, "webhook.duplicate", "POST", "/webhooks/payments/" + provider, Map.of(
+                                "transactionId", paid.data.path("transactionId").asText(),
+                                "status", status,
+                                "amount", paid.data.path("amount").asDouble()), null);
+                    }
+                }
+            } catch (IOException e) {
+                recorders.computeIfAbsent("io.error", n -> new LatencyRecorder()).record(0, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return recorders;
+    }
+
+    /**
+     * 요청 1건 (503, 또는 "잠시 후 다시 시도" 409는 간격을 늘리며 최대 MAX_CLIENT_RETRIES회 재시도)
+     * - 응답 시간은 재시도를 포함한 전체 시간
+     */
+    private Result call(Map<String, LatencyRecorder> recorders, boolean measuring, String operation,
+                        String method, String path, Map<String, Object> body, String idempotencyKey)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (idempotencyKey != null) {
+            builder.header("Idempotency-Key", idempotencyKey);
+        }
+        HttpRequest request = body == null
+                ? builder.GET().build()
+                : builder.method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))).build();
+
+        long startNanos = System.nanoTime();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        for (int attempt = 1; attempt <= MAX_CLIENT_RETRIES && isRetryable(response); attempt++) {
+            clientRetries.incrementAndGet();
+            Thread.sleep(50L << attempt);
+            response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        }
+        long latencyMicros = (System.nanoTime() - startNanos) / 1000;
+
+        if (measuring) {
+            recorders.computeIfAbsent(operation, n -> new LatencyRecorder()).record(latencyMicros, response.statusCode());
+        }
+        JsonNode data = null;
+        if (response.statusCode() / 100 == 2) {
+            JsonNode root = objectMapper.readTree(response.body());
+            data = root.hasNonNull("data") ? root.get("data") : null;
+        }
+        return new Result(response.statusCode(), data);
+    }
+
+    private boolean isRetryable(HttpResponse<byte[]> response) {
+        if (response.statusCode() == 503) {
+            return true;
+        }
+        return response.statusCode() == 409
+                && new String(response.body(), StandardCharsets.UTF_8).contains("잠시 후 다시 시도");
+    }
+
+    private void sampleSaturation() {
+        for (String name : SATURATION_GAUGES) {
+            double value = meterRegistry.find(name).gauges().stream().mapToDouble(Gauge::value).sum();
+            // [최대, 합계, 샘플 수]
+            double[] stats = saturation.computeIfAbsent(name, n -> new double[3]);
+            stats[0] = Math.max(stats[0], value);
+            stats[1] += value;
+            stats[2]++;
+        }
+    }
+
+    private Map<String, Double> snapshotCounters() {
+        Map<String, Double> snapshot = new LinkedHashMap<>();
+        for (String name : SERVER_COUNTERS) {
+            snapshot.put(name, meterRegistry.find(name).counters().stream().mapToDouble(Counter::count).sum());
+        }
+        return snapshot;
+    }
+
+    private void report(Map<String, LatencyRecorder> operations, Map<String, Double> counters, double seconds) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", clients);
+        report.put("durationSeconds", seconds);
+
+        System.out.println();
+        System.out.printf("%-20s %10s %10s %10s %10s %10s  %s%n", "operation", "count", "ops/s", "p50(ms)", "p99(ms)", "errors", "status");
+        Map<String, Object> operationReport = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyRecorder> entry : operations.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            double throughput = recorder.count() / seconds;
+            double p50 = recorder.percentileMillis(50);
+            double p99 = recorder.percentileMillis(99);
+            System.out.printf("%-20s %10d %10.1f %10.2f %10.2f %10d  %s%n",
+                    entry.getKey(), recorder.count(), throughput, p50, p99, recorder.errors(), recorder.statusCodes());
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("count", recorder.count());
+            values.put("throughputPerSecond", throughput);
+            values.put("p50Millis", p50);
+            values.put("p99Millis", p99);
+            values.put("errors", recorder.errors());
+            values.put("statusCodes", recorder.statusCodes());
+            operationReport.put(entry.getKey(), values);
+        }
+        report.put("operations", operationReport);
+
+        System.out.println();
+        System.out.printf("%-48s %12s%n", "retries / server counters", "count");
+        System.out.printf("%-48s %12d%n", "client.retries", clientRetries.get());
+        counters.forEach((name, value) -> System.out.printf("%-48s %12.0f%n", name, value));
+        Map<String, Object> retries = new LinkedHashMap<>();
+        retries.put("client.retries", clientRetries.get());
+        retries.putAll(counters);
+        report.put("counters", retries);
+
+        System.out.println();
+        System.out.printf("%-48s %12s %12s%n", "pool saturation", "max", "avg");
+        Map<String, Object> saturationReport = new LinkedHashMap<>();
+        saturation.forEach((name, stats) -> {
+            double avg = stats[2] > 0 ? stats[1] / stats[2] : 0;
+            System.out.printf("%-48s %12.0f %12.1f%n", name, stats[0], avg);
+            saturationReport.put(name, Map.of("max", stats[0], "avg", avg));
+        });
+        report.put("saturation", saturationReport);
+
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println();
+        System.out.println("결과 저장: " + reportFile.toAbsolutePath());
+    }
+
+    private record Result(int statusCode, JsonNode data) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.wiseai_dev.global;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +9,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
@@ -15,17 +17,22 @@ import java.util.Map;
 
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     /**
      * [예외 처리 기본 포맷]
      * ApiResponse.error(message) 로 통일
+     * 모든 응답은 api.exceptions 카운터(type = 예외 클래스, status = 응답 코드)에 집계
      */
 
     // 1. 잘못된 요청 파라미터
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException e) {
         log.warn("IllegalArgumentException 발생", e);
+        count(e, HttpStatus.BAD_REQUEST);
         return ResponseEntity
                 .badRequest()
                 .body(ApiResponse.error(e.getMessage()));
@@ -35,6 +42,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ApiResponse<Void>> handleIllegalState(IllegalStateException e) {
         log.warn("IllegalStateException 발생", e);
+        count(e, HttpStatus.CONFLICT);
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
                 .body(ApiResponse.error(e.getMessage()));
@@ -44,6 +52,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleValidation(MethodArgumentNotValidException e) {
         log.warn("Validation 실패", e);
+        count(e, HttpStatus.BAD_REQUEST);
 
         Map<String, String> errors = new HashMap<>();
         for (FieldError error : e.getBindingResult().getFieldErrors()) {
@@ -59,6 +68,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ApiResponse<Map<String, String>>> handleConstraintViolation(ConstraintViolationException e) {
         log.warn("ConstraintViolation 발생", e);
+        count(e, HttpStatus.BAD_REQUEST);
 
         Map<String, String> errors = new HashMap<>();
         e.getConstraintViolations().forEach(v ->
@@ -77,6 +87,7 @@ public class GlobalExceptionHandler {
     })
     public ResponseEntity<ApiResponse<Void>> handleOptimisticLock(Exception e) {
         log.warn("낙관적 락 충돌 발생", e);
+        count(e, HttpStatus.CONFLICT);
         return ResponseEntity
                 .status(HttpStatus.CONFLICT)
                 .body(ApiResponse.error("동시에 다른 사용자가 예약을 수정했습니다. 다시 시도해주세요."));
@@ -86,8 +97,15 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
         log.error("서버 내부 오류 발생", e);
+        count(e, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("서버 내부 오류가 발생했습니다."));
     }
+
+    private void count(Exception e, HttpStatus status) {
+        meterRegistry.counter("api.exceptions",
+                "type", e.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
+    }
 }
@@ -0,0 +1,71 @@
+package com.example.wiseai_dev.global.config;
+
+import com.example.wiseai_dev.global.metrics.RetryMetricsListener;
+import com.example.wiseai_dev.global.retry.ContentionTracker;
+import com.example.wiseai_dev.global.retry.DecorrelatedJitterBackOffPolicy;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.retry.interceptor.RetryInterceptorBuilder;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @Retryable 활성화
+ * - 재시도 advice가 트랜잭션 advice보다 바깥에서 동작하므로 재시도마다 새 트랜잭션으로 실행됨
+ * - 가상 스레드 모드의 JDBC 벌크헤드(LOWEST_PRECEDENCE - 1)보다도 바깥에 두어 backoff 동안 허가를 잡고 있지 않도록 함
+ */
+@Slf4j
+@Configuration
+@EnableRetry(order = Ordered.LOWEST_PRECEDENCE - 2)
+public class RetryConfig {
+
+    public static final String OPTIMISTIC_LOCK_RETRY = "optimisticLockRetryInterceptor";
+
+    /**
+     * 낙관적 락 충돌 공용 재시도 정책 (@Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY))
+     * - 커밋 시점 충돌(ObjectOptimisticLockingFailureException)과 JPA OptimisticLockException 모두 재시도
+     * - 기본은 지터 있는 지수 백오프, retry.optimistic-lock.jitter=false면 지터 없는 2배 지수 백오프
+     * - 지정 인터셉터를 쓰면 전역 RetryListener가 자동 적용되지 않으므로 지표/충돌 추적 리스너를 직접 연결
+     */
+    @Bean(OPTIMISTIC_LOCK_RETRY)
+    public RetryOperationsInterceptor optimisticLockRetryInterceptor(
+            @Value("${retry.optimistic-lock.max-attempts:4}") int maxAttempts,
+            @Value("${retry.optimistic-lock.initial-interval:20ms}") Duration initialInterval,
+            @Value("${retry.optimistic-lock.max-interval:500ms}") Duration maxInterval,
+            @Value("${retry.optimistic-lock.jitter:true}") boolean jitter,
+            RetryMetricsListener retryMetricsListener,
+            ContentionTracker contentionTracker) {
+
+        BackOffPolicy backOffPolicy;
+        if (jitter) {
+            backOffPolicy = new DecorrelatedJitterBackOffPolicy(initialInterval.toMillis(), maxInterval.toMillis());
+        } else {
+            ExponentialBackOffPolicy exponential = new ExponentialBackOffPolicy();
+            exponential.setInitialInterval(initialInterval.toMillis());
+            exponential.setMultiplier(2);
+            exponential.setMaxInterval(maxInterval.toMillis());
+            backOffPolicy = exponential;
+        }
+        log.info("낙관적 락 재시도 정책. maxAttempts: {}, interval: {} ~ {}, jitter: {}",
+                maxAttempts, initialInterval, maxInterval, jitter);
+
+        return RetryInterceptorBuilder.stateless()
+                .retryPolicy(new SimpleRetryPolicy(maxAttempts, Map.of(
+                        ObjectOptimisticLockingFailureException.class, true,
+                        OptimisticLockException.class, true), true))
+                .backOffPolicy(backOffPolicy)
+                .listeners(retryMetricsListener, contentionTracker)
+                .build();
+    }
+}
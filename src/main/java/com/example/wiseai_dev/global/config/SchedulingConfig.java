@@ -0,0 +1,12 @@
+package com.example.wiseai_dev.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 활성화 (만료 데이터 정리 등 주기 작업)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
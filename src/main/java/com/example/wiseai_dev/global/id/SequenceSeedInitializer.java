@@ -0,0 +1,70 @@
+package com.example.wiseai_dev.global.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시퀀스 ID 블록 시작값 보정 (예약/결제 ID가 IDENTITY였던 기존 MySQL 데이터베이스용)
+ * - MySQL은 시퀀스가 없어 Hibernate가 reservation_seq / payment_seq 테이블(next_val 한 행)로 대체하는데,
+ *   ddl-auto: update로 새로 만들어진 테이블은 1부터 시작해 기존 행과 PK가 겹침
+ * - 기동 시(스키마 갱신 직후, 요청 수신 전) next_val을 MAX(id) + 블록 크기 + 1 이상으로 올림 (낮추지는 않으므로 매번 실행해도 안전)
+ * - 실제 시퀀스를 쓰는 DB(H2 등)는 대상 아님
+ */
+@Slf4j
+@Component
+public class SequenceSeedInitializer {
+
+    // @SequenceGenerator allocationSize와 같은 값
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<Sequence> SEQUENCES = List.of(
+            new Sequence("reservation_seq", "reservations"),
+            new Sequence("payment_seq", "payments")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스키마 생성/갱신(EntityManagerFactory 초기화) 이후에 실행되도록 의존
+    public SequenceSeedInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void seed() {
+        if (!usesSequenceTables()) {
+            return;
+        }
+        for (Sequence sequence : SEQUENCES) {
+            try {
+                Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + sequence.table(), Long.class);
+                if (maxId == null) {
+                    continue;
+                }
+                long nextValue = maxId + ALLOCATION_SIZE + 1;
+                int updated = jdbcTemplate.update(
+                        "UPDATE " + sequence.name() + " SET next_val = ? WHERE next_val < ?", nextValue, nextValue);
+                if (updated > 0) {
+                    log.info("시퀀스 시작값 보정. sequence: {}, maxId: {}, nextVal: {}", sequence.name(), maxId, nextValue);
+                }
+            } catch (DataAccessException e) {
+                log.warn("시퀀스 시작값 보정 실패 - 직접 확인 필요. sequence: {}, error: {}", sequence.name(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean usesSequenceTables() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && (product.contains("MySQL") || product.contains("MariaDB"));
+    }
+
+    private record Sequence(String name, String table) {
+    }
+}
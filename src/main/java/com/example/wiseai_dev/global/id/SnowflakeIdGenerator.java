@@ -0,0 +1,101 @@
+package com.example.wiseai_dev.global.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 구분 + 시간 순 정렬 ID 생성기 (Snowflake 구조)
+ * - 64비트: [41비트 epoch 이후 밀리초][10비트 노드][12비트 밀리초 내 순번]
+ * - 락 없이 AtomicLong CAS 한 번으로 발급, 같은 밀리초에 4096개를 넘기면 다음 밀리초를 미리 사용 (시계가 뒤로 가도 단조 증가 유지)
+ * - 문자열은 Crockford Base32 13자리 고정 폭 → 문자열 정렬 순서 = 발급 순서
+ *   (uk_transaction_id 등 유니크 인덱스에 항상 끝쪽으로 삽입되어 B-tree 페이지 분할이 적음)
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeBits;
+    private final LongSupplier clock;
+    // (epoch 이후 밀리초 << SEQUENCE_BITS) | 순번
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(@Value("${id.generator.node-id:-1}") long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    // 시계 지정 (테스트에서 같은 밀리초 / 시계 역행 재현)
+    SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        this.clock = clock;
+        long resolved = nodeId >= 0 ? nodeId : deriveNodeId();
+        if (resolved > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + resolved);
+        }
+        this.nodeBits = resolved << SEQUENCE_BITS;
+        log.info("ID 생성기 초기화. nodeId: {}{}", resolved, nodeId >= 0 ? "" : " (호스트 이름에서 유도)");
+    }
+
+    /**
+     * 시간 순으로 증가하는 64비트 ID
+     */
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        long current;
+        long next;
+        do {
+            current = state.get();
+            long lastMillis = current >>> SEQUENCE_BITS;
+            next = now > lastMillis ? now << SEQUENCE_BITS : current + 1;
+        } while (!state.compareAndSet(current, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+    }
+
+    /**
+     * prefix + 13자리 Crockford Base32 ID (예: "TXN-0C8Y6R9ZK2H1M")
+     */
+    public String nextId(String prefix) {
+        long id = nextId();
+        int prefixLength = prefix.length();
+        char[] chars = new char[prefixLength + ENCODED_LENGTH];
+        prefix.getChars(0, prefixLength, chars, 0);
+        for (int i = chars.length - 1; i >= prefixLength; i--) {
+            chars[i] = CROCKFORD[(int) (id & 0x1F)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 노드 ID 미설정 시 호스트 이름 해시로 유도 (운영에서는 id.generator.node-id를 인스턴스마다 지정)
+     */
+    private static long deriveNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = String.valueOf(ProcessHandle.current().pid());
+        }
+        return (host.hashCode() & 0x7fffffffL) % (MAX_NODE_ID + 1);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.wiseai_dev.global.metrics;
+
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 타이머/카운터 outcome 태그 값 (예외 종류 → 고정된 몇 개 값으로 묶어 태그 카디널리티를 제한)
+ * - conflict 비율(중복 예약, 낙관적 락, 유니크 제약)을 하나의 태그로 알림 걸 수 있도록 함
+ */
+public final class MetricOutcomes {
+
+    public static final String SUCCESS = "success";
+    public static final String CONFLICT = "conflict";
+    public static final String REJECTED = "rejected";
+    public static final String TIMEOUT = "timeout";
+    public static final String ERROR = "error";
+
+    private MetricOutcomes() {
+    }
+
+    public static String of(Throwable error) {
+        if (error == null) {
+            return SUCCESS;
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IllegalStateException
+                || cause instanceof ObjectOptimisticLockingFailureException
+                || cause instanceof OptimisticLockException
+                || cause instanceof DataIntegrityViolationException) {
+            return CONFLICT;
+        }
+        if (cause instanceof IllegalArgumentException) {
+            return REJECTED;
+        }
+        if (cause instanceof TimeoutException) {
+            return TIMEOUT;
+        }
+        return ERROR;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.wiseai_dev.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * @Retryable 재시도 지표 (RetryConfig의 재시도 인터셉터 빈(OPTIMISTIC_LOCK_RETRY)에 리스너로 등록되어 적용)
+ * - retry.attempts: 실패한 시도 수 (method, exception) → 낙관적 락 충돌 빈도
+ * - retry.exhausted: 재시도까지 했는데도 결국 실패한 호출 수
+ * - retry.recovered: 재시도 끝에 성공한 호출 수
+ */
+@Component
+@RequiredArgsConstructor
+public class RetryMetricsListener implements RetryListener {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        meterRegistry.counter("retry.attempts",
+                "method", methodName(callback),
+                "exception", throwable.getClass().getSimpleName()).increment();
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        // 첫 시도에서 바로 실패(재시도 대상 아님)한 호출은 제외
+        if (throwable != null && context.getRetryCount() > 1) {
+            meterRegistry.counter("retry.exhausted",
+                    "method", methodName(callback),
+                    "exception", throwable.getClass().getSimpleName()).increment();
+        } else if (throwable == null && context.getRetryCount() > 0) {
+            meterRegistry.counter("retry.recovered", "method", methodName(callback)).increment();
+        }
+    }
+
+    private static String methodName(RetryCallback<?, ?> callback) {
+        if (callback instanceof MethodInvocationRetryCallback<?, ?> invocation) {
+            Method method = invocation.getInvocation().getMethod();
+            return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.wiseai_dev.global.retry;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 행 단위 낙관적 락 충돌 추적기
+ * - 재시도 인터셉터의 리스너로 등록되어 충돌한 행(엔티티 + id)을 기록
+ * - window 안에 hot-threshold번 이상 충돌한 행은 hot-duration 동안 "hot"으로 보고,
+ *   서비스는 그 행을 읽을 때 비관적 락(findByIdForUpdate)으로 전환해 재시도 폭주 대신 줄을 세움
+ * - 키는 "reservation:42"처럼 엔티티 이름(Entity 접미사 제외) + id
+ */
+@Slf4j
+@Component
+public class ContentionTracker implements RetryListener {
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final int hotThreshold;
+    private final long hotNanos;
+    private final Cache<String, Stats> rows;
+    private final MeterRegistry meterRegistry;
+
+    public ContentionTracker(@Value("${retry.contention.enabled:true}") boolean enabled,
+                             @Value("${retry.contention.window:10s}") Duration window,
+                             @Value("${retry.contention.hot-threshold:3}") int hotThreshold,
+                             @Value("${retry.contention.hot-duration:60s}") Duration hotDuration,
+                             @Value("${retry.contention.maximum-keys:10000}") long maximumKeys,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.hotThreshold = hotThreshold;
+        this.hotNanos = hotDuration.toNanos();
+        this.rows = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(window.plus(hotDuration))
+                .build();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("retry.contention.hot.keys", this, ContentionTracker::hotKeyCount).register(meterRegistry);
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        if (enabled && throwable instanceof ObjectOptimisticLockingFailureException e && e.getIdentifier() != null) {
+            recordConflict(entityName(e.getPersistentClassName()), e.getIdentifier());
+        }
+    }
+
+    /**
+     * 충돌 1건 기록
+     */
+    public void recordConflict(String entity, Object id) {
+        long now = System.nanoTime();
+        String key = key(entity, id);
+        Stats stats = rows.asMap().compute(key, (k, previous) -> {
+            Stats current = previous == null || now - previous.windowStart() > windowNanos
+                    ? new Stats(now, 0, previous != null ? previous.hotUntil() : 0)
+                    : previous;
+            int conflicts = current.conflicts() + 1;
+            long hotUntil = conflicts >= hotThreshold ? now + hotNanos : current.hotUntil();
+            return new Stats(current.windowStart(), conflicts, hotUntil);
+        });
+        meterRegistry.counter("retry.contention.conflicts", "entity", entity).increment();
+        if (stats.conflicts() == hotThreshold) {
+            log.info("충돌이 잦은 행 - 비관적 락으로 전환. key: {}, conflicts: {}", key, stats.conflicts());
+        }
+    }
+
+    /**
+     * 이 행을 비관적 락으로 읽어야 하는지 여부 (hot 상태면 true)
+     */
+    public boolean shouldLock(String entity, Object id) {
+        if (!enabled || id == null) {
+            return false;
+        }
+        Stats stats = rows.getIfPresent(key(entity, id));
+        boolean hot = stats != null && stats.hotUntil() - System.nanoTime() > 0;
+        if (hot) {
+            meterRegistry.counter("retry.contention.pessimistic", "entity", entity).increment();
+        }
+        return hot;
+    }
+
+    private long hotKeyCount() {
+        long now = System.nanoTime();
+        return rows.asMap().values().stream().filter(stats -> stats.hotUntil() - now > 0).count();
+    }
+
+    private static String key(String entity, Object id) {
+        return entity + ":" + id;
+    }
+
+    /**
+     * com.example...ReservationEntity → reservation
+     */
+    static String entityName(String persistentClassName) {
+        if (persistentClassName == null) {
+            return "unknown";
+        }
+        String simpleName = persistentClassName.substring(persistentClassName.lastIndexOf('.') + 1);
+        if (simpleName.endsWith("Entity") && simpleName.length() > "Entity".length()) {
+            simpleName = simpleName.substring(0, simpleName.length() - "Entity".length());
+        }
+        return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    }
+
+    private record Stats(long windowStart, int conflicts, long hotUntil) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.wiseai_dev.global.retry;
+
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지터 있는 지수 백오프 (decorrelated jitter)
+ * - 대기 = min(maxInterval, random(initialInterval, 직전 대기 * 3))
+ * - 같은 행에서 충돌한 요청들이 매번 같은 시각에 다시 부딪히지 않도록 재시도 시점을 흩뜨림
+ */
+public class DecorrelatedJitterBackOffPolicy implements BackOffPolicy {
+
+    private final long initialInterval;
+    private final long maxInterval;
+    private final Sleeper sleeper;
+
+    public DecorrelatedJitterBackOffPolicy(long initialInterval, long maxInterval) {
+        this(initialInterval, maxInterval, new ThreadWaitSleeper());
+    }
+
+    DecorrelatedJitterBackOffPolicy(long initialInterval, long maxInterval, Sleeper sleeper) {
+        if (initialInterval <= 0 || maxInterval < initialInterval) {
+            throw new IllegalArgumentException("0 < initialInterval <= maxInterval 이어야 합니다.");
+        }
+        this.initialInterval = initialInterval;
+        this.maxInterval = maxInterval;
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public BackOffContext start(RetryContext context) {
+        return new JitterContext(initialInterval);
+    }
+
+    @Override
+    public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+        JitterContext context = (JitterContext) backOffContext;
+        long upper = Math.min(maxInterval, context.previous * 3);
+        long sleep = upper > initialInterval
+                ? ThreadLocalRandom.current().nextLong(initialInterval, upper + 1)
+                : initialInterval;
+        context.previous = sleep;
+        try {
+            sleeper.sleep(sleep);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BackOffInterruptedException("재시도 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    private static final class JitterContext implements BackOffContext {
+        private long previous;
+
+        private JitterContext(long previous) {
+            this.previous = previous;
+        }
+    }
+}
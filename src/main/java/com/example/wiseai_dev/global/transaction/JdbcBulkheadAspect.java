@@ -0,0 +1,87 @@
+package com.example.wiseai_dev.global.transaction;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 모드 전용 JDBC 벌크헤드
+ * - 가상 스레드는 요청마다 만들어지므로 DB 커넥션 수보다 훨씬 많은 스레드가 동시에 트랜잭션에 진입할 수 있음
+ * - 커넥션 풀/드라이버 내부의 synchronized 구간에서 기다리면 캐리어 스레드가 고정(pinning)되므로,
+ *   트랜잭션 진입 전에 Semaphore(가상 스레드 친화적인 대기)로 동시 진입 수를 커넥션 풀 크기로 제한
+ * - 재시도(@Retryable) advice 안쪽, 트랜잭션 advice 바깥에서 동작 → 재시도 backoff 동안에는 허가를 반납
+ * - 같은 스레드의 중첩 트랜잭션 호출은 허가를 다시 얻지 않음
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class JdbcBulkheadAspect {
+
+    private static final ThreadLocal<Boolean> HOLDING = ThreadLocal.withInitial(() -> false);
+
+    private final Semaphore permits;
+    private final Duration waitTimeout;
+
+    public JdbcBulkheadAspect(@Value("${jdbc.bulkhead.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int permits,
+                              @Value("${jdbc.bulkhead.wait-timeout:3s}") Duration waitTimeout) {
+        this.permits = new Semaphore(permits, true);
+        this.waitTimeout = waitTimeout;
+        log.info("JDBC 벌크헤드 활성화. permits: {}, waitTimeout: {}", permits, waitTimeout);
+    }
+
+    @Around("within(com.example.wiseai_dev..*) && "
+            + "(@within(org.springframework.transaction.annotation.Transactional) "
+            + "|| @annotation(org.springframework.transaction.annotation.Transactional))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (HOLDING.get() || runsWithoutTransaction(joinPoint)) {
+            return joinPoint.proceed();
+        }
+        if (!permits.tryAcquire(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("JDBC 벌크헤드 대기 시간 초과. method: {}", joinPoint.getSignature().toShortString());
+            throw new IllegalStateException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        HOLDING.set(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            HOLDING.remove();
+            permits.release();
+        }
+    }
+
+    /**
+     * NOT_SUPPORTED / NEVER 메서드는 커넥션을 잡지 않으므로 제한하지 않음
+     * (예: PG 응답을 기다리는 결제 요청이 허가를 점유하지 않도록)
+     */
+    private boolean runsWithoutTransaction(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(specificMethod, Transactional.class);
+        if (transactional == null) {
+            transactional = AnnotatedElementUtils.findMergedAnnotation(targetClass, Transactional.class);
+        }
+        return transactional != null
+                && (transactional.propagation() == Propagation.NOT_SUPPORTED
+                || transactional.propagation() == Propagation.NEVER);
+    }
+}
@@ -2,13 +2,16 @@ package com.example.wiseai_dev.meetingRoom.application.api.controller;
 
 import com.example.wiseai_dev.meetingRoom.application.api.dto.MeetingRoomRequest;
 import com.example.wiseai_dev.meetingRoom.application.api.dto.MeetingRoomResponse;
+import com.example.wiseai_dev.meetingRoom.application.api.dto.RoomAvailabilityResponse;
 
 import com.example.wiseai_dev.meetingRoom.application.service.MeetingRoomService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -30,6 +33,19 @@ public class MeetingRoomController {
         return ResponseEntity.ok(meetingRooms);
     }
 
+    /**
+     * 기간 내 회의실별 예약 가능 시간대 (30분 단위)
+     * 예) GET /meeting-rooms/availability?from=2025-09-01&to=2025-09-07&minCapacity=6
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<List<RoomAvailabilityResponse>> getAvailability(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "1") int minCapacity) {
+        List<RoomAvailabilityResponse> availability = meetingRoomService.findAvailability(from, to, minCapacity);
+        return ResponseEntity.ok(availability);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MeetingRoomResponse> getMeetingRoomById(@PathVariable Long id) {
         MeetingRoomResponse meetingRoom = meetingRoomService.findMeetingRoomById(id);
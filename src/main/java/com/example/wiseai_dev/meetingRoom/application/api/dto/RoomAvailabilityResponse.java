@@ -0,0 +1,48 @@
+package com.example.wiseai_dev.meetingRoom.application.api.dto;
+
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class RoomAvailabilityResponse {
+    @Schema(description = "회의실 ID", example = "1")
+    private Long meetingRoomId;
+
+    @Schema(description = "회의실 이름", example = "회의실 A")
+    private String name;
+
+    @Schema(description = "수용 인원", example = "10")
+    private int capacity;
+
+    @Schema(description = "시간당 요금", example = "50000")
+    private double hourlyRate;
+
+    @Schema(description = "예약 가능한 시간대 (30분 단위, 연속 구간은 하나로 병합)")
+    private List<FreeSlot> freeSlots;
+
+    public static RoomAvailabilityResponse of(MeetingRoom meetingRoom, List<FreeSlot> freeSlots) {
+        return new RoomAvailabilityResponse(
+                meetingRoom.getId(),
+                meetingRoom.getName(),
+                meetingRoom.getCapacity(),
+                meetingRoom.getHourlyRate(),
+                freeSlots
+        );
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FreeSlot {
+        @Schema(description = "시작 시각", example = "2025-09-02T09:00:00")
+        private LocalDateTime startTime;
+
+        @Schema(description = "종료 시각", example = "2025-09-02T10:30:00")
+        private LocalDateTime endTime;
+    }
+}
@@ -2,19 +2,32 @@ package com.example.wiseai_dev.meetingRoom.application.service;
 
 import com.example.wiseai_dev.meetingRoom.application.api.dto.MeetingRoomRequest;
 import com.example.wiseai_dev.meetingRoom.application.api.dto.MeetingRoomResponse;
+import com.example.wiseai_dev.meetingRoom.application.api.dto.RoomAvailabilityResponse;
+import com.example.wiseai_dev.meetingRoom.application.api.dto.RoomAvailabilityResponse.FreeSlot;
 import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
 import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class MeetingRoomService {
 
+    // 가용 시간 조회 최대 기간 (일)
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+
     private final MeetingRoomRepository meetingRoomRepository;
+    private final ReservationRepository reservationRepository;
 
     /**
      * 회의실 생성
@@ -50,4 +63,77 @@ public class MeetingRoomService {
                 .map(MeetingRoomResponse::fromDomain)
                 .toList();
     }
+
+    /**
+     * 회의실별 예약 가능 시간대 조회
+     * - 수용 인원 조건에 맞는 회의실들의 활성 예약을 한 번의 범위 쿼리로 읽어 30분 슬롯 단위로 계산
+     * - 이미 지난 슬롯은 제외하고, 이어지는 빈 슬롯은 하나의 구간으로 병합
+     */
+    @Transactional(readOnly = true)
+    public List<RoomAvailabilityResponse> findAvailability(LocalDate from, LocalDate to, int minCapacity) {
+        validateAvailabilityRange(from, to, minCapacity);
+
+        List<MeetingRoom> meetingRooms = meetingRoomRepository.findByMinCapacity(minCapacity);
+        if (meetingRooms.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, long[]> occupiedSlots = reservationRepository.findOccupiedSlots(
+                meetingRooms.stream().map(MeetingRoom::getId).toList(), from, to);
+
+        LocalDateTime now = LocalDateTime.now();
+        return meetingRooms.stream()
+                .map(room -> RoomAvailabilityResponse.of(room, toFreeSlots(occupiedSlots.get(room.getId()), from, now)))
+                .toList();
+    }
+
+    private void validateAvailabilityRange(LocalDate from, LocalDate to, int minCapacity) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_AVAILABILITY_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_AVAILABILITY_DAYS + "일입니다.");
+        }
+        if (minCapacity < 1) {
+            throw new IllegalArgumentException("수용 인원은 최소 1명 이상이어야 합니다.");
+        }
+    }
+
+    /**
+     * 일자별 점유 비트맵 → 빈 시간 구간 목록
+     */
+    private List<FreeSlot> toFreeSlots(long[] occupiedDays, LocalDate from, LocalDateTime now) {
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        LocalDate today = now.toLocalDate();
+        int passedSlots = (now.getHour() * 60 + now.getMinute() + ReservationSlots.SLOT_MINUTES - 1)
+                / ReservationSlots.SLOT_MINUTES;
+
+        for (int i = 0; i < occupiedDays.length; i++) {
+            LocalDate day = from.plusDays(i);
+            if (day.isBefore(today)) {
+                continue;
+            }
+            long free = ~occupiedDays[i] & ReservationSlots.FULL_DAY;
+            if (day.isEqual(today)) {
+                free &= ~ReservationSlots.rangeMask(0, passedSlots);
+            }
+
+            while (free != 0) {
+                int startSlot = Long.numberOfTrailingZeros(free);
+                int endSlot = startSlot + Long.numberOfTrailingZeros(~(free >>> startSlot));
+                free &= ~ReservationSlots.rangeMask(startSlot, endSlot);
+
+                LocalDateTime startTime = ReservationSlots.slotStart(day, startSlot);
+                LocalDateTime endTime = ReservationSlots.slotStart(day, endSlot);
+                int last = freeSlots.size() - 1;
+                if (last >= 0 && freeSlots.get(last).getEndTime().isEqual(startTime)) {
+                    // 자정을 넘어 이어지는 구간은 병합
+                    freeSlots.set(last, new FreeSlot(freeSlots.get(last).getStartTime(), endTime));
+                } else {
+                    freeSlots.add(new FreeSlot(startTime, endTime));
+                }
+            }
+        }
+        return freeSlots;
+    }
 }
@@ -3,12 +3,20 @@ import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
 import org.springframework.stereotype.Component;
 
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MeetingRoomRepository {
     MeetingRoom save(MeetingRoom meetingRoom);
     List<MeetingRoom> findAll();
     Optional<MeetingRoom> findById(Long id);
+
+    /**
+     * 존재하는 회의실만 id → 회의실로 반환 (IN 조회 한 번)
+     */
+    Map<Long, MeetingRoom> findAllByIds(Collection<Long> ids);
+    List<MeetingRoom> findByMinCapacity(int minCapacity);
     void deleteById(Long id);
 }
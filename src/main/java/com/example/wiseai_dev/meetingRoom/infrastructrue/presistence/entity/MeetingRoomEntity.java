@@ -7,7 +7,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "meeting_rooms")
+@Table(
+        name = "meeting_rooms",
+        indexes = @Index(name = "idx_meetingroom_capacity", columnList = "capacity")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -3,5 +3,9 @@ package com.example.wiseai_dev.meetingRoom.infrastructrue.presistence.jpa;
 import com.example.wiseai_dev.meetingRoom.infrastructrue.presistence.entity.MeetingRoomEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface MeetingRoomJpaRepository extends JpaRepository<MeetingRoomEntity, Long> {
+
+    List<MeetingRoomEntity> findByCapacityGreaterThanEqualOrderByIdAsc(int capacity);
 }
@@ -0,0 +1,111 @@
+package com.example.wiseai_dev.meetingRoom.infrastructrue.presistence.repository;
+
+import com.example.wiseai_dev.global.transaction.TransactionCallbacks;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 회의실 read-through 캐시 (기본 구현 MeetingRoomRepositoryImpl을 감싸서 사용)
+ * - id별 캐시(크기 제한) + 전체 회의실 스냅샷(id 정렬 불변 리스트)
+ * - 예약 생성/수정 시 요금 계산용 회의실 조회, 회의실 목록/가용성 조회가 DB를 거치지 않음
+ * - MeetingRoom은 불변 객체이므로 캐시된 인스턴스를 그대로 공유
+ * - 저장/삭제는 커밋 이후 캐시에 반영 (id 캐시 갱신 + 스냅샷 무효화), 다른 인스턴스의 변경은 expire-after-write로 수렴
+ * - 지표: cache.gets{cache=meetingRoom.byId|meetingRoom.all, result=hit|miss}, cache.evictions 등
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "meeting-room.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingMeetingRoomRepository implements MeetingRoomRepository {
+
+    private static final String ALL_ROOMS = "all";
+
+    private final MeetingRoomRepositoryImpl delegate;
+    private final Cache<Long, MeetingRoom> byId;
+    private final Cache<String, List<MeetingRoom>> allRooms;
+
+    public CachingMeetingRoomRepository(MeetingRoomRepositoryImpl delegate,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${meeting-room.cache.maximum-size:1000}") long maximumSize,
+                                        @Value("${meeting-room.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        this.allRooms = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "meetingRoom.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, allRooms, "meetingRoom.all");
+    }
+
+    @Override
+    public MeetingRoom save(MeetingRoom meetingRoom) {
+        MeetingRoom saved = delegate.save(meetingRoom);
+        TransactionCallbacks.afterCommit(() -> {
+            byId.put(saved.getId(), saved);
+            allRooms.invalidateAll();
+        });
+        return saved;
+    }
+
+    @Override
+    public List<MeetingRoom> findAll() {
+        return allRooms.get(ALL_ROOMS, key -> delegate.findAll().stream()
+                .sorted(Comparator.comparing(MeetingRoom::getId))
+                .toList());
+    }
+
+    /**
+     * 없는 id는 캐시하지 않음 (Caffeine은 null을 저장하지 않음)
+     */
+    @Override
+    public Optional<MeetingRoom> findById(Long id) {
+        return Optional.ofNullable(byId.get(id, key -> delegate.findById(key).orElse(null)));
+    }
+
+    /**
+     * 캐시에 없는 id만 모아 한 번에 조회 (없는 id는 캐시하지 않고 결과에서 빠짐)
+     */
+    @Override
+    public Map<Long, MeetingRoom> findAllByIds(Collection<Long> ids) {
+        return byId.getAll(ids, missing -> delegate.findAllByIds(List.copyOf(missing)));
+    }
+
+    /**
+     * 전체 스냅샷에서 필터링 (id 오름차순 유지)
+     */
+    @Override
+    public List<MeetingRoom> findByMinCapacity(int minCapacity) {
+        return findAll().stream()
+                .filter(meetingRoom -> meetingRoom.getCapacity() >= minCapacity)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        TransactionCallbacks.afterCommit(() -> {
+            byId.invalidate(id);
+            allRooms.invalidateAll();
+        });
+    }
+}
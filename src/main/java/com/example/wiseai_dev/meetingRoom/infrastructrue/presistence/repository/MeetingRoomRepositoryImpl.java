@@ -7,8 +7,11 @@ import com.example.wiseai_dev.meetingRoom.infrastructrue.presistence.jpa.Meeting
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
@@ -36,6 +39,13 @@ public class MeetingRoomRepositoryImpl implements MeetingRoomRepository {
         return entity.map(this::toDomainModel);
     }
 
+    @Override
+    public Map<Long, MeetingRoom> findAllByIds(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids).stream()
+                .map(this::toDomainModel)
+                .collect(Collectors.toMap(MeetingRoom::getId, Function.identity()));
+    }
+
     @Override
     public List<MeetingRoom> findAll() {
         List<MeetingRoomEntity> entities = jpaRepository.findAll();
@@ -45,6 +55,13 @@ public class MeetingRoomRepositoryImpl implements MeetingRoomRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<MeetingRoom> findByMinCapacity(int minCapacity) {
+        return jpaRepository.findByCapacityGreaterThanEqualOrderByIdAsc(minCapacity).stream()
+                .map(this::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
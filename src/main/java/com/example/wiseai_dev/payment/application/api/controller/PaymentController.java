@@ -3,32 +3,40 @@ package com.example.wiseai_dev.payment.application.api.controller;
 import com.example.wiseai_dev.global.ApiResponse;
 import com.example.wiseai_dev.payment.application.api.dto.PaymentRequest;
 import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.application.service.PaymentIdempotencyService;
 import com.example.wiseai_dev.payment.application.service.PaymentService;
 import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/reservations")
 @RequiredArgsConstructor
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final PaymentIdempotencyService paymentIdempotencyService;
 
     @Operation(summary = "예약 결제 처리")
     @PostMapping("/{id}/payment")
-    public ResponseEntity<ApiResponse<PaymentResponse>> processPayment(
+    public CompletableFuture<ResponseEntity<ApiResponse<PaymentResponse>>> processPayment(
             @PathVariable("id") Long reservationId,
+            @Parameter(description = "중복 결제 방지 키 (같은 키의 재요청은 처음 결과를 그대로 응답)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody PaymentRequest request) {
 
-        PaymentResponse response = paymentService.processReservationPayment(
+        // PG 응답을 기다리는 동안 요청 스레드를 점유하지 않도록 비동기로 반환
+        return paymentIdempotencyService.execute(
+                idempotencyKey,
                 reservationId,
-                request.getPaymentProviderName()
-        );
-
-        return ResponseEntity.ok(ApiResponse.ok(response));
+                request.getPaymentProviderName(),
+                () -> paymentService.processReservationPaymentAsync(reservationId, request.getPaymentProviderName())
+        ).thenApply(response -> ResponseEntity.ok(ApiResponse.ok(response)));
     }
 
     @Operation(summary = "결제 상태 조회")
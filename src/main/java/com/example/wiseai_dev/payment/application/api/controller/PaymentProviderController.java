@@ -0,0 +1,38 @@
+package com.example.wiseai_dev.payment.application.api.controller;
+
+import com.example.wiseai_dev.global.ApiResponse;
+import com.example.wiseai_dev.payment.application.service.PaymentProviderRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collection;
+import java.util.List;
+
+@RestController
+@RequestMapping("/payment-providers")
+@RequiredArgsConstructor
+public class PaymentProviderController {
+
+    private final PaymentProviderRegistry paymentProviderRegistry;
+
+    @Operation(summary = "등록된 결제사 목록")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<String>>> getProviders() {
+        return ResponseEntity.ok(ApiResponse.ok(providerNames(paymentProviderRegistry.getAll())));
+    }
+
+    @Operation(summary = "결제사 레지스트리 갱신 (결제사 정보 변경 후 호출)")
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<List<String>>> refresh() {
+        return ResponseEntity.ok(ApiResponse.ok(providerNames(paymentProviderRegistry.refresh())));
+    }
+
+    private List<String> providerNames(Collection<PaymentProviderRegistry.Registration> registrations) {
+        return registrations.stream()
+                .map(registration -> registration.getProvider().getName())
+                .sorted()
+                .toList();
+    }
+}
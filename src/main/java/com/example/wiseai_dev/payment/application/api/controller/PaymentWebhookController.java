@@ -2,12 +2,13 @@ package com.example.wiseai_dev.payment.application.api.controller;
 
 import com.example.wiseai_dev.global.ApiResponse;
 import com.example.wiseai_dev.payment.application.api.dto.ProviderPayload;
-import com.example.wiseai_dev.payment.application.service.PaymentService;
+import com.example.wiseai_dev.payment.application.service.PaymentWebhookQueue;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -16,11 +17,12 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class PaymentWebhookController {
 
-    private final PaymentService paymentService;
+    private final PaymentWebhookQueue paymentWebhookQueue;
 
     @Operation(
             summary = "PG사 Webhook 수신",
-            description = "PG사(Card, Simple, VirtualAccount 등)에서 결제 결과를 서버로 전송하는 Webhook 엔드포인트입니다.",
+            description = "PG사(Card, Simple, VirtualAccount 등)에서 결제 결과를 서버로 전송하는 Webhook 엔드포인트입니다. "
+                    + "수신 즉시 202로 응답하고 결과는 배치로 반영됩니다. 503이면 잠시 후 재전송해야 합니다.",
             requestBody = @RequestBody(
                     required = true,
                     description = "PG사 Webhook에서 전달하는 결제 결과 데이터",
@@ -47,7 +49,10 @@ public class PaymentWebhookController {
             @PathVariable("provider") String provider,
             @org.springframework.web.bind.annotation.RequestBody ProviderPayload payload) {
 
-        paymentService.handleWebhook(provider, payload);
-        return ResponseEntity.ok(ApiResponse.ok(null));
+        if (!paymentWebhookQueue.enqueue(provider, payload)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(ApiResponse.error("웹훅을 접수할 수 없습니다. 잠시 후 다시 전송해주세요."));
+        }
+        return ResponseEntity.accepted().body(ApiResponse.ok(null));
     }
 }
@@ -6,9 +6,11 @@ import com.example.wiseai_dev.reservation.domain.model.Reservation;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @Builder
+@Jacksonized
 @Schema(description = "결제 응답 DTO")
 public class PaymentResponse {
 
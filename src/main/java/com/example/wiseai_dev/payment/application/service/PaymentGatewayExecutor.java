@@ -0,0 +1,129 @@
+package com.example.wiseai_dev.payment.application.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PG 호출 전용 실행기
+ * - PG 호출은 트랜잭션/DB 커넥션 없이 이 실행기에서만 실행
+ * - 플랫폼 스레드 모드: 고정 크기 풀 + 대기열, 둘 다 차면 즉시 거절해 PG 지연이 요청 스레드 전체로 번지지 않도록 함
+ * - 가상 스레드 모드: 호출마다 가상 스레드 하나, 동시 호출 수만 pool-size로 제한 (초과 시 제출 측이 대기)
+ * - PG 응답 이후 결과 반영은 별도 실행기에서 실행 (PG 호출 슬롯/대기열을 쓰지 않음)
+ *   → 끝난 PG 호출 스레드가 자기 슬롯을 쥔 채 같은 실행기에 제출하며 서로를 기다리는 교착 방지
+ * - Executor 빈으로 등록하지 않음 (스프링 기본 applicationTaskExecutor 자동 구성을 가리지 않도록)
+ * - 포화도 지표: payment.gateway.executor.active(실행 중), payment.gateway.executor.queued(대기열, 플랫폼 스레드 모드만)
+ */
+@Slf4j
+@Component
+public class PaymentGatewayExecutor {
+
+    private final ThreadPoolTaskExecutor threadPool;
+    private final SimpleAsyncTaskExecutor virtualThreads;
+    private final ThreadPoolTaskExecutor completionThreadPool;
+    private final SimpleAsyncTaskExecutor completionVirtualThreads;
+
+    @Getter
+    private final Duration timeout;
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    public PaymentGatewayExecutor(@Value("${payment.gateway.pool-size:16}") int poolSize,
+                                  @Value("${payment.gateway.queue-capacity:200}") int queueCapacity,
+                                  @Value("${payment.gateway.timeout:5s}") Duration timeout,
+                                  @Value("${payment.gateway.virtual-threads:${spring.threads.virtual.enabled:false}}") boolean useVirtualThreads,
+                                  MeterRegistry meterRegistry) {
+        if (useVirtualThreads) {
+            this.threadPool = null;
+            this.virtualThreads = new SimpleAsyncTaskExecutor("payment-gateway-");
+            this.virtualThreads.setVirtualThreads(true);
+            this.virtualThreads.setConcurrencyLimit(poolSize);
+            this.virtualThreads.setTaskDecorator(this::trackActive);
+            // 결과 반영은 동시 실행 제한 없음 (제출 측이 막히지 않도록)
+            this.completionThreadPool = null;
+            this.completionVirtualThreads = new SimpleAsyncTaskExecutor("payment-completion-");
+            this.completionVirtualThreads.setVirtualThreads(true);
+            log.info("PG 호출 실행기 - 가상 스레드 모드. 동시 호출 제한: {}", poolSize);
+        } else {
+            this.virtualThreads = null;
+            this.threadPool = new ThreadPoolTaskExecutor();
+            this.threadPool.setCorePoolSize(poolSize);
+            this.threadPool.setMaxPoolSize(poolSize);
+            this.threadPool.setQueueCapacity(queueCapacity);
+            this.threadPool.setThreadNamePrefix("payment-gateway-");
+            this.threadPool.setTaskDecorator(this::trackActive);
+            this.threadPool.initialize();
+            // 결과 반영 전용 풀 (대기열 제한 없음 - 이미 받은 PG 결과를 거절하지 않음)
+            this.completionVirtualThreads = null;
+            this.completionThreadPool = new ThreadPoolTaskExecutor();
+            this.completionThreadPool.setCorePoolSize(poolSize);
+            this.completionThreadPool.setMaxPoolSize(poolSize);
+            this.completionThreadPool.setThreadNamePrefix("payment-completion-");
+            this.completionThreadPool.initialize();
+        }
+        this.timeout = timeout;
+
+        Gauge.builder("payment.gateway.executor.active", active, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("payment.gateway.executor.queued", this,
+                        executor -> executor.threadPool != null ? executor.threadPool.getThreadPoolExecutor().getQueue().size() : 0)
+                .register(meterRegistry);
+    }
+
+    public Executor executor() {
+        return threadPool != null ? threadPool : virtualThreads;
+    }
+
+    /**
+     * PG 응답 이후 결과 반영 단계용 실행기 (PG 호출 실행기와 분리)
+     * - 종료 중이라 거절되면 완료시킨 스레드에서 바로 실행 (이미 받은 PG 결과를 거절로 잃지 않도록)
+     */
+    public Executor completionExecutor() {
+        Executor executor = completionThreadPool != null ? completionThreadPool : completionVirtualThreads;
+        return task -> {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.run();
+            }
+        };
+    }
+
+    private Runnable trackActive(Runnable task) {
+        return () -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (threadPool != null) {
+            threadPool.shutdown();
+        }
+        if (virtualThreads != null) {
+            virtualThreads.close();
+        }
+        if (completionThreadPool != null) {
+            completionThreadPool.shutdown();
+        }
+        if (completionVirtualThreads != null) {
+            completionVirtualThreads.close();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.wiseai_dev.payment.application.service;
+
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.domain.model.PaymentResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 결과(PG 응답 / PG 오류) 반영 그룹 커밋
+ * - payment.group-commit.enabled=false(기본): 요청마다 PaymentTransactionService.complete / fail 트랜잭션 하나
+ * - 켜면 여러 요청의 결과 반영을 최대 max-wait 동안 최대 batch-size건 모아 트랜잭션 하나로 처리
+ *   (결제/예약 UPDATE는 JDBC 배치, 커밋 = fsync 1회) → 동시 결제가 많을 때 커밋 처리량 증가
+ * - 각 요청의 future는 그 트랜잭션이 커밋된 뒤에 완료되므로 응답을 받은 결과는 건별 처리와 똑같이 영속화되어 있음
+ * - 커밋 스레드에서 처리한 요청의 future는 결과 반영 실행기에서 완료
+ *   (호출 측 후속 단계 - 멱등 키 결과 기록, single-flight 정리 등 - 가 커밋 스레드에서 건마다 실행되지 않도록)
+ * - 그룹 트랜잭션이 실패하면(낙관적 락 충돌, 없는 결제 등) 그룹 전체가 롤백되고 건별 트랜잭션(재시도 포함)으로 다시 처리
+ */
+@Slf4j
+@Component
+public class PaymentGroupCommitter {
+
+    private final PaymentTransactionService paymentTransactionService;
+    private final TransactionTemplate transaction;
+    private final Executor completionExecutor;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration maxWait;
+    private final BlockingQueue<Transition> queue;
+
+    private final DistributionSummary groupSizes;
+    private final Counter fallbacks;
+
+    private Thread worker;
+
+    public PaymentGroupCommitter(PaymentTransactionService paymentTransactionService,
+                                 PlatformTransactionManager transactionManager,
+                                 PaymentGatewayExecutor paymentGatewayExecutor,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${payment.group-commit.enabled:false}") boolean enabled,
+                                 @Value("${payment.group-commit.queue-capacity:1000}") int queueCapacity,
+                                 @Value("${payment.group-commit.batch-size:64}") int batchSize,
+                                 @Value("${payment.group-commit.max-wait:5ms}") Duration maxWait) {
+        this.paymentTransactionService = paymentTransactionService;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.completionExecutor = paymentGatewayExecutor.completionExecutor();
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxWait = maxWait;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.groupSizes = DistributionSummary.builder("payment.group-commit.size").register(meterRegistry);
+        this.fallbacks = Counter.builder("payment.group-commit.fallback").register(meterRegistry);
+        Gauge.builder("payment.group-commit.queue.size", queue, Collection::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        worker = new Thread(this::run, "payment-group-commit");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        // 남은 요청은 호출 스레드 대신 여기서 건별 처리 (결과를 기다리는 요청이 있으므로 버리지 않음)
+        List<Transition> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(this::applyAlone);
+    }
+
+    /**
+     * PG 응답 반영 (future는 커밋 후 완료)
+     */
+    public CompletableFuture<PaymentResponse> complete(Long paymentId, PaymentResult paymentResult) {
+        return submit(new Transition(paymentId, paymentResult, null));
+    }
+
+    /**
+     * PG 오류 시 결제 실패 반영 (future는 커밋 후 완료)
+     */
+    public CompletableFuture<Void> fail(Long paymentId, String reason) {
+        return submit(new Transition(paymentId, null, reason)).thenAccept(response -> {
+        });
+    }
+
+    private CompletableFuture<PaymentResponse> submit(Transition transition) {
+        // 꺼져 있거나 대기열이 가득 차면 호출 스레드에서 바로 건별 처리
+        if (!enabled || !queue.offer(transition)) {
+            applyAlone(transition);
+        }
+        return transition.result;
+    }
+
+    private void run() {
+        List<Transition> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                collect(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("결제 결과 그룹 커밋 중 예기치 못한 오류", e);
+                batch.stream().filter(transition -> !transition.settled).forEach(transition -> settle(transition, null, e));
+            } finally {
+                // 인터럽트로 반영하지 못한 요청은 stop()과 같은 방식으로 건별 처리
+                batch.stream().filter(transition -> !transition.settled).forEach(this::applyAlone);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 요청 이후 max-wait 동안 batch-size건까지 더 모음
+     */
+    private void collect(List<Transition> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWait.toNanos();
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            Transition next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<Transition> batch) {
+        groupSizes.record(batch.size());
+
+        List<PaymentResponse> responses;
+        try {
+            responses = transaction.execute(status -> {
+                List<PaymentResponse> applied = new ArrayList<>(batch.size());
+                for (Transition transition : batch) {
+                    applied.add(transition.apply(paymentTransactionService));
+                }
+                return applied;
+            });
+        } catch (RuntimeException e) {
+            log.warn("결제 결과 그룹 커밋 실패 - 건별 처리로 전환. transitions: {}, error: {}", batch.size(), e.getMessage());
+            fallbacks.increment();
+            batch.forEach(this::applyAlone);
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            settle(batch.get(i), responses.get(i), null);
+        }
+    }
+
+    /**
+     * 건별 처리 (요청마다 트랜잭션 하나, 낙관적 락 재시도 포함)
+     */
+    private void applyAlone(Transition transition) {
+        PaymentResponse response = null;
+        try {
+            if (transition.paymentResult != null) {
+                response = paymentTransactionService.complete(transition.paymentId, transition.paymentResult);
+            } else {
+                paymentTransactionService.fail(transition.paymentId, transition.failureReason);
+            }
+        } catch (RuntimeException e) {
+            settle(transition, null, e);
+            return;
+        }
+        settle(transition, response, null);
+    }
+
+    /**
+     * 요청 future 완료 (커밋 스레드에서는 결과 반영 실행기로 넘기고, 호출 스레드에서 건별 처리했으면 그 자리에서)
+     */
+    private void settle(Transition transition, PaymentResponse response, Throwable error) {
+        transition.settled = true;
+        if (Thread.currentThread() == worker) {
+            completionExecutor.execute(() -> transition.complete(response, error));
+        } else {
+            transition.complete(response, error);
+        }
+    }
+
+    /**
+     * 결제 한 건의 상태 전이 (PG 응답 반영 또는 실패 반영)
+     */
+    private static final class Transition {
+
+        private final Long paymentId;
+        private final PaymentResult paymentResult;
+        private final String failureReason;
+        private final CompletableFuture<PaymentResponse> result = new CompletableFuture<>();
+        // 반영 결과가 정해짐 (future 완료는 결과 반영 실행기에서 조금 늦을 수 있음)
+        private boolean settled;
+
+        private Transition(Long paymentId, PaymentResult paymentResult, String failureReason) {
+            this.paymentId = paymentId;
+            this.paymentResult = paymentResult;
+            this.failureReason = failureReason;
+        }
+
+        private PaymentResponse apply(PaymentTransactionService paymentTransactionService) {
+            if (paymentResult != null) {
+                return paymentTransactionService.applyResult(paymentId, paymentResult);
+            }
+            paymentTransactionService.applyFailure(paymentId, failureReason);
+            return null;
+        }
+
+        private void complete(PaymentResponse response, Throwable error) {
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(response);
+            }
+        }
+    }
+}
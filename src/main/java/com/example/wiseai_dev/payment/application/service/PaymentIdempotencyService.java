@@ -0,0 +1,264 @@
+package com.example.wiseai_dev.payment.application.service;
+
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.domain.model.IdempotencyKey;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+import com.example.wiseai_dev.payment.domain.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 결제 요청 Idempotency-Key 처리
+ * - 메모리: 키 → 진행 중/완료된 결과(CompletableFuture), memory-ttl 동안 보관
+ *   ConcurrentHashMap의 버킷 단위 잠금으로 같은 키끼리만 경합하고, 동시 중복 요청은 진행 중인 결과를 함께 기다림
+ * - 완료된 키의 재요청은 메모리에서 바로 재응답 (DB/PG 접근 없음)
+ * - DB(idempotency_keys): 재기동/다른 인스턴스 대비, 메모리에 없을 때만 조회하고 ttl 동안 보관
+ * - 실패한 요청(결과 기록 실패 포함)은 키를 풀어 같은 키로 다시 시도할 수 있게 함 (중복 결제는 uk_reservation_id가 계속 막음)
+ * - 선점은 만료된 기록만 지운 뒤 INSERT, 인스턴스 간 경합은 PK 위반으로 한쪽만 성공
+ * - PG 응답 지연으로 PENDING인 응답은 최종 결과가 아니므로 재응답 때 현재 결제 상태를 다시 읽고,
+ *   최종 상태(SUCCESS / FAILED 등)가 되면 그 응답으로 기록을 갱신
+ */
+@Slf4j
+@Service
+public class PaymentIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final PaymentTransactionService paymentTransactionService;
+    private final ObjectMapper objectMapper;
+    private final Duration memoryTtl;
+    private final Duration ttl;
+    private final Counter replays;
+    private final Counter joins;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public PaymentIdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                                     PaymentTransactionService paymentTransactionService,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${payment.idempotency.memory-ttl:10m}") Duration memoryTtl,
+                                     @Value("${payment.idempotency.ttl:24h}") Duration ttl) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.paymentTransactionService = paymentTransactionService;
+        this.objectMapper = objectMapper;
+        this.memoryTtl = memoryTtl;
+        this.ttl = ttl;
+        this.replays = Counter.builder("payment.idempotency.hits").tag("result", "replayed").register(meterRegistry);
+        this.joins = Counter.builder("payment.idempotency.hits").tag("result", "joined").register(meterRegistry);
+    }
+
+    /**
+     * 키가 없으면 그대로 실행, 있으면 같은 키의 진행 중/완료 결과를 공유
+     */
+    public CompletableFuture<PaymentResponse> execute(String idempotencyKey, Long reservationId, String providerName,
+                                                      Supplier<CompletableFuture<PaymentResponse>> payment) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return payment.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Entry mine = new Entry(reservationId, providerName, new CompletableFuture<>(), expiresAt(memoryTtl));
+        Entry existing = entries.compute(idempotencyKey, (key, current) ->
+                current == null || current.isExpired() ? mine : current);
+        if (existing != mine) {
+            return join(idempotencyKey, existing, reservationId, providerName);
+        }
+
+        try {
+            Optional<IdempotencyKey> persisted = claim(idempotencyKey, reservationId, providerName);
+            if (persisted.isPresent()) {
+                // 이전 실행(재기동 전 또는 다른 인스턴스)에서 완료된 결과 재응답
+                mine.result.complete(replay(idempotencyKey, readResponse(persisted.get().getResponseBody())));
+                replays.increment();
+                return mine.result;
+            }
+        } catch (RuntimeException e) {
+            release(idempotencyKey, mine, e);
+            throw e;
+        }
+
+        CompletableFuture<PaymentResponse> execution;
+        try {
+            execution = payment.get();
+        } catch (RuntimeException e) {
+            releaseWithRecord(idempotencyKey, mine, e);
+            throw e;
+        }
+        execution.whenComplete((response, error) -> {
+            if (error != null) {
+                releaseWithRecord(idempotencyKey, mine, error);
+                return;
+            }
+            boolean recorded = false;
+            try {
+                idempotencyKeyRepository.complete(idempotencyKey, objectMapper.writeValueAsString(response));
+                recorded = true;
+            } catch (Exception e) {
+                // 결과 저장 실패는 재응답 범위만 메모리로 줄어들 뿐 결제 결과에는 영향 없음
+                log.warn("Idempotency-Key 결과 저장 실패. key: {}, error: {}", idempotencyKey, e.getMessage());
+            } finally {
+                if (!recorded) {
+                    // IN_PROGRESS로 남으면 ttl 동안 다른 인스턴스의 재시도가 막히므로 기록 해제
+                    deleteRecord(idempotencyKey);
+                }
+                mine.result.complete(response);
+            }
+        });
+        return mine.result;
+    }
+
+    /**
+     * 만료 키 정리 (메모리 + DB)
+     */
+    @Scheduled(fixedDelayString = "${payment.idempotency.cleanup-interval:1h}",
+            initialDelayString = "${payment.idempotency.cleanup-interval:1h}")
+    public void purgeExpired() {
+        entries.values().removeIf(Entry::isExpired);
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 Idempotency-Key 삭제. count: {}", deleted);
+        }
+    }
+
+    private CompletableFuture<PaymentResponse> join(String key, Entry existing, Long reservationId, String providerName) {
+        if (!existing.matches(reservationId, providerName)) {
+            throw new IllegalArgumentException("같은 Idempotency-Key로 다른 결제 요청을 보낼 수 없습니다: " + key);
+        }
+        if (existing.result.isDone()) {
+            replays.increment();
+            return existing.result.thenApply(response -> replay(key, response));
+        }
+        joins.increment();
+        return existing.result;
+    }
+
+    /**
+     * 완료된 결과 재응답 (PENDING이면 현재 결제 상태로 다시 읽고, 최종 상태가 되었으면 기록 갱신)
+     */
+    private PaymentResponse replay(String key, PaymentResponse response) {
+        if (response.getStatus() != PaymentStatus.PENDING || response.getPaymentId() == null) {
+            return response;
+        }
+        PaymentResponse current = paymentTransactionService.getResponse(response.getPaymentId());
+        if (current.getStatus() != PaymentStatus.PENDING) {
+            try {
+                idempotencyKeyRepository.complete(key, objectMapper.writeValueAsString(current));
+            } catch (Exception e) {
+                // 갱신 실패 시 다음 재응답도 다시 읽을 뿐 응답에는 영향 없음
+                log.warn("Idempotency-Key 결과 갱신 실패. key: {}, error: {}", key, e.getMessage());
+            }
+        }
+        return current;
+    }
+
+    /**
+     * DB에 키 선점 (완료된 기록이 있으면 그 기록 반환)
+     */
+    private Optional<IdempotencyKey> claim(String key, Long reservationId, String providerName) {
+        Optional<IdempotencyKey> persisted = idempotencyKeyRepository.findByKey(key)
+                .filter(record -> record.getExpiresAt().isAfter(LocalDateTime.now()));
+        if (persisted.isPresent()) {
+            IdempotencyKey record = persisted.get();
+            if (!record.matches(reservationId, providerName)) {
+                throw new IllegalArgumentException("같은 Idempotency-Key로 다른 결제 요청을 보낼 수 없습니다: " + key);
+            }
+            if (record.getStatus() == IdempotencyKey.Status.COMPLETED) {
+                return persisted;
+            }
+            throw new IllegalStateException("같은 Idempotency-Key의 결제가 처리 중입니다.");
+        }
+
+        // 만료된 기록만 지우고 다시 선점 (그 사이 다른 인스턴스가 선점했다면 INSERT가 PK 위반으로 실패)
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.deleteExpiredByKey(key, now);
+        try {
+            idempotencyKeyRepository.insert(IdempotencyKey.builder()
+                    .key(key)
+                    .reservationId(reservationId)
+                    .providerName(providerName)
+                    .status(IdempotencyKey.Status.IN_PROGRESS)
+                    .createdAt(now)
+                    .expiresAt(now.plus(ttl))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("같은 Idempotency-Key의 결제가 처리 중입니다.");
+        }
+        return Optional.empty();
+    }
+
+    private void releaseWithRecord(String key, Entry entry, Throwable error) {
+        deleteRecord(key);
+        release(key, entry, error);
+    }
+
+    /**
+     * 이 요청이 선점한 기록 삭제 (선점에 성공한 뒤에만 호출)
+     */
+    private void deleteRecord(String key) {
+        try {
+            idempotencyKeyRepository.deleteByKey(key);
+        } catch (Exception e) {
+            log.warn("Idempotency-Key 기록 삭제 실패. key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    private void release(String key, Entry entry, Throwable error) {
+        entries.remove(key, entry);
+        entry.result.completeExceptionally(error);
+    }
+
+    private PaymentResponse readResponse(String body) {
+        try {
+            return objectMapper.readValue(body, PaymentResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 결제 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static LocalDateTime expiresAt(Duration ttl) {
+        return LocalDateTime.now().plus(ttl);
+    }
+
+    private static final class Entry {
+        private final Long reservationId;
+        private final String providerName;
+        private final CompletableFuture<PaymentResponse> result;
+        private final LocalDateTime expiresAt;
+
+        private Entry(Long reservationId, String providerName,
+                      CompletableFuture<PaymentResponse> result, LocalDateTime expiresAt) {
+            this.reservationId = reservationId;
+            this.providerName = providerName;
+            this.result = result;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean matches(Long reservationId, String providerName) {
+            return Objects.equals(this.reservationId, reservationId) && Objects.equals(this.providerName, providerName);
+        }
+
+        private boolean isExpired() {
+            return expiresAt.isBefore(LocalDateTime.now());
+        }
+    }
+}
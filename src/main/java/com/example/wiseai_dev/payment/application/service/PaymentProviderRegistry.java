@@ -0,0 +1,125 @@
+package com.example.wiseai_dev.payment.application.service;
+
+import com.example.wiseai_dev.payment.domain.gateway.PaymentGateway;
+import com.example.wiseai_dev.payment.domain.model.PaymentProvider;
+import com.example.wiseai_dev.payment.domain.repository.PaymentProviderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 결제사 레지스트리: 이름 → (PaymentProvider, PaymentGateway)
+ * - 기동 시 payment_providers 전체를 한 번 읽어 불변 스냅샷으로 보관 → 결제 경로에서는 결제사 SELECT 없음
+ * - 결제사 정보가 바뀌면 refresh()로 스냅샷을 통째로 교체 (조회 중인 스레드는 이전 스냅샷을 그대로 사용)
+ * - DB 행과 게이트웨이 빈이 모두 있는 결제사만 등록
+ * - 지표: payment.provider.registry.lookups{result=hit|miss}, payment.provider.registry.refreshes, payment.provider.registry.size
+ */
+@Slf4j
+@Component
+public class PaymentProviderRegistry {
+
+    private final PaymentProviderRepository paymentProviderRepository;
+    private final Map<String, PaymentGateway> gateways;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter refreshes;
+
+    // 동시 refresh 직렬화 (가상 스레드 모드에서 DB 대기 중 캐리어가 고정되지 않도록 synchronized 대신 사용)
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<String, Registration> registrations = Map.of();
+
+    public PaymentProviderRegistry(PaymentProviderRepository paymentProviderRepository,
+                                   List<PaymentGateway> gateways,
+                                   MeterRegistry meterRegistry) {
+        this.paymentProviderRepository = paymentProviderRepository;
+        this.gateways = gateways.stream()
+                .collect(Collectors.toUnmodifiableMap(PaymentGateway::getProviderName, Function.identity()));
+        this.hits = Counter.builder("payment.provider.registry.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("payment.provider.registry.lookups").tag("result", "miss").register(meterRegistry);
+        this.refreshes = Counter.builder("payment.provider.registry.refreshes").register(meterRegistry);
+        Gauge.builder("payment.provider.registry.size", this, registry -> registry.registrations.size())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    /**
+     * DB에서 결제사 목록을 다시 읽어 스냅샷 교체
+     */
+    public Collection<Registration> refresh() {
+        refreshLock.lock();
+        try {
+            return reload();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Collection<Registration> reload() {
+        Map<String, Registration> loaded = new HashMap<>();
+        for (PaymentProvider provider : paymentProviderRepository.findAll()) {
+            PaymentGateway gateway = gateways.get(provider.getName());
+            if (gateway == null) {
+                log.warn("게이트웨이가 없는 결제사 - 등록 제외. provider: {}", provider.getName());
+                continue;
+            }
+            loaded.put(provider.getName(), new Registration(provider, gateway));
+        }
+        gateways.keySet().stream()
+                .filter(name -> !loaded.containsKey(name))
+                .forEach(name -> log.warn("결제사 정보가 없는 게이트웨이 - 등록 제외. provider: {}", name));
+
+        registrations = Map.copyOf(loaded);
+        refreshes.increment();
+        log.info("결제사 레지스트리 갱신 완료. providers: {}", registrations.keySet());
+        return registrations.values();
+    }
+
+    /**
+     * 결제사 조회 (DB 접근 없음)
+     */
+    public Registration get(String providerName) {
+        Registration registration = providerName != null ? registrations.get(providerName) : null;
+        if (registration == null) {
+            misses.increment();
+            throw new IllegalArgumentException("지원하지 않는 결제사입니다: " + providerName);
+        }
+        hits.increment();
+        return registration;
+    }
+
+    /**
+     * 등록 여부만 확인 (조회 지표에 집계하지 않음)
+     */
+    public boolean contains(String providerName) {
+        return providerName != null && registrations.containsKey(providerName);
+    }
+
+    public Collection<Registration> getAll() {
+        return registrations.values();
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Registration {
+        private final PaymentProvider provider;
+        private final PaymentGateway gateway;
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.wiseai_dev.payment.application.service;
 
+import com.example.wiseai_dev.global.config.RetryConfig;
+import com.example.wiseai_dev.global.id.SnowflakeIdGenerator;
+import com.example.wiseai_dev.global.metrics.MetricOutcomes;
 import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
 import com.example.wiseai_dev.payment.application.api.dto.ProviderPayload;
 import com.example.wiseai_dev.payment.domain.gateway.PaymentGateway;
@@ -7,24 +10,31 @@ import com.example.wiseai_dev.payment.domain.model.Payment;
 import com.example.wiseai_dev.payment.domain.model.PaymentProvider;
 import com.example.wiseai_dev.payment.domain.model.PaymentResult;
 import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
-import com.example.wiseai_dev.payment.domain.repository.PaymentProviderRepository;
+import com.example.wiseai_dev.payment.domain.model.PaymentWebhookEvent;
 import com.example.wiseai_dev.payment.domain.repository.PaymentRepository;
 import com.example.wiseai_dev.reservation.domain.model.Reservation;
 import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
 import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Collection;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -34,192 +44,226 @@ import java.util.stream.Collectors;
 public class PaymentService {
 
     private final ReservationRepository reservationRepository;
-    private final PaymentProviderRepository paymentProviderRepository;
     private final PaymentRepository paymentRepository;
-    private final Map<String, PaymentGateway> paymentGateways;
+    private final PaymentTransactionService paymentTransactionService;
+    private final PaymentGroupCommitter paymentGroupCommitter;
+    private final PaymentProviderRegistry paymentProviderRegistry;
+    private final PaymentGatewayExecutor paymentGatewayExecutor;
+    private final MeterRegistry meterRegistry;
+    private final SnowflakeIdGenerator idGenerator;
+    private final Counter singleFlightJoins;
+
+    // 예약별 진행 중인 결제 (single-flight)
+    private final Map<Long, Flight> inFlight = new ConcurrentHashMap<>();
 
     public PaymentService(ReservationRepository reservationRepository,
-                          PaymentProviderRepository paymentProviderRepository,
                           PaymentRepository paymentRepository,
-                          List<PaymentGateway> gateways) {
+                          PaymentTransactionService paymentTransactionService,
+                          PaymentGroupCommitter paymentGroupCommitter,
+                          PaymentProviderRegistry paymentProviderRegistry,
+                          PaymentGatewayExecutor paymentGatewayExecutor,
+                          MeterRegistry meterRegistry,
+                          SnowflakeIdGenerator idGenerator) {
         this.reservationRepository = reservationRepository;
-        this.paymentProviderRepository = paymentProviderRepository;
         this.paymentRepository = paymentRepository;
-        this.paymentGateways = gateways.stream()
-                .collect(Collectors.toMap(
-                        gateway -> gateway.getClass().getSimpleName().replace("PaymentGateway", ""),
-                        Function.identity()
-                ));
+        this.paymentTransactionService = paymentTransactionService;
+        this.paymentGroupCommitter = paymentGroupCommitter;
+        this.paymentProviderRegistry = paymentProviderRegistry;
+        this.paymentGatewayExecutor = paymentGatewayExecutor;
+        this.meterRegistry = meterRegistry;
+        this.idGenerator = idGenerator;
+        this.singleFlightJoins = Counter.builder("payment.singleflight.joins").register(meterRegistry);
     }
 
     /**
-     * 예약 결제 처리 (낙관적 락 적용 + 재시도 로직)
+     * 예약 결제 처리 (동기 호출용, 비동기 파이프라인 완료까지 대기)
      */
-    @Retryable(
-            value = {ObjectOptimisticLockingFailureException.class, DataIntegrityViolationException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 50, multiplier = 2)
-    )
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponse processReservationPayment(Long reservationId, String paymentProviderName) {
         try {
-            return processPaymentInternal(reservationId, paymentProviderName);
-
-        } catch (ObjectOptimisticLockingFailureException e) {
-            log.warn("결제 처리 중 낙관적 락 충돌 발생. reservationId: {}, provider: {}",
-                    reservationId, paymentProviderName);
-            throw new IllegalStateException("동시 결제 요청이 감지되었습니다. 잠시 후 다시 시도해주세요.");
-
-        } catch (DataIntegrityViolationException e) {
-            log.warn("중복 결제 시도 감지. reservationId: {}", reservationId);
-            throw new IllegalStateException("이미 처리된 결제입니다.");
-        }
-    }
-
-    private PaymentResponse processPaymentInternal(Long reservationId, String paymentProviderName) {
-        // 1. 예약 조회
-        Reservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
-
-        // 2. 예약 상태 검증
-        validateReservationForPayment(reservation);
-
-        // 3. 중복 결제 방지
-        if (paymentRepository.findByReservationId(reservationId).isPresent()) {
-            throw new IllegalStateException("이미 결제 정보가 존재하는 예약입니다.");
-        }
-
-        // 4. 결제사 및 게이트웨이 확인
-        PaymentProvider paymentProvider = getPaymentProvider(paymentProviderName);
-        PaymentGateway gateway = getPaymentGateway(paymentProviderName);
-
-        // 5. 거래 ID 생성
-        String transactionId = generateTransactionId();
-
-        // 6. 결제 엔티티 생성
-        Payment payment = createPayment(reservation, paymentProvider, transactionId);
-
-        try {
-            // 7. 외부 PG사 호출
-            PaymentResult paymentResult = gateway.processPayment(payment);
-
-            // 8. 결제 및 예약 상태 업데이트
-            return updatePaymentAndReservation(payment, reservation, paymentResult);
-
-        } catch (Exception e) {
-            // PG사 오류 시 실패 처리
-            log.error("PG사 결제 처리 실패. reservationId: {}, error: {}", reservationId, e.getMessage());
-            handlePaymentFailure(payment, reservation, e);
-            throw new IllegalStateException("결제 처리 중 오류가 발생했습니다: " + e.getMessage());
+            return processReservationPaymentAsync(reservationId, paymentProviderName).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
         }
     }
 
     /**
-     * 예약 상태 검증
+     * 예약 결제 처리 (비동기 파이프라인)
+     * - 같은 예약의 결제가 이 인스턴스에서 진행 중이면 새로 실행하지 않고 그 결과를 함께 받음 (single-flight)
+     *   → 동시 요청 N건 중 DB/PG에 닿는 것은 1건, 나머지는 같은 성공/실패 결과를 공유
+     *   (다른 인스턴스와의 경합은 기존처럼 uk_reservation_id / 낙관적 락이 막음)
+     * - 다른 결제사로 요청하면 합류하지 않고 거절 (진행 중인 결제사의 결과를 돌려주지 않음)
      */
-    private void validateReservationForPayment(Reservation reservation) {
-        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
-            throw new IllegalStateException("취소된 예약입니다.");
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<PaymentResponse> processReservationPaymentAsync(Long reservationId, String paymentProviderName) {
+        Flight current = new Flight(paymentProviderName, new CompletableFuture<>());
+        Flight existing = inFlight.putIfAbsent(reservationId, current);
+        if (existing != null) {
+            if (!Objects.equals(existing.providerName(), paymentProviderName)) {
+                log.warn("다른 결제사로 진행 중인 결제 - 합류 거절. reservationId: {}, provider: {}, inFlight: {}",
+                        reservationId, paymentProviderName, existing.providerName());
+                throw new IllegalStateException("같은 예약의 결제가 다른 결제사로 진행 중입니다.");
+            }
+            singleFlightJoins.increment();
+            log.info("진행 중인 결제에 합류. reservationId: {}, provider: {}", reservationId, paymentProviderName);
+            return existing.result();
         }
 
-        if (reservation.getStatus() != ReservationStatus.PENDING_PAYMENT) {
-            throw new IllegalStateException("결제 대기 상태가 아닌 예약입니다. 현재 상태: " + reservation.getStatus());
+        CompletableFuture<PaymentResponse> flight = current.result();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            executePayment(reservationId, paymentProviderName).whenComplete((response, error) -> {
+                recordPayment(sample, paymentProviderName, response, error);
+                inFlight.remove(reservationId, current);
+                if (error != null) {
+                    flight.completeExceptionally(error);
+                } else {
+                    flight.complete(response);
+                }
+            });
+        } catch (RuntimeException e) {
+            recordPayment(sample, paymentProviderName, null, e);
+            inFlight.remove(reservationId, current);
+            flight.completeExceptionally(e);
+            throw e;
         }
+        return flight;
     }
 
     /**
-     * 결제사 조회
+     * payment.process 타이머 (합류한 요청은 제외, 실제 실행 1건당 1회)
+     * - provider: 등록된 결제사 이름 (미등록 이름은 unknown으로 묶어 태그 수 제한)
+     * - outcome: PG 결과(success / pending / failed) 또는 예외 분류(conflict / rejected / error)
      */
-    private PaymentProvider getPaymentProvider(String paymentProviderName) {
-        return paymentProviderRepository.findByName(paymentProviderName)
-                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 결제사입니다: " + paymentProviderName));
+    private void recordPayment(Timer.Sample sample, String paymentProviderName, PaymentResponse response, Throwable error) {
+        String outcome = error != null || response == null
+                ? MetricOutcomes.of(error)
+                : response.getStatus().name().toLowerCase();
+        sample.stop(Timer.builder("payment.process")
+                .tag("provider", paymentProviderRegistry.contains(paymentProviderName) ? paymentProviderName : "unknown")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
     }
 
     /**
-     * 게이트웨이 조회
+     * 1. 짧은 트랜잭션으로 PENDING 결제 저장 (다른 인스턴스의 중복/동시 요청은 여기서 차단)
+     * 2. PG 호출 - 트랜잭션/커넥션 없이 전용 스레드 풀에서 실행, 제한 시간 적용
+     * 3. 짧은 트랜잭션으로 결과 반영 - PG 호출과 분리된 결과 반영 실행기에서 실행
+     *    (낙관적 락 + 재시도, payment.group-commit.enabled면 여러 결제를 한 트랜잭션으로 묶어 커밋)
+     * - PG 응답이 제한 시간을 넘기면 결제는 PENDING으로 응답하고, 늦게 도착한 PG 결과(또는 웹훅)로 확정
      */
-    private PaymentGateway getPaymentGateway(String paymentProviderName) {
-        PaymentGateway gateway = paymentGateways.get(paymentProviderName);
-        if (gateway == null) {
-            throw new IllegalArgumentException("등록되지 않은 결제 게이트웨이: " + paymentProviderName);
-        }
-        return gateway;
-    }
+    private CompletableFuture<PaymentResponse> executePayment(Long reservationId, String paymentProviderName) {
+        PaymentProviderRegistry.Registration registration = paymentProviderRegistry.get(paymentProviderName);
+        PaymentGateway gateway = registration.getGateway();
+        Payment payment = preparePayment(reservationId, registration.getProvider());
 
-    /**
-     * 거래 ID 생성
-     */
-    private String generateTransactionId() {
-        return "TXN-" +
-                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")) +
-                "-" +
-                UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-    }
+        CompletableFuture<PaymentResult> gatewayCall;
+        try {
+            Counter gatewayCalls = Counter.builder("payment.gateway.calls")
+                    .tag("provider", gateway.getProviderName())
+                    .register(meterRegistry);
+            gatewayCall = CompletableFuture.supplyAsync(() -> {
+                gatewayCalls.increment();
+                return gateway.processPayment(payment);
+            }, paymentGatewayExecutor.executor());
+        } catch (RejectedExecutionException e) {
+            log.warn("PG 호출 대기열 초과 - 결제 대기 건 삭제. reservationId: {}", reservationId);
+            paymentTransactionService.discard(payment.getId());
+            throw new IllegalStateException("결제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
 
-    /**
-     * 결제 엔티티 생성
-     */
-    private Payment createPayment(Reservation reservation, PaymentProvider paymentProvider, String transactionId) {
-        return new Payment(
-                null,
-                reservation,
-                paymentProvider,
-                PaymentStatus.PENDING,
-                reservation.getTotalAmount(),
-                transactionId,
-                0L
-        );
+        // 제한 시간은 사본에만 적용 (원본은 PG 응답이 늦게 와도 그 결과로 완료됨)
+        return gatewayCall.copy()
+                .orTimeout(paymentGatewayExecutor.getTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .handleAsync((result, error) -> completePayment(payment, gatewayCall, result, error),
+                        paymentGatewayExecutor.completionExecutor())
+                .thenCompose(Function.identity());
     }
 
-    /**
-     * 결제 및 예약 상태 업데이트
-     */
-    private PaymentResponse updatePaymentAndReservation(Payment payment, Reservation reservation, PaymentResult paymentResult) {
-        // 결제 정보 업데이트
-        payment.setTransactionId(paymentResult.getTransactionId());
-        payment.setStatus(paymentResult.getStatus());
+    private Payment preparePayment(Long reservationId, PaymentProvider paymentProvider) {
+        String paymentProviderName = paymentProvider.getName();
+        try {
+            return paymentTransactionService.prepare(reservationId, paymentProvider, generateTransactionId());
 
-        // 예약 상태 업데이트
-        switch (paymentResult.getStatus()) {
-            case SUCCESS:
-                reservation.setStatus(ReservationStatus.CONFIRMED);
-                log.info("결제 성공 - 예약 확정. reservationId: {}, transactionId: {}",
-                        reservation.getId(), paymentResult.getTransactionId());
-                break;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("결제 처리 중 낙관적 락 충돌 발생. reservationId: {}, provider: {}",
+                    reservationId, paymentProviderName);
+            throw new IllegalStateException("동시 결제 요청이 감지되었습니다. 잠시 후 다시 시도해주세요.");
 
-            case PENDING:
-                // 가상계좌 발급 완료 → 예약 상태는 여전히 결제 대기 유지
-                reservation.setStatus(ReservationStatus.PENDING_PAYMENT);
-                log.info("가상계좌 발급 - 예약 결제 대기 유지. reservationId: {}, transactionId: {}",
-                        reservation.getId(), paymentResult.getTransactionId());
-                break;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("중복 결제 시도 감지. reservationId: {}", reservationId);
+            throw new IllegalStateException("이미 처리된 결제입니다.");
+        }
+    }
 
-            default: // FAILED, CANCELED 등
-                reservation.setStatus(ReservationStatus.CANCELLED);
-                log.warn("결제 실패/취소 - 예약 취소. reservationId: {}, transactionId: {}, status: {}",
-                        reservation.getId(), paymentResult.getTransactionId(), paymentResult.getStatus());
-                break;
+    private CompletableFuture<PaymentResponse> completePayment(Payment payment,
+                                                               CompletableFuture<PaymentResult> gatewayCall,
+                                                               PaymentResult paymentResult,
+                                                               Throwable error) {
+        Long reservationId = payment.getReservation().getId();
+        if (error == null) {
+            return paymentGroupCommitter.complete(payment.getId(), paymentResult)
+                    .exceptionally(e -> {
+                        if (unwrap(e) instanceof ObjectOptimisticLockingFailureException) {
+                            log.warn("결제 결과 반영 중 낙관적 락 충돌 발생. reservationId: {}", reservationId);
+                            throw new IllegalStateException("동시 결제 요청이 감지되었습니다. 잠시 후 다시 시도해주세요.");
+                        }
+                        throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+                    });
         }
 
-        // 동시 저장 (낙관적 락 체크)
-        Payment savedPayment = paymentRepository.save(payment);
-        Reservation savedReservation = reservationRepository.save(reservation);
+        Throwable cause = unwrap(error);
+        if (cause instanceof TimeoutException) {
+            log.warn("PG 응답 지연 - 결제 대기 유지(늦은 응답 또는 웹훅으로 확정). reservationId: {}, transactionId: {}",
+                    reservationId, payment.getTransactionId());
+            gatewayCall.whenComplete((lateResult, lateError) -> completeLate(payment, lateResult, lateError));
+            return CompletableFuture.completedFuture(paymentTransactionService.getResponse(payment.getId()));
+        }
 
-        return PaymentResponse.from(savedPayment, savedReservation);
+        // PG사 오류 시 실패 처리
+        log.error("PG사 결제 처리 실패. reservationId: {}, error: {}", reservationId, cause.getMessage());
+        return paymentGroupCommitter.fail(payment.getId(), cause.getMessage())
+                .thenApply(ignored -> {
+                    throw new IllegalStateException("결제 처리 중 오류가 발생했습니다: " + cause.getMessage());
+                });
     }
 
     /**
-     * 결제 실패 처리
+     * 제한 시간 이후 도착한 PG 결과 반영 (PG 호출 스레드에서 실행)
+     * - 그 사이 웹훅으로 확정된 결제는 complete / fail이 덮어쓰지 않음
      */
-    private void handlePaymentFailure(Payment payment, Reservation reservation, Exception e) {
-        payment.setStatus(PaymentStatus.FAILED);
-        reservation.setStatus(ReservationStatus.CANCELLED);
+    private void completeLate(Payment payment, PaymentResult paymentResult, Throwable error) {
+        Long reservationId = payment.getReservation().getId();
+        CompletableFuture<?> applied;
+        if (error == null) {
+            log.info("PG 늦은 응답 반영. reservationId: {}, status: {}", reservationId, paymentResult.getStatus());
+            applied = paymentGroupCommitter.complete(payment.getId(), paymentResult);
+        } else {
+            Throwable cause = unwrap(error);
+            log.error("PG 늦은 응답 - 결제 실패 처리. reservationId: {}, error: {}", reservationId, cause.getMessage());
+            applied = paymentGroupCommitter.fail(payment.getId(), cause.getMessage());
+        }
+        applied.whenComplete((ignored, applyError) -> {
+            if (applyError != null) {
+                log.error("PG 늦은 응답 반영 실패 - 웹훅으로 확정 필요. reservationId: {}, error: {}",
+                        reservationId, unwrap(applyError).getMessage());
+            }
+        });
+    }
 
-        paymentRepository.save(payment);
-        reservationRepository.save(reservation);
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
 
-        log.error("결제 실패 처리 완료. reservationId: {}, error: {}",
-                reservation.getId(), e.getMessage());
+    /**
+     * 거래 ID 생성 (시간 순 정렬 ID)
+     */
+    private String generateTransactionId() {
+        return idGenerator.nextId("TXN-");
     }
 
     /**
@@ -237,20 +281,24 @@ public class PaymentService {
     /**
      * 웹훅 처리 (낙관적 락 적용)
      */
-    @Retryable(
-            value = {ObjectOptimisticLockingFailureException.class},
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100, multiplier = 2)
-    )
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
     @Transactional
     public void handleWebhook(String providerName, ProviderPayload payload) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricOutcomes.SUCCESS;
         try {
             handleWebhookInternal(providerName, payload);
 
         } catch (ObjectOptimisticLockingFailureException e) {
+            outcome = MetricOutcomes.CONFLICT;
             log.warn("웹훅 처리 중 낙관적 락 충돌. transactionId: {}, provider: {}",
                     payload.getTransactionId(), providerName);
             throw e; // 재시도 처리
+        } catch (RuntimeException e) {
+            outcome = MetricOutcomes.of(e);
+            throw e;
+        } finally {
+            sample.stop(webhookTimer("single", outcome));
         }
     }
 
@@ -262,26 +310,97 @@ public class PaymentService {
         // 상태 검증 및 변환
         PaymentStatus newStatus = validateAndConvertStatus(payload.getStatus());
 
+        applyWebhookStatus(payment, newStatus);
+    }
+
+    /**
+     * 웹훅 일괄 반영 (PaymentWebhookQueue 배치 워커용)
+     * - 거래 ID별로 병합된 이벤트를 한 트랜잭션에서 반영 (결제 조회 1회)
+     * - 낙관적 락 충돌 시 배치 전체가 롤백되고, 호출 측이 건별 처리(handleWebhook)로 재시도
+     * @return 실제로 상태가 바뀐 결제 수
+     */
+    @Transactional
+    public int applyWebhookBatch(Collection<PaymentWebhookEvent> events) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricOutcomes.SUCCESS;
+        try {
+            return applyWebhooks(events);
+        } catch (RuntimeException e) {
+            outcome = MetricOutcomes.of(e);
+            throw e;
+        } finally {
+            sample.stop(webhookTimer("batch", outcome));
+        }
+    }
+
+    /**
+     * payment.webhook.handle 타이머 (mode: single = 건별 처리 1회 시도, batch = 배치 1회)
+     */
+    private Timer webhookTimer(String mode, String outcome) {
+        return Timer.builder("payment.webhook.handle")
+                .tag("mode", mode)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private int applyWebhooks(Collection<PaymentWebhookEvent> events) {
+        Map<String, Payment> payments = paymentRepository.findAllByTransactionIdIn(
+                        events.stream().map(PaymentWebhookEvent::getTransactionId).toList())
+                .stream()
+                .collect(Collectors.toMap(Payment::getTransactionId, Function.identity(), (first, second) -> first));
+
+        int applied = 0;
+        for (PaymentWebhookEvent event : events) {
+            Payment payment = payments.get(event.getTransactionId());
+            if (payment == null) {
+                log.warn("해당 거래 ID의 결제가 없음 - 웹훅 폐기. transactionId: {}, provider: {}",
+                        event.getTransactionId(), event.getProviderName());
+                continue;
+            }
+            if (applyWebhookStatus(payment, event.getStatus())) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * 결제/예약 상태 반영 후 저장 (낙관적 락 체크)
+     * - 예약이 결제 대기가 아니게 된 뒤(만료/취소) 도착한 승인은 PG 응답 반영과 같이 REFUND_REQUIRED로 기록 (예약은 그대로)
+     * @return 상태 변경 여부 (이미 같은 최종 상태면 false)
+     */
+    private boolean applyWebhookStatus(Payment payment, PaymentStatus newStatus) {
         // 이미 최종 상태인 경우 스킵
         if (isAlreadyFinalStatus(payment.getStatus(), newStatus)) {
             log.info("이미 최종 상태인 결제 - 웹훅 스킵. transactionId: {}, currentStatus: {}, newStatus: {}",
-                    payload.getTransactionId(), payment.getStatus(), newStatus);
-            return;
+                    payment.getTransactionId(), payment.getStatus(), newStatus);
+            return false;
         }
 
+        PaymentStatus previousStatus = payment.getStatus();
+
         // 상태 업데이트
         payment.setStatus(newStatus);
 
         // 예약 상태 동기화
         Reservation reservation = payment.getReservation();
-        updateReservationStatusFromPayment(reservation, newStatus);
+        if (newStatus == PaymentStatus.SUCCESS && reservation.getStatus() != ReservationStatus.PENDING_PAYMENT) {
+            // 시간대가 이미 풀린 예약 → 확정하지 않고 환불 대상으로 남김
+            payment.setStatus(PaymentStatus.REFUND_REQUIRED);
+            log.error("결제 대기가 아닌 예약에 승인 웹훅 도착 - 예약 상태 유지. reservationId: {}, reservationStatus: {}, transactionId: {}",
+                    reservation.getId(), reservation.getStatus(), payment.getTransactionId());
+        } else {
+            updateReservationStatusFromPayment(reservation, newStatus);
+        }
 
         // 저장 (낙관적 락 체크)
         paymentRepository.save(payment);
         reservationRepository.save(reservation);
 
         log.info("웹훅 처리 완료. transactionId: {}, status: {} -> {}, reservationId: {}",
-                payload.getTransactionId(), payment.getStatus(), newStatus, reservation.getId());
+                payment.getTransactionId(), previousStatus, payment.getStatus(), reservation.getId());
+        return true;
     }
 
     /**
@@ -300,6 +419,10 @@ public class PaymentService {
      * 이미 최종 상태인지 확인
      */
     private boolean isAlreadyFinalStatus(PaymentStatus currentStatus, PaymentStatus newStatus) {
+        // 환불 대상 결제는 웹훅으로 예약을 다시 살리지 않음
+        if (currentStatus == PaymentStatus.REFUND_REQUIRED) {
+            return true;
+        }
         return (currentStatus == PaymentStatus.SUCCESS || currentStatus == PaymentStatus.FAILED)
                 && currentStatus == newStatus;
     }
@@ -336,4 +459,10 @@ public class PaymentService {
                 break;
         }
     }
+
+    /**
+     * 진행 중인 결제 (요청한 결제사 + 공유 결과)
+     */
+    private record Flight(String providerName, CompletableFuture<PaymentResponse> result) {
+    }
 }
@@ -0,0 +1,216 @@
+package com.example.wiseai_dev.payment.application.service;
+
+import com.example.wiseai_dev.global.config.RetryConfig;
+import com.example.wiseai_dev.global.retry.ContentionTracker;
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.domain.model.Payment;
+import com.example.wiseai_dev.payment.domain.model.PaymentProvider;
+import com.example.wiseai_dev.payment.domain.model.PaymentResult;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+import com.example.wiseai_dev.payment.domain.repository.PaymentRepository;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 파이프라인의 트랜잭션 구간
+ * - 1단계(prepare): 예약 행 잠금 후 검증, PENDING 결제 저장 (만료 스캔은 잠긴 행을 건너뛰고, 커밋 후에는 결제 행을 봄)
+ * - 3단계(complete / fail): PG 결과 반영 (낙관적 락 충돌 시 다시 읽어서 재시도, 충돌이 잦은 예약은 행 잠금으로 읽음)
+ * - 2단계 PG 호출은 PaymentService가 트랜잭션 밖에서 수행하므로, 여기의 트랜잭션은 모두 DB 작업만 포함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PaymentTransactionService {
+
+    private final ReservationRepository reservationRepository;
+    private final PaymentRepository paymentRepository;
+    private final ContentionTracker contentionTracker;
+
+    /**
+     * 1단계: 결제 대기(PENDING) 저장
+     * - 예약당 결제 1건 (uk_reservation_id) 제약으로 동시 요청 중 하나만 성공
+     * - 결제사는 PaymentProviderRegistry에서 확인된 것을 받음 (결제사 SELECT 없음)
+     */
+    @Transactional
+    public Payment prepare(Long reservationId, PaymentProvider paymentProvider, String transactionId) {
+        // 1. 예약 조회 (행 잠금 - 결제 대기 만료와 경합하지 않도록)
+        Reservation reservation = reservationRepository.findByIdForUpdate(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
+
+        // 2. 예약 상태 검증
+        validateReservationForPayment(reservation);
+
+        // 3. 중복 결제 방지
+        if (paymentRepository.findByReservationId(reservationId).isPresent()) {
+            throw new IllegalStateException("이미 결제 정보가 존재하는 예약입니다.");
+        }
+
+        // 4. 결제 대기 저장
+        Payment payment = new Payment(
+                null,
+                reservation,
+                paymentProvider,
+                PaymentStatus.PENDING,
+                reservation.getTotalAmount(),
+                transactionId,
+                0L
+        );
+        Payment savedPayment = paymentRepository.save(payment);
+        savedPayment.setReservation(reservation);
+        return savedPayment;
+    }
+
+    /**
+     * 3단계: PG 응답 반영
+     * - 그 사이 웹훅으로 이미 확정된 결제는 덮어쓰지 않음
+     * - 예약이 결제 대기가 아니게 된 뒤 승인된 결제는 SUCCESS 대신 REFUND_REQUIRED로 기록 (예약은 그대로)
+     */
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
+    @Transactional
+    public PaymentResponse complete(Long paymentId, PaymentResult paymentResult) {
+        return applyResult(paymentId, paymentResult);
+    }
+
+    /**
+     * 3단계(실패): PG 오류 시 결제 실패 + 예약 취소
+     */
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
+    @Transactional
+    public void fail(Long paymentId, String reason) {
+        applyFailure(paymentId, reason);
+    }
+
+    /**
+     * PG 응답 반영 (호출 측 트랜잭션 안에서 실행, PaymentGroupCommitter가 여러 건을 한 트랜잭션으로 묶을 때도 사용)
+     */
+    PaymentResponse applyResult(Long paymentId, PaymentResult paymentResult) {
+        Payment payment = findPayment(paymentId);
+        Reservation reservation = findReservation(payment);
+
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            log.info("이미 결과가 반영된 결제 - PG 응답 반영 생략. paymentId: {}, status: {}",
+                    paymentId, payment.getStatus());
+            return PaymentResponse.from(payment, reservation);
+        }
+
+        // 결제 정보 업데이트
+        payment.setTransactionId(paymentResult.getTransactionId());
+        payment.setStatus(paymentResult.getStatus());
+
+        // 예약 상태 업데이트 (결제 대기 중인 예약만)
+        if (reservation.getStatus() != ReservationStatus.PENDING_PAYMENT) {
+            if (paymentResult.getStatus() == PaymentStatus.SUCCESS) {
+                // 시간대가 이미 풀린 예약 → 확정하지 않고 환불 대상으로 남김
+                payment.setStatus(PaymentStatus.REFUND_REQUIRED);
+            }
+            log.error("결제 진행 중 예약 상태 변경됨 - 예약 상태 유지. reservationId: {}, reservationStatus: {}, paymentStatus: {}",
+                    reservation.getId(), reservation.getStatus(), payment.getStatus());
+        } else {
+            applyReservationStatus(reservation, paymentResult);
+        }
+
+        // 동시 저장 (낙관적 락 체크)
+        Payment savedPayment = paymentRepository.save(payment);
+        Reservation savedReservation = reservationRepository.save(reservation);
+
+        return PaymentResponse.from(savedPayment, savedReservation);
+    }
+
+    /**
+     * 결제 실패 반영 (호출 측 트랜잭션 안에서 실행)
+     */
+    void applyFailure(Long paymentId, String reason) {
+        Payment payment = findPayment(paymentId);
+        Reservation reservation = findReservation(payment);
+
+        if (payment.getStatus() != PaymentStatus.PENDING) {
+            log.info("이미 결과가 반영된 결제 - 실패 처리 생략. paymentId: {}, status: {}",
+                    paymentId, payment.getStatus());
+            return;
+        }
+
+        payment.setStatus(PaymentStatus.FAILED);
+        if (reservation.getStatus() == ReservationStatus.PENDING_PAYMENT) {
+            reservation.setStatus(ReservationStatus.CANCELLED);
+        }
+
+        paymentRepository.save(payment);
+        reservationRepository.save(reservation);
+
+        log.error("결제 실패 처리 완료. reservationId: {}, error: {}", reservation.getId(), reason);
+    }
+
+    /**
+     * PG 호출 전에 요청이 거절된 경우 결제 대기 건 삭제 (예약은 그대로 두어 재시도 가능)
+     */
+    @Transactional
+    public void discard(Long paymentId) {
+        paymentRepository.deleteById(paymentId);
+    }
+
+    /**
+     * 현재 결제 상태 응답 (PG 응답 지연 시 사용)
+     */
+    @Transactional(readOnly = true)
+    public PaymentResponse getResponse(Long paymentId) {
+        Payment payment = findPayment(paymentId);
+        return PaymentResponse.from(payment, findReservation(payment));
+    }
+
+    /**
+     * 예약 상태 검증
+     */
+    private void validateReservationForPayment(Reservation reservation) {
+        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+            throw new IllegalStateException("취소된 예약입니다.");
+        }
+
+        if (reservation.getStatus() != ReservationStatus.PENDING_PAYMENT) {
+            throw new IllegalStateException("결제 대기 상태가 아닌 예약입니다. 현재 상태: " + reservation.getStatus());
+        }
+    }
+
+    /**
+     * PG 결과에 따른 예약 상태 변경
+     */
+    private void applyReservationStatus(Reservation reservation, PaymentResult paymentResult) {
+        switch (paymentResult.getStatus()) {
+            case SUCCESS:
+                reservation.setStatus(ReservationStatus.CONFIRMED);
+                log.info("결제 성공 - 예약 확정. reservationId: {}, transactionId: {}",
+                        reservation.getId(), paymentResult.getTransactionId());
+                break;
+
+            case PENDING:
+                // 가상계좌 발급 완료 → 예약 상태는 여전히 결제 대기 유지
+                log.info("가상계좌 발급 - 예약 결제 대기 유지. reservationId: {}, transactionId: {}",
+                        reservation.getId(), paymentResult.getTransactionId());
+                break;
+
+            default: // FAILED, CANCELED 등
+                reservation.setStatus(ReservationStatus.CANCELLED);
+                log.warn("결제 실패/취소 - 예약 취소. reservationId: {}, transactionId: {}, status: {}",
+                        reservation.getId(), paymentResult.getTransactionId(), paymentResult.getStatus());
+                break;
+        }
+    }
+
+    private Payment findPayment(Long paymentId) {
+        return paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다. paymentId=" + paymentId));
+    }
+
+    private Reservation findReservation(Payment payment) {
+        Long reservationId = payment.getReservation().getId();
+        return (contentionTracker.shouldLock("reservation", reservationId)
+                ? reservationRepository.findByIdForUpdate(reservationId)
+                : reservationRepository.findById(reservationId))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
+    }
+}
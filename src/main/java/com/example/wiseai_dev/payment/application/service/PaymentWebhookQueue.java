@@ -0,0 +1,229 @@
+package com.example.wiseai_dev.payment.application.service;
+
+import com.example.wiseai_dev.payment.application.api.dto.ProviderPayload;
+import com.example.wiseai_dev.payment.domain.model.PaymentWebhookEvent;
+import com.example.wiseai_dev.payment.infrastructure.persistence.webhook.PaymentWebhookSpillStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PG 웹훅 수신 큐 + 배치 반영 워커
+ * - 수신: 검증 후 메모리 큐(크기 제한)에 넣고 바로 응답, 큐가 offer-timeout 동안 비지 않으면 디스크에 적재
+ * - 워커: 최대 batch-size 건씩 꺼내 거래 ID별로 병합(최종 상태 우선, 같은 등급이면 나중 이벤트) 후 한 트랜잭션으로 반영
+ * - 배치 반영이 실패하면(낙관적 락, 슬롯 충돌 등 원인 무관) 건별 처리(PaymentService.handleWebhook, 재시도 포함)로 전환
+ * - 건별 처리로도 실패한 이벤트는 디스크의 rejected 파일로 보관하고 나머지는 계속 처리 (응답을 보낸 웹훅은 버리지 않음)
+ * - 큐가 비어 있을 때 디스크 적재분을 재처리, 종료 시 큐에 남은 이벤트는 디스크로 옮김
+ */
+@Slf4j
+@Component
+public class PaymentWebhookQueue {
+
+    private final PaymentService paymentService;
+    private final PaymentWebhookSpillStore spillStore;
+    private final BlockingQueue<PaymentWebhookEvent> queue;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration linger;
+
+    private final Counter accepted;
+    private final Counter spilled;
+    private final Counter rejected;
+    private final Counter coalesced;
+    private final Counter deadLettered;
+    private final Counter lost;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public PaymentWebhookQueue(PaymentService paymentService,
+                               PaymentWebhookSpillStore spillStore,
+                               MeterRegistry meterRegistry,
+                               @Value("${payment.webhook.queue-capacity:10000}") int queueCapacity,
+                               @Value("${payment.webhook.batch-size:200}") int batchSize,
+                               @Value("${payment.webhook.offer-timeout:20ms}") Duration offerTimeout,
+                               @Value("${payment.webhook.linger:50ms}") Duration linger) {
+        this.paymentService = paymentService;
+        this.spillStore = spillStore;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.linger = linger;
+        this.accepted = Counter.builder("payment.webhook.events").tag("result", "queued").register(meterRegistry);
+        this.spilled = Counter.builder("payment.webhook.events").tag("result", "spilled").register(meterRegistry);
+        this.rejected = Counter.builder("payment.webhook.events").tag("result", "rejected").register(meterRegistry);
+        this.coalesced = Counter.builder("payment.webhook.coalesced").register(meterRegistry);
+        this.deadLettered = Counter.builder("payment.webhook.events").tag("result", "dead_lettered").register(meterRegistry);
+        this.lost = Counter.builder("payment.webhook.events").tag("result", "lost").register(meterRegistry);
+        Gauge.builder("payment.webhook.queue.size", queue, Collection::size).register(meterRegistry);
+    }
+
+    /**
+     * 웹훅 접수 (검증 실패 시 IllegalArgumentException)
+     * @return 큐 또는 디스크에 안전하게 적재되었는지 여부 (false면 호출 측이 PG에 재전송 요청)
+     */
+    public boolean enqueue(String providerName, ProviderPayload payload) {
+        PaymentWebhookEvent event = PaymentWebhookEvent.of(providerName, payload.getTransactionId(), payload.getStatus());
+        try {
+            if (queue.offer(event, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                accepted.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            spillStore.append(event);
+            spilled.increment();
+            return true;
+        } catch (IOException e) {
+            log.error("웹훅 디스크 적재 실패 - 수신 거절. transactionId: {}, error: {}",
+                    event.getTransactionId(), e.getMessage());
+            rejected.increment();
+            return false;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        worker = new Thread(this::runWorker, "payment-webhook-worker");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        // 아직 반영하지 못한 이벤트는 다음 기동 때 재처리
+        List<PaymentWebhookEvent> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (PaymentWebhookEvent event : remaining) {
+            try {
+                spillStore.append(event);
+            } catch (IOException e) {
+                log.error("종료 중 웹훅 디스크 적재 실패. transactionId: {}", event.getTransactionId(), e);
+            }
+        }
+        try {
+            spillStore.close();
+        } catch (IOException e) {
+            log.warn("웹훅 적재 파일 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    private void runWorker() {
+        List<PaymentWebhookEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PaymentWebhookEvent first = queue.poll(linger.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpilled();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                apply(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("웹훅 배치 처리 중 예기치 못한 오류 - rejected 파일로 보관. events: {}", batch.size(), e);
+                batch.forEach(this::deadLetter);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 디스크에 적재된 웹훅 재처리 (세그먼트 단위, 반영 후 삭제)
+     */
+    private void replaySpilled() {
+        if (!spillStore.hasPending()) {
+            return;
+        }
+        try {
+            for (Path segment : spillStore.sealSegments()) {
+                List<PaymentWebhookEvent> events = spillStore.read(segment);
+                for (int from = 0; from < events.size(); from += batchSize) {
+                    apply(events.subList(from, Math.min(from + batchSize, events.size())));
+                }
+                spillStore.delete(segment);
+                log.info("디스크 적재 웹훅 재처리 완료. segment: {}, events: {}", segment.getFileName(), events.size());
+            }
+        } catch (Exception e) {
+            log.error("디스크 적재 웹훅 재처리 실패 - 다음 유휴 시 재시도", e);
+            spillStore.markPending();
+        }
+    }
+
+    private void apply(List<PaymentWebhookEvent> batch) {
+        Collection<PaymentWebhookEvent> merged = coalesce(batch);
+        coalesced.increment(batch.size() - merged.size());
+        try {
+            paymentService.applyWebhookBatch(merged);
+        } catch (RuntimeException e) {
+            log.warn("웹훅 배치 반영 실패 - 건별 처리로 전환. events: {}, error: {}", merged.size(), e.getMessage());
+            merged.forEach(this::applyOne);
+        }
+    }
+
+    private void applyOne(PaymentWebhookEvent event) {
+        ProviderPayload payload = new ProviderPayload();
+        payload.setTransactionId(event.getTransactionId());
+        payload.setStatus(event.getStatus().name());
+        try {
+            paymentService.handleWebhook(event.getProviderName(), payload);
+        } catch (Exception e) {
+            log.error("웹훅 반영 실패 - rejected 파일로 보관. transactionId: {}, status: {}, error: {}",
+                    event.getTransactionId(), event.getStatus(), e.getMessage());
+            deadLetter(event);
+        }
+    }
+
+    private void deadLetter(PaymentWebhookEvent event) {
+        try {
+            spillStore.reject(event);
+            deadLettered.increment();
+        } catch (IOException e) {
+            log.error("웹훅 보관 실패 - 유실. transactionId: {}, status: {}", event.getTransactionId(), event.getStatus(), e);
+            lost.increment();
+        }
+    }
+
+    /**
+     * 거래 ID별 병합: 최종 상태(SUCCESS/FAILED/CANCELED)가 PENDING보다 우선, 같은 등급이면 나중에 도착한 이벤트
+     */
+    static Collection<PaymentWebhookEvent> coalesce(List<PaymentWebhookEvent> events) {
+        Map<String, PaymentWebhookEvent> latest = new LinkedHashMap<>();
+        for (PaymentWebhookEvent event : events) {
+            latest.merge(event.getTransactionId(), event,
+                    (previous, next) -> previous.isTerminal() && !next.isTerminal() ? previous : next);
+        }
+        return latest.values();
+    }
+}
@@ -9,6 +9,8 @@ import java.util.Map;
 // 모든 결제사가 준수해야 할 공통 인터페이스
 @Component
 public interface PaymentGateway {
+    // payment_providers.name 과 일치하는 결제사 이름
+    String getProviderName();
     PaymentResult processPayment(Payment payment);
     void processWebhook(Map<String, Object> webhookData);
 }
@@ -0,0 +1,39 @@
+package com.example.wiseai_dev.payment.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 결제 요청 Idempotency-Key 기록
+ * - IN_PROGRESS: 처리 중 (다른 인스턴스의 같은 키 요청은 거절)
+ * - COMPLETED: 처리 완료, responseBody(JSON)를 그대로 재응답
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class IdempotencyKey {
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    private final String key;
+    private final Long reservationId;
+    private final String providerName;
+    private final Status status;
+    private final String responseBody;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime expiresAt;
+
+    /**
+     * 같은 키로 들어온 요청이 처음 요청과 같은 내용인지 여부
+     */
+    public boolean matches(Long reservationId, String providerName) {
+        return Objects.equals(this.reservationId, reservationId) && Objects.equals(this.providerName, providerName);
+    }
+}
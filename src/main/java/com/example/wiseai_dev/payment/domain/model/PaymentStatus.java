@@ -4,5 +4,6 @@ public enum PaymentStatus {
     PENDING,   // 결제 대기
     SUCCESS,   // 결제 성공 (결제사 승인 완료)
     FAILED,    // 결제 실패
-    CANCELED   // 결제 취소
+    CANCELED,  // 결제 취소
+    REFUND_REQUIRED // 승인되었으나 예약이 이미 만료/취소되어 환불 필요 (예약은 다시 살리지 않음)
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.wiseai_dev.payment.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수신한 PG 웹훅 한 건 (큐 적재 / 디스크 적재용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentWebhookEvent {
+    private String providerName;
+    private String transactionId;
+    private PaymentStatus status;
+    private LocalDateTime receivedAt;
+
+    public static PaymentWebhookEvent of(String providerName, String transactionId, String status) {
+        if (transactionId == null || transactionId.isBlank()) {
+            throw new IllegalArgumentException("웹훅 데이터에 transactionId가 누락되었습니다.");
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("웹훅 데이터에 status가 누락되었습니다.");
+        }
+        PaymentStatus paymentStatus;
+        try {
+            paymentStatus = PaymentStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 결제 상태입니다: " + status);
+        }
+        return new PaymentWebhookEvent(providerName, transactionId, paymentStatus, LocalDateTime.now());
+    }
+
+    /**
+     * 더 이상 바뀌지 않는 결과 상태인지 여부 (병합 시 PENDING보다 우선)
+     */
+    public boolean isTerminal() {
+        return status == PaymentStatus.SUCCESS || status == PaymentStatus.FAILED || status == PaymentStatus.CANCELED;
+    }
+}
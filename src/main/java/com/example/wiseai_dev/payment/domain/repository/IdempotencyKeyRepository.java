@@ -0,0 +1,17 @@
+package com.example.wiseai_dev.payment.domain.repository;
+
+import com.example.wiseai_dev.payment.domain.model.IdempotencyKey;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository {
+    Optional<IdempotencyKey> findByKey(String key);
+    // 이미 같은 키가 있으면 DataIntegrityViolationException
+    void insert(IdempotencyKey idempotencyKey);
+    void complete(String key, String responseBody);
+    void deleteByKey(String key);
+    // 만료된 경우에만 삭제 (살아 있는 다른 인스턴스의 선점은 지우지 않음)
+    int deleteExpiredByKey(String key, LocalDateTime now);
+    int deleteExpired(LocalDateTime now);
+}
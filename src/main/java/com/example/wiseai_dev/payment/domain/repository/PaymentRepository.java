@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository {
@@ -16,4 +18,6 @@ public interface PaymentRepository {
     @Query("select p from PaymentEntity p where p.reservation.id = :reservationId")
     Optional<Payment> findByReservationIdForUpdate(@Param("reservationId") Long reservationId);
     Optional<Payment> findByTransactionId(String transactionId);
+    List<Payment> findAllByTransactionIdIn(Collection<String> transactionIds);
+    void deleteById(Long id);
 }
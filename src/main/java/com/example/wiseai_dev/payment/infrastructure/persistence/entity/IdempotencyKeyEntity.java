@@ -0,0 +1,57 @@
+package com.example.wiseai_dev.payment.infrastructure.persistence.entity;
+
+import com.example.wiseai_dev.payment.domain.model.IdempotencyKey;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "idempotency_keys",
+        indexes = {
+                @Index(name = "idx_idempotency_expires_at", columnList = "expires_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class IdempotencyKeyEntity {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "provider_name", nullable = false)
+    private String providerName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IdempotencyKey.Status status;
+
+    @Column(name = "response_body", columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public IdempotencyKey toDomainModel() {
+        return IdempotencyKey.builder()
+                .key(key)
+                .reservationId(reservationId)
+                .providerName(providerName)
+                .status(status)
+                .responseBody(responseBody)
+                .createdAt(createdAt)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -22,8 +22,10 @@ import lombok.Setter;
 @NoArgsConstructor
 public class PaymentEntity {
 
+    // 예약과 같은 시퀀스 ID 블록 방식 (INSERT/UPDATE 배치 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_seq")
+    @SequenceGenerator(name = "payment_seq", sequenceName = "payment_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
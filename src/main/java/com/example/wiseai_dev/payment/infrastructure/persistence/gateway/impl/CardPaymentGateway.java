@@ -1,5 +1,6 @@
 package com.example.wiseai_dev.payment.infrastructure.persistence.gateway.impl;
 
+import com.example.wiseai_dev.global.id.SnowflakeIdGenerator;
 import com.example.wiseai_dev.payment.domain.gateway.PaymentGateway;
 import com.example.wiseai_dev.payment.domain.model.Payment;
 import com.example.wiseai_dev.payment.domain.model.PaymentResult;
@@ -10,16 +11,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Component
 public class CardPaymentGateway implements PaymentGateway {
 
     private final PaymentJpaRepository paymentJpaRepository;
+    private final SnowflakeIdGenerator idGenerator;
 
-    public CardPaymentGateway(PaymentJpaRepository paymentJpaRepository) {
+    public CardPaymentGateway(PaymentJpaRepository paymentJpaRepository, SnowflakeIdGenerator idGenerator) {
         this.paymentJpaRepository = paymentJpaRepository;
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public String getProviderName() {
+        return "Card";
     }
 
     /**
@@ -28,7 +35,7 @@ public class CardPaymentGateway implements PaymentGateway {
     @Override
     public PaymentResult processPayment(Payment payment) {
         // 실제 PG사 API 대신 가짜 응답 생성
-        String generatedId = "CARD_" + UUID.randomUUID().toString().substring(0, 8); //
+        String generatedId = idGenerator.nextId("CARD_");
         String rawResponse = String.format("{\"status\":\"SUCCESS\", \"txnId\":\"%s\"}", generatedId);
 
         log.info("[CardPaymentGateway] Mock 결제 성공. transactionId={}, amount={}", generatedId, payment.getAmount());
@@ -1,5 +1,6 @@
 package com.example.wiseai_dev.payment.infrastructure.persistence.gateway.impl;
 
+import com.example.wiseai_dev.global.id.SnowflakeIdGenerator;
 import com.example.wiseai_dev.payment.domain.gateway.PaymentGateway;
 import com.example.wiseai_dev.payment.domain.model.Payment;
 import com.example.wiseai_dev.payment.domain.model.PaymentResult;
@@ -10,16 +11,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Component
 public class SimplePaymentGateway implements PaymentGateway {
 
     private final PaymentJpaRepository paymentJpaRepository;
+    private final SnowflakeIdGenerator idGenerator;
 
-    public SimplePaymentGateway(PaymentJpaRepository paymentJpaRepository) {
+    public SimplePaymentGateway(PaymentJpaRepository paymentJpaRepository, SnowflakeIdGenerator idGenerator) {
         this.paymentJpaRepository = paymentJpaRepository;
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public String getProviderName() {
+        return "Simple";
     }
 
     /**
@@ -28,7 +35,7 @@ public class SimplePaymentGateway implements PaymentGateway {
     @Override
     public PaymentResult processPayment(Payment payment) {
         // 고유 TransactionId 생성
-        String generatedId = "SIMPLE_" + UUID.randomUUID().toString().substring(0, 8);
+        String generatedId = idGenerator.nextId("SIMPLE_");
 
         // Mock 응답 XML (B사 응답 형식 가정)
         String rawResponse = String.format("<result><state>OK</state><tid>%s</tid></result>", generatedId);
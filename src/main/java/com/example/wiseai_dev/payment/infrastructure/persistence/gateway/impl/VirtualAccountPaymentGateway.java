@@ -1,5 +1,6 @@
 package com.example.wiseai_dev.payment.infrastructure.persistence.gateway.impl;
 
+import com.example.wiseai_dev.global.id.SnowflakeIdGenerator;
 import com.example.wiseai_dev.payment.domain.gateway.PaymentGateway;
 import com.example.wiseai_dev.payment.domain.model.Payment;
 import com.example.wiseai_dev.payment.domain.model.PaymentResult;
@@ -10,16 +11,22 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Component
 public class VirtualAccountPaymentGateway implements PaymentGateway {
 
     private final PaymentJpaRepository paymentJpaRepository;
+    private final SnowflakeIdGenerator idGenerator;
 
-    public VirtualAccountPaymentGateway(PaymentJpaRepository paymentJpaRepository) {
+    public VirtualAccountPaymentGateway(PaymentJpaRepository paymentJpaRepository, SnowflakeIdGenerator idGenerator) {
         this.paymentJpaRepository = paymentJpaRepository;
+        this.idGenerator = idGenerator;
+    }
+
+    @Override
+    public String getProviderName() {
+        return "VirtualAccount";
     }
 
     /**
@@ -30,7 +37,7 @@ public class VirtualAccountPaymentGateway implements PaymentGateway {
     @Override
     public PaymentResult processPayment(Payment payment) {
         // 고유 TransactionId 생성
-        String generatedId = "VIRT_" + UUID.randomUUID().toString().substring(0, 8);
+        String generatedId = idGenerator.nextId("VIRT_");
 
         // Mock 응답 JSON
         String rawResponse = String.format(
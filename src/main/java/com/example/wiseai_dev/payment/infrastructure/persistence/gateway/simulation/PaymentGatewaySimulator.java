@@ -0,0 +1,169 @@
+package com.example.wiseai_dev.payment.infrastructure.persistence.gateway.simulation;
+
+import com.example.wiseai_dev.payment.domain.gateway.PaymentGateway;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 PG 대역 (부하 테스트 / 장애 재현용, payment.gateway.simulation.enabled=true 일 때만)
+ * - 모든 PaymentGateway 빈을 SimulatedPaymentGateway로 감싸서 지연/오류/비동기 확정을 주입
+ * - 지연: 중앙값(latency-median)과 p99(latency-p99)를 맞춘 로그정규 분포
+ * - 결과: error-rate 확률로 예외, pending-rate 확률로 PENDING 응답 후 webhook-delay 뒤 웹훅으로 확정
+ * - 웹훅은 실제 엔드포인트(/webhooks/payments/{provider})로 HTTP 전송, 503이면 PG처럼 간격을 늘려 재전송
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.gateway.simulation.enabled", havingValue = "true")
+public class PaymentGatewaySimulator implements BeanPostProcessor {
+
+    // 표준정규분포 99 백분위 z 값
+    private static final double Z_99 = 2.326;
+    private static final int MAX_WEBHOOK_ATTEMPTS = 5;
+
+    private final double medianMillis;
+    private final double sigma;
+    @Getter
+    private final double errorRate;
+    @Getter
+    private final double pendingRate;
+    private final double webhookFailureRate;
+    private final Duration webhookDelay;
+    private final String webhookBaseUrl;
+    private final Environment environment;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final ScheduledExecutorService webhookScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "payment-gateway-simulator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PaymentGatewaySimulator(@Value("${payment.gateway.simulation.latency-median:80ms}") Duration latencyMedian,
+                                   @Value("${payment.gateway.simulation.latency-p99:1500ms}") Duration latencyP99,
+                                   @Value("${payment.gateway.simulation.error-rate:0.02}") double errorRate,
+                                   @Value("${payment.gateway.simulation.pending-rate:0.1}") double pendingRate,
+                                   @Value("${payment.gateway.simulation.webhook-failure-rate:0.1}") double webhookFailureRate,
+                                   @Value("${payment.gateway.simulation.webhook-delay:2s}") Duration webhookDelay,
+                                   @Value("${payment.gateway.simulation.webhook-base-url:}") String webhookBaseUrl,
+                                   Environment environment,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        if (latencyP99.compareTo(latencyMedian) < 0) {
+            throw new IllegalArgumentException("latency-p99는 latency-median 이상이어야 합니다.");
+        }
+        this.medianMillis = latencyMedian.toMillis();
+        this.sigma = medianMillis > 0 ? Math.log((double) latencyP99.toMillis() / medianMillis) / Z_99 : 0;
+        this.errorRate = errorRate;
+        this.pendingRate = pendingRate;
+        this.webhookFailureRate = webhookFailureRate;
+        this.webhookDelay = webhookDelay;
+        this.webhookBaseUrl = webhookBaseUrl;
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        log.warn("PG 시뮬레이션 모드 - 실제 결제사 대신 대역 사용. latency(p50/p99): {}/{}, error-rate: {}, pending-rate: {}",
+                latencyMedian, latencyP99, errorRate, pendingRate);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof PaymentGateway gateway && !(bean instanceof SimulatedPaymentGateway)) {
+            return new SimulatedPaymentGateway(gateway, this);
+        }
+        return bean;
+    }
+
+    /**
+     * 이번 호출의 PG 응답 지연 (로그정규 분포)
+     */
+    long sampleLatencyMillis() {
+        double z = ThreadLocalRandom.current().nextGaussian();
+        return Math.round(medianMillis * Math.exp(sigma * z));
+    }
+
+    /**
+     * webhook-delay ~ 2 * webhook-delay 사이에 최종 결과 웹훅 전송
+     * - 동기 응답이 SUCCESS였으면 같은 결과, PENDING이었으면 webhook-failure-rate 확률로 FAILED
+     */
+    void scheduleWebhook(String providerName, String transactionId, double amount, boolean pending) {
+        String status = pending && ThreadLocalRandom.current().nextDouble() < webhookFailureRate ? "FAILED" : "SUCCESS";
+        long delayMillis = webhookDelay.toMillis() + ThreadLocalRandom.current().nextLong(webhookDelay.toMillis() + 1);
+        Map<String, Object> payload = Map.of("transactionId", transactionId, "status", status, "amount", amount);
+        webhookScheduler.schedule(() -> sendWebhook(providerName, payload, 1), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void count(String name, String providerName) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.counter(name, "provider", providerName).increment();
+        }
+    }
+
+    private void sendWebhook(String providerName, Map<String, Object> payload, int attempt) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(baseUrl() + "/webhooks/payments/" + providerName))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(5))
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload)))
+                    .build();
+        } catch (Exception e) {
+            log.error("시뮬레이션 웹훅 생성 실패. payload: {}", payload, e);
+            return;
+        }
+
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+            int status = response != null ? response.statusCode() : -1;
+            if (error == null && status / 100 == 2) {
+                count("payment.gateway.simulation.webhooks", providerName);
+                return;
+            }
+            if (attempt >= MAX_WEBHOOK_ATTEMPTS || webhookScheduler.isShutdown()) {
+                count("payment.gateway.simulation.webhooks.dropped", providerName);
+                log.warn("시뮬레이션 웹훅 전송 포기. provider: {}, payload: {}, status: {}", providerName, payload, status);
+                return;
+            }
+            count("payment.gateway.simulation.webhooks.redelivered", providerName);
+            long backoffMillis = 200L << attempt;
+            webhookScheduler.schedule(() -> sendWebhook(providerName, payload, attempt + 1), backoffMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    /**
+     * 웹훅 대상: 설정값이 없으면 현재 서버 (server.port=0 이면 실제 바인딩된 포트)
+     */
+    private String baseUrl() {
+        if (!webhookBaseUrl.isBlank()) {
+            return webhookBaseUrl;
+        }
+        String port = environment.getProperty("local.server.port", environment.getProperty("server.port", "8080"));
+        return "http://localhost:" + port;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        webhookScheduler.shutdownNow();
+    }
+}
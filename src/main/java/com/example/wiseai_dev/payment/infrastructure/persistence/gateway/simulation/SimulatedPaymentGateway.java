@@ -0,0 +1,65 @@
+package com.example.wiseai_dev.payment.infrastructure.persistence.gateway.simulation;
+
+import com.example.wiseai_dev.payment.domain.gateway.PaymentGateway;
+import com.example.wiseai_dev.payment.domain.model.Payment;
+import com.example.wiseai_dev.payment.domain.model.PaymentResult;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지연/오류/비동기 확정을 주입하는 PG 대역 (PaymentGatewaySimulator가 실제 게이트웨이를 감싸서 등록)
+ * - 거래 ID는 가맹점 거래 ID(결제 대기 시 발급한 값)를 그대로 돌려줌
+ *   → 응답이 제한 시간을 넘겨 반영되지 않아도 뒤따르는 웹훅이 같은 결제를 찾을 수 있음
+ */
+class SimulatedPaymentGateway implements PaymentGateway {
+
+    private final PaymentGateway delegate;
+    private final PaymentGatewaySimulator simulator;
+
+    SimulatedPaymentGateway(PaymentGateway delegate, PaymentGatewaySimulator simulator) {
+        this.delegate = delegate;
+        this.simulator = simulator;
+    }
+
+    @Override
+    public String getProviderName() {
+        return delegate.getProviderName();
+    }
+
+    @Override
+    public PaymentResult processPayment(Payment payment) {
+        String providerName = getProviderName();
+        try {
+            Thread.sleep(simulator.sampleLatencyMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PG 응답 대기 중 중단되었습니다.", e);
+        }
+
+        double roll = ThreadLocalRandom.current().nextDouble();
+        if (roll < simulator.getErrorRate()) {
+            simulator.count("payment.gateway.simulation.errors", providerName);
+            throw new IllegalStateException("[시뮬레이션] " + providerName + " PG 오류");
+        }
+
+        String transactionId = payment.getTransactionId();
+        boolean pending = roll < simulator.getErrorRate() + simulator.getPendingRate();
+        // 실제 PG처럼 동기 응답과 별개로 결과 웹훅도 전송 (PENDING이면 이 웹훅이 결과를 확정)
+        simulator.scheduleWebhook(providerName, transactionId, payment.getAmount(), pending);
+
+        PaymentStatus status = pending ? PaymentStatus.PENDING : PaymentStatus.SUCCESS;
+        return PaymentResult.builder()
+                .status(status)
+                .transactionId(transactionId)
+                .providerName(providerName + "_SIMULATED")
+                .rawResponse(String.format("{\"status\":\"%s\", \"txnId\":\"%s\"}", status, transactionId))
+                .build();
+    }
+
+    @Override
+    public void processWebhook(Map<String, Object> webhookData) {
+        delegate.processWebhook(webhookData);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.wiseai_dev.payment.infrastructure.persistence.jpa;
+
+import com.example.wiseai_dev.payment.domain.model.IdempotencyKey;
+import com.example.wiseai_dev.payment.infrastructure.persistence.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    // save()는 키가 있으면 merge(UPDATE)로 덮어쓰므로, 선점은 INSERT로만 처리 (중복 키는 PK 위반)
+    @Transactional
+    @Modifying
+    @Query(value = "insert into idempotency_keys " +
+            "(idempotency_key, reservation_id, provider_name, status, created_at, expires_at) " +
+            "values (:key, :reservationId, :providerName, :status, :createdAt, :expiresAt)",
+            nativeQuery = true)
+    void insert(@Param("key") String key,
+                @Param("reservationId") Long reservationId,
+                @Param("providerName") String providerName,
+                @Param("status") String status,
+                @Param("createdAt") LocalDateTime createdAt,
+                @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyKeyEntity k set k.status = :status, k.responseBody = :responseBody where k.key = :key")
+    int updateStatus(@Param("key") String key,
+                     @Param("status") IdempotencyKey.Status status,
+                     @Param("responseBody") String responseBody);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity k where k.key = :key and k.expiresAt < :now")
+    int deleteExpiredByKey(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyKeyEntity k where k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
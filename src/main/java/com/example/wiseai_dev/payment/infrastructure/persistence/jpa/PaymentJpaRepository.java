@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long> {
@@ -19,6 +21,11 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentEntity, Long>
     // 트랜잭션 ID 기반 조회
     Optional<PaymentEntity> findByTransactionId(String transactionId);
 
+    // 웹훅 일괄 반영용: 예약/결제사까지 한 번에 조회
+    @Query("select p from PaymentEntity p join fetch p.reservation join fetch p.paymentProvider " +
+            "where p.transactionId in :transactionIds")
+    List<PaymentEntity> findAllByTransactionIdIn(@Param("transactionIds") Collection<String> transactionIds);
+
     Optional<PaymentEntity> findByReservation_Id(Long reservationId);
 
     // 예약 ID 기반 삭제
@@ -0,0 +1,55 @@
+package com.example.wiseai_dev.payment.infrastructure.persistence.repository;
+
+import com.example.wiseai_dev.payment.domain.model.IdempotencyKey;
+import com.example.wiseai_dev.payment.domain.repository.IdempotencyKeyRepository;
+import com.example.wiseai_dev.payment.infrastructure.persistence.entity.IdempotencyKeyEntity;
+import com.example.wiseai_dev.payment.infrastructure.persistence.jpa.IdempotencyKeyJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepositoryImpl implements IdempotencyKeyRepository {
+
+    private final IdempotencyKeyJpaRepository jpaRepository;
+
+    @Override
+    public Optional<IdempotencyKey> findByKey(String key) {
+        return jpaRepository.findById(key).map(IdempotencyKeyEntity::toDomainModel);
+    }
+
+    @Override
+    public void insert(IdempotencyKey idempotencyKey) {
+        jpaRepository.insert(
+                idempotencyKey.getKey(),
+                idempotencyKey.getReservationId(),
+                idempotencyKey.getProviderName(),
+                idempotencyKey.getStatus().name(),
+                idempotencyKey.getCreatedAt(),
+                idempotencyKey.getExpiresAt()
+        );
+    }
+
+    @Override
+    public void complete(String key, String responseBody) {
+        jpaRepository.updateStatus(key, IdempotencyKey.Status.COMPLETED, responseBody);
+    }
+
+    @Override
+    public void deleteByKey(String key) {
+        jpaRepository.deleteById(key);
+    }
+
+    @Override
+    public int deleteExpiredByKey(String key, LocalDateTime now) {
+        return jpaRepository.deleteExpiredByKey(key, now);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return jpaRepository.deleteExpired(now);
+    }
+}
@@ -6,6 +6,7 @@ import com.example.wiseai_dev.payment.infrastructure.persistence.entity.PaymentP
 import com.example.wiseai_dev.payment.infrastructure.persistence.jpa.PaymentProviderJpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,6 +23,13 @@ public class PaymentProviderRepositoryImpl implements PaymentProviderRepository
         return jpaRepository.findByName(paymentProviderName).map(this::fromEntity);
     }
 
+    @Override
+    public List<PaymentProvider> findAll() {
+        return jpaRepository.findAll().stream()
+                .map(this::fromEntity)
+                .toList();
+    }
+
     // PaymentProviderEntity를 PaymentProvider 도메인 모델로 변환
     private PaymentProvider fromEntity(PaymentProviderEntity entity) {
         if (entity == null) {
@@ -14,6 +14,8 @@ import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -52,6 +54,21 @@ public class PaymentRepositoryImpl implements PaymentRepository {
                 .map(this::fromEntity);
     }
 
+    @Override
+    public List<Payment> findAllByTransactionIdIn(Collection<String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByTransactionIdIn(transactionIds).stream()
+                .map(this::fromEntity)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jpaRepository.deleteById(id);
+    }
+
     // --- 변환 메서드 ---
 
     /**
@@ -96,23 +113,15 @@ public class PaymentRepositoryImpl implements PaymentRepository {
         if (entity.getReservation() != null) {
             ReservationEntity r = entity.getReservation();
 
-            // UserEntity → User
-            User userDomain = null;
-            if (r.getUser() != null) {
-                UserEntity u = r.getUser();
-                userDomain = User.builder()
-                        .id(u.getId())
-                        .name(u.getName())
-                        .email(u.getEmail())
-                        .build();
-            }
+            // UserEntity → User (지연 로딩 프록시는 초기화하지 않고 id만 사용)
+            User userDomain = UserEntity.toDomainReference(r.getUser());
 
             reservationDomain = Reservation.builder()
                     .id(r.getId())
                     .meetingRoomId(r.getMeetingRoomId())
                     .startTime(r.getStartTime())
                     .endTime(r.getEndTime())
-//                    .user(userDomain)
+                    .user(userDomain)
                     .status(r.getStatus() != null ? r.getStatus() : ReservationStatus.PENDING_PAYMENT)
                     .totalAmount(r.getTotalAmount())
                     .version(r.getVersion())
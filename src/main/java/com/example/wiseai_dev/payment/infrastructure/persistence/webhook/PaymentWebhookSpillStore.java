@@ -0,0 +1,203 @@
+package com.example.wiseai_dev.payment.infrastructure.persistence.webhook;
+
+import com.example.wiseai_dev.payment.domain.model.PaymentWebhookEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 웹훅 큐가 가득 찼을 때의 디스크 적재소 (NDJSON 세그먼트 파일)
+ * - 이벤트마다 fsync 후 반환 → 응답을 보낸 웹훅은 프로세스가 죽어도 유실되지 않음
+ * - 재처리 시 현재 세그먼트를 봉인하고 봉인된 파일만 읽음 (쓰기와 읽기가 같은 파일을 건드리지 않음)
+ * - 재처리가 끝난 세그먼트만 삭제, 기동 시 남아 있는 세그먼트는 다시 재처리 대상
+ * - 세그먼트 이름은 webhook-<millis>-<6자리 순번> (이름순 = 생성순)
+ * - 건별 처리로도 반영하지 못한 이벤트는 rejected/ 아래 날짜별 파일에 보관 (자동 재처리 대상 아님)
+ */
+@Slf4j
+@Component
+public class PaymentWebhookSpillStore {
+
+    private static final String SUFFIX = ".ndjson";
+    private static final String REJECTED_DIRECTORY = "rejected";
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong segmentSequence = new AtomicLong();
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    private FileChannel current;
+
+    public PaymentWebhookSpillStore(@Value("${payment.webhook.spill-dir:./data/webhook-spill}") Path directory,
+                                    ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+        this.pending.set(hasSegments());
+    }
+
+    /**
+     * 이벤트 한 건을 현재 세그먼트에 기록 (fsync까지 완료 후 반환)
+     */
+    public void append(PaymentWebhookEvent event) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8);
+        lock.lock();
+        try {
+            if (current == null) {
+                Files.createDirectories(directory);
+                Path segment = directory.resolve(String.format("webhook-%d-%06d%s",
+                        System.currentTimeMillis(), segmentSequence.incrementAndGet(), SUFFIX));
+                current = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            }
+            write(current, line);
+            pending.set(true);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 반영할 수 없는 이벤트 보관 (rejected/webhook-rejected-<날짜>.ndjson, fsync까지 완료 후 반환)
+     */
+    public void reject(PaymentWebhookEvent event) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8);
+        lock.lock();
+        try {
+            Path rejectedDirectory = Files.createDirectories(directory.resolve(REJECTED_DIRECTORY));
+            Path file = rejectedDirectory.resolve("webhook-rejected-" + LocalDate.now() + SUFFIX);
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                write(channel, line);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보관된(반영 실패) 이벤트 목록 (수동 확인/재전송용)
+     */
+    public List<PaymentWebhookEvent> readRejected() throws IOException {
+        Path rejectedDirectory = directory.resolve(REJECTED_DIRECTORY);
+        if (!Files.isDirectory(rejectedDirectory)) {
+            return List.of();
+        }
+        List<PaymentWebhookEvent> events = new ArrayList<>();
+        try (Stream<Path> files = Files.list(rejectedDirectory)) {
+            for (Path file : files.sorted().toList()) {
+                events.addAll(read(file));
+            }
+        }
+        return events;
+    }
+
+    private static void write(FileChannel channel, byte[] line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(line);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    /**
+     * 재처리할 세그먼트가 있을 수 있는지 (빠른 확인용)
+     */
+    public boolean hasPending() {
+        return pending.get();
+    }
+
+    /**
+     * 현재 세그먼트를 봉인하고 봉인된 세그먼트 목록 반환 (오래된 순)
+     */
+    public List<Path> sealSegments() throws IOException {
+        lock.lock();
+        try {
+            closeCurrent();
+            pending.set(false);
+            if (!Files.isDirectory(directory)) {
+                return List.of();
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.filter(path -> path.getFileName().toString().endsWith(SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public List<PaymentWebhookEvent> read(Path segment) throws IOException {
+        List<PaymentWebhookEvent> events = new ArrayList<>();
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                events.add(objectMapper.readValue(line, PaymentWebhookEvent.class));
+            } catch (IOException e) {
+                // 기록 도중 종료되어 잘린 마지막 줄 등
+                log.warn("읽을 수 없는 웹훅 적재 라인 - 건너뜀. segment: {}, error: {}", segment, e.getMessage());
+            }
+        }
+        return events;
+    }
+
+    public void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 재처리 실패 시 다시 시도하도록 표시
+     */
+    public void markPending() {
+        pending.set(true);
+    }
+
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closeCurrent();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void closeCurrent() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+
+    private boolean hasSegments() {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.anyMatch(path -> path.getFileName().toString().endsWith(SUFFIX));
+        } catch (IOException e) {
+            return true;
+        }
+    }
+}
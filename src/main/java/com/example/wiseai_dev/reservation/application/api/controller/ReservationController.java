@@ -1,18 +1,34 @@
 package com.example.wiseai_dev.reservation.application.api.controller;
 
 import com.example.wiseai_dev.global.ApiResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationBatchRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationPageResponse;
 import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
 import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationSeriesRequest;
 import com.example.wiseai_dev.reservation.application.api.dto.ReservationUpdateRequest;
+import com.example.wiseai_dev.reservation.application.service.BookingExecutor;
+import com.example.wiseai_dev.reservation.application.service.ReservationExportService;
 import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSearchCondition;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/reservations")
@@ -20,12 +36,33 @@ import java.util.List;
 @Tag(name = "Reservation API", description = "회의실 예약 관련 API")
 public class ReservationController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final ReservationService reservationService;
+    private final BookingExecutor bookingExecutor;
+    private final ReservationExportService reservationExportService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "예약 생성", description = "새로운 회의실 예약을 생성합니다.")
     @PostMapping
-    public ResponseEntity<ApiResponse<ReservationResponse>> create(@Valid @RequestBody ReservationRequest request) {
-        ReservationResponse response = reservationService.createReservation(request);
+    public CompletableFuture<ResponseEntity<ApiResponse<ReservationResponse>>> create(
+            @Valid @RequestBody ReservationRequest request) {
+        // 회의실 샤드 실행기(sharded)에서는 레인 처리를 기다리는 동안 요청 스레드를 점유하지 않음
+        return bookingExecutor.create(request)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.ok(response)));
+    }
+
+    @Operation(summary = "예약 일괄 생성", description = "여러 예약을 한 번에 생성합니다(최대 500건). 하나라도 겹치거나 유효하지 않으면 전체가 취소됩니다.")
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<ReservationResponse>>> createBatch(@Valid @RequestBody ReservationBatchRequest request) {
+        List<ReservationResponse> response = reservationService.createReservations(request.getReservations());
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "반복 예약 생성", description = "매일/매주 반복되는 예약을 한 번에 생성합니다(최대 500회). 겹치는 회차가 있으면 전체가 취소됩니다.")
+    @PostMapping("/series")
+    public ResponseEntity<ApiResponse<List<ReservationResponse>>> createSeries(@Valid @RequestBody ReservationSeriesRequest request) {
+        List<ReservationResponse> response = reservationService.createReservationSeries(request);
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
@@ -36,27 +73,77 @@ public class ReservationController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
-    @Operation(summary = "예약 전체 조회", description = "모든 예약을 조회합니다.")
+    @Operation(summary = "예약 목록 조회", description = "조건에 맞는 예약을 ID 순 커서 페이지로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<ReservationResponse>>> getAll() {
-        List<ReservationResponse> responses = reservationService.getReservations();
-        return ResponseEntity.ok(ApiResponse.ok(responses));
+    public ResponseEntity<ApiResponse<ReservationPageResponse>> getPage(
+            @RequestParam(required = false) Long meetingRoomId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        ReservationSearchCondition condition = toCondition(meetingRoomId, userId, status, from, to);
+        ReservationPageResponse response = reservationService.getReservationPage(condition, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "예약 내보내기", description = "조건에 맞는 예약 전체를 NDJSON(한 줄에 예약 하나)으로 스트리밍합니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Long meetingRoomId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) ReservationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        ReservationSearchCondition condition = toCondition(meetingRoomId, userId, status, from, to);
+        StreamingResponseBody body = outputStream ->
+                reservationExportService.export(condition, chunk -> writeLines(outputStream, chunk));
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
     }
 
     @Operation(summary = "예약 수정", description = "예약 정보를 변경합니다.")
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<ReservationResponse>> update(
+    public CompletableFuture<ResponseEntity<ApiResponse<ReservationResponse>>> update(
             @PathVariable Long id,
             @Valid @RequestBody ReservationUpdateRequest request
     ) {
-        ReservationResponse response = reservationService.updateReservation(id, request);
-        return ResponseEntity.ok(ApiResponse.ok(response));
+        return bookingExecutor.update(id, request)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.ok(response)));
     }
 
     @Operation(summary = "예약 취소", description = "예약 상태를 CANCELLED로 변경합니다.")
     @PatchMapping("/{id}/cancel")
-    public ResponseEntity<ApiResponse<ReservationResponse>> cancel(@PathVariable Long id) {
-        ReservationResponse response = reservationService.updateReservationStatusToCancelled(id);
-        return ResponseEntity.ok(ApiResponse.ok(response));
+    public CompletableFuture<ResponseEntity<ApiResponse<ReservationResponse>>> cancel(@PathVariable Long id) {
+        return bookingExecutor.cancel(id)
+                .thenApply(response -> ResponseEntity.ok(ApiResponse.ok(response)));
+    }
+
+    private ReservationSearchCondition toCondition(Long meetingRoomId, Long userId, ReservationStatus status,
+                                                   LocalDateTime from, LocalDateTime to) {
+        return ReservationSearchCondition.builder()
+                .meetingRoomId(meetingRoomId)
+                .userId(userId)
+                .status(status)
+                .from(from)
+                .to(to)
+                .build();
+    }
+
+    // 청크 단위로 쓰고 flush (클라이언트가 바로 받아볼 수 있도록)
+    private void writeLines(OutputStream outputStream, List<ReservationResponse> chunk) {
+        try {
+            for (ReservationResponse reservation : chunk) {
+                outputStream.write(objectMapper.writeValueAsBytes(reservation));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
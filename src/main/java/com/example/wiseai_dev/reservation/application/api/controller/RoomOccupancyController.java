@@ -0,0 +1,49 @@
+package com.example.wiseai_dev.reservation.application.api.controller;
+
+import com.example.wiseai_dev.global.ApiResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.RoomOccupancyResponse;
+import com.example.wiseai_dev.reservation.application.service.RoomOccupancyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/occupancy")
+@RequiredArgsConstructor
+@Tag(name = "Occupancy API", description = "회의실 일자별 예약 현황 API")
+public class RoomOccupancyController {
+
+    private final RoomOccupancyService roomOccupancyService;
+
+    @Operation(summary = "회의실 기간별 예약 현황", description = "회의실 하나의 일자별 예약 시간/비율/확정 매출을 조회합니다. (최대 366일)")
+    @GetMapping("/rooms/{meetingRoomId}")
+    public ResponseEntity<ApiResponse<List<RoomOccupancyResponse>>> getRoomOccupancy(
+            @PathVariable Long meetingRoomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<RoomOccupancyResponse> response = roomOccupancyService.getRoomOccupancy(meetingRoomId, from, to);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "날짜별 전체 회의실 예약 현황", description = "특정 날짜의 회의실별 예약 시간/비율/확정 매출을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<RoomOccupancyResponse>>> getDailyOccupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        List<RoomOccupancyResponse> response = roomOccupancyService.getDailyOccupancy(date);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
+    @Operation(summary = "예약 현황 재구성", description = "예약 원본에서 예약 현황을 다시 계산합니다. (백그라운드, meetingRoomId 미지정 시 전체 회의실)")
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuild(@RequestParam(required = false) Long meetingRoomId) {
+        return ResponseEntity.accepted().body(ApiResponse.ok(roomOccupancyService.rebuild(meetingRoomId)));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.wiseai_dev.reservation.application.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Schema(description = "예약 일괄 생성 요청 DTO (전체 성공 또는 전체 실패)")
+@Getter
+@Setter
+public class ReservationBatchRequest {
+
+    @Schema(description = "생성할 예약 목록 (최대 500건)")
+    @NotEmpty(message = "예약 목록은 비어 있을 수 없습니다.")
+    @Size(max = 500, message = "한 번에 최대 500건까지 생성할 수 있습니다.")
+    private List<@Valid ReservationRequest> reservations;
+}
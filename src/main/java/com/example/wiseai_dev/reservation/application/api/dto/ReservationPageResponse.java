@@ -0,0 +1,22 @@
+package com.example.wiseai_dev.reservation.application.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(name = "ReservationPageResponse", description = "예약 목록 (커서 기반 페이지)")
+public class ReservationPageResponse {
+
+    @Schema(description = "예약 목록 (ID 오름차순)")
+    private List<ReservationResponse> items;
+
+    @Schema(description = "다음 페이지 조회 시 cursor로 전달할 값 (마지막 페이지면 null)", example = "1020")
+    private Long nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,82 @@
+package com.example.wiseai_dev.reservation.application.api.dto;
+
+import com.example.wiseai_dev.reservation.domain.model.RecurrenceFrequency;
+import com.example.wiseai_dev.reservation.domain.model.RecurrenceRule;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Schema(
+        description = "반복 예약 생성 요청 DTO (첫 회차 시간 + 반복 규칙, count와 until 중 하나만 지정)",
+        example = "{\n" +
+                "  \"meetingRoomId\": 1,\n" +
+                "  \"startTime\": \"2025-09-01T10:00:00\",\n" +
+                "  \"endTime\": \"2025-09-01T11:00:00\",\n" +
+                "  \"userId\": 1,\n" +
+                "  \"frequency\": \"WEEKLY\",\n" +
+                "  \"interval\": 1,\n" +
+                "  \"daysOfWeek\": [\"MONDAY\", \"THURSDAY\"],\n" +
+                "  \"count\": 52\n" +
+                "}"
+)
+@Getter
+@Setter
+public class ReservationSeriesRequest {
+
+    @Schema(description = "회의실 ID", example = "1")
+    @NotNull(message = "회의실 ID는 필수입니다.")
+    private Long meetingRoomId;
+
+    @Schema(description = "첫 회차 시작 시간", example = "2025-09-01T10:00:00")
+    @NotNull(message = "시작 시간은 필수입니다.")
+    @Future(message = "시작 시간은 현재 시각 이후여야 합니다.")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime startTime;
+
+    @Schema(description = "첫 회차 종료 시간", example = "2025-09-01T11:00:00")
+    @NotNull(message = "종료 시간은 필수입니다.")
+    @Future(message = "종료 시간은 현재 시각 이후여야 합니다.")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime endTime;
+
+    @Schema(description = "예약자(사용자) ID", example = "1")
+    @NotNull(message = "예약자 ID는 필수입니다.")
+    private Long userId;
+
+    @Schema(description = "반복 주기 (DAILY / WEEKLY)", example = "WEEKLY")
+    @NotNull(message = "반복 주기는 필수입니다.")
+    private RecurrenceFrequency frequency;
+
+    @Schema(description = "반복 간격 (기본 1: 매일/매주, 2: 격일/격주)", example = "1")
+    @Min(value = 1, message = "반복 간격은 1 이상이어야 합니다.")
+    private Integer interval;
+
+    @Schema(description = "WEEKLY 반복 요일 (미지정 시 첫 회차의 요일)", example = "[\"MONDAY\", \"THURSDAY\"]")
+    private Set<DayOfWeek> daysOfWeek;
+
+    @Schema(description = "반복 횟수 (첫 회차 포함)", example = "52")
+    @Min(value = 1, message = "반복 횟수는 1 이상이어야 합니다.")
+    private Integer count;
+
+    @Schema(description = "반복 종료일 (이 날짜까지 포함)", example = "2026-08-31")
+    private LocalDate until;
+
+    public RecurrenceRule toRule() {
+        return RecurrenceRule.builder()
+                .frequency(frequency)
+                .interval(interval != null ? interval : 1)
+                .daysOfWeek(daysOfWeek)
+                .count(count)
+                .until(until)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.wiseai_dev.reservation.application.api.dto;
+
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
+import com.example.wiseai_dev.reservation.domain.model.RoomDailyOccupancy;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class RoomOccupancyResponse {
+
+    @Schema(description = "회의실 ID", example = "1")
+    private Long meetingRoomId;
+
+    @Schema(description = "날짜", example = "2025-09-01")
+    private LocalDate date;
+
+    @Schema(description = "예약된 시간(분, 결제 대기 포함)", example = "180")
+    private int bookedMinutes;
+
+    @Schema(description = "하루(24시간) 대비 예약 비율", example = "0.125")
+    private double occupancyRate;
+
+    @Schema(description = "확정 예약 매출 (여러 날에 걸친 예약은 이용 시간 비율로 배분)", example = "30000")
+    private double revenue;
+
+    @Schema(description = "예약된 30분 슬롯 비트맵 (bit i = 00:00 + 30분 × i)", example = "1044480")
+    private long slots;
+
+    public static RoomOccupancyResponse from(RoomDailyOccupancy occupancy) {
+        return new RoomOccupancyResponse(
+                occupancy.getMeetingRoomId(),
+                occupancy.getDate(),
+                occupancy.getBookedMinutes(),
+                (double) occupancy.getBookedMinutes() / (ReservationSlots.SLOTS_PER_DAY * ReservationSlots.SLOT_MINUTES),
+                occupancy.getRevenue(),
+                occupancy.getSlots()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.wiseai_dev.reservation.application.service;
+
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationUpdateRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 예약 생성/변경/취소 실행 방식 (reservation.booking.executor)
+ * - direct(기본): 요청 스레드에서 ReservationService를 바로 호출
+ * - sharded: 회의실 해시 샤드별 단일 기록 스레드가 모아서 그룹 커밋 (RoomShardedBookingExecutor)
+ * 실패는 ReservationService와 같은 예외(IllegalArgumentException / IllegalStateException)로 완료됨
+ */
+public interface BookingExecutor {
+
+    CompletableFuture<ReservationResponse> create(ReservationRequest request);
+
+    CompletableFuture<ReservationResponse> update(Long reservationId, ReservationUpdateRequest request);
+
+    CompletableFuture<ReservationResponse> cancel(Long reservationId);
+}
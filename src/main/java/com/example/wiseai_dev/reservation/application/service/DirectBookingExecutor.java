@@ -0,0 +1,36 @@
+package com.example.wiseai_dev.reservation.application.service;
+
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationUpdateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 기본 실행 방식: 요청 스레드에서 바로 처리 (요청마다 트랜잭션 하나)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.booking.executor", havingValue = "direct", matchIfMissing = true)
+public class DirectBookingExecutor implements BookingExecutor {
+
+    private final ReservationService reservationService;
+
+    @Override
+    public CompletableFuture<ReservationResponse> create(ReservationRequest request) {
+        return CompletableFuture.completedFuture(reservationService.createReservation(request));
+    }
+
+    @Override
+    public CompletableFuture<ReservationResponse> update(Long reservationId, ReservationUpdateRequest request) {
+        return CompletableFuture.completedFuture(reservationService.updateReservation(reservationId, request));
+    }
+
+    @Override
+    public CompletableFuture<ReservationResponse> cancel(Long reservationId) {
+        return CompletableFuture.completedFuture(reservationService.updateReservationStatusToCancelled(reservationId));
+    }
+}
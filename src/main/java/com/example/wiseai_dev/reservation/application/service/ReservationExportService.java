@@ -0,0 +1,34 @@
+package com.example.wiseai_dev.reservation.application.service;
+
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationPageResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSearchCondition;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 예약 내보내기
+ * - 커서 페이지를 순서대로 읽어 청크 단위로 전달
+ * - 페이지마다 ReservationService의 짧은 읽기 트랜잭션을 사용하므로 전체 건수와 무관하게 메모리 사용량이 일정
+ */
+@Service
+@RequiredArgsConstructor
+public class ReservationExportService {
+
+    private static final int CHUNK_SIZE = ReservationService.MAX_PAGE_SIZE;
+
+    private final ReservationService reservationService;
+
+    public void export(ReservationSearchCondition condition, Consumer<List<ReservationResponse>> chunkConsumer) {
+        Long cursor = null;
+        ReservationPageResponse page;
+        do {
+            page = reservationService.getReservationPage(condition, cursor, CHUNK_SIZE);
+            chunkConsumer.accept(page.getItems());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+    }
+}
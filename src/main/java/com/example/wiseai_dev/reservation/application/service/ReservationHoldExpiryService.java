@@ -0,0 +1,166 @@
+package com.example.wiseai_dev.reservation.application.service;
+
+import com.example.wiseai_dev.reservation.domain.model.ReservationHold;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 대기(PENDING_PAYMENT) 예약 만료 처리
+ * - 결제가 시작되지 않은 채 ttl이 지난 예약을 EXPIRED로 바꿔 점유 구간을 해제
+ * - 스캔(scan-interval 주기): idx_status_created_at 범위 조회로 다음 스캔 전까지 만료될 예약을 지연 큐에 적재
+ *   (createdAt, id) 커서로 지난 스캔이 읽은 위치 다음부터 scan-limit건씩 읽고, 끝까지 읽으면 처음부터 다시
+ *   → 건너뛴(잠긴) 오래된 예약이 scan-limit 이상 쌓여도 뒤의 예약이 계속 적재됨
+ * - 만료 스레드: 만료 시각이 된 예약을 최대 batch-size건씩 모아 짧은 트랜잭션 하나로 처리
+ *   선점은 SKIP LOCKED라 결제/변경/취소 중인 예약은 기다리지 않고 건너뛰고, 다음 스캔에서 다시 적재됨
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "reservation.hold.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class ReservationHoldExpiryService {
+
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration ttl;
+    private final Duration scanInterval;
+    private final int batchSize;
+    private final int scanLimit;
+    private final Counter expired;
+    private final Counter skipped;
+
+    private final DelayQueue<DueHold> queue = new DelayQueue<>();
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    // 다음 스캔의 시작 위치 (null이면 처음부터), 스케줄러 스레드에서만 사용
+    private ReservationHold cursor;
+    private final Thread worker;
+
+    public ReservationHoldExpiryService(ReservationRepository reservationRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${reservation.hold.expiry.ttl:15m}") Duration ttl,
+                                        @Value("${reservation.hold.expiry.scan-interval:30s}") Duration scanInterval,
+                                        @Value("${reservation.hold.expiry.batch-size:100}") int batchSize,
+                                        @Value("${reservation.hold.expiry.scan-limit:1000}") int scanLimit) {
+        this.reservationRepository = reservationRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.ttl = ttl;
+        this.scanInterval = scanInterval;
+        this.batchSize = batchSize;
+        this.scanLimit = scanLimit;
+        this.expired = Counter.builder("reservation.hold.expiry").tag("result", "expired").register(meterRegistry);
+        this.skipped = Counter.builder("reservation.hold.expiry").tag("result", "skipped").register(meterRegistry);
+        Gauge.builder("reservation.hold.expiry.queued", queue, DelayQueue::size).register(meterRegistry);
+
+        this.worker = new Thread(this::run, "reservation-hold-expiry");
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.interrupt();
+    }
+
+    /**
+     * 다음 스캔 전까지 만료될 결제 대기 예약을 지연 큐에 적재 (이미 적재된 예약은 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${reservation.hold.expiry.scan-interval:30s}",
+            initialDelayString = "${reservation.hold.expiry.scan-interval:30s}")
+    public void scan() {
+        LocalDateTime horizon = LocalDateTime.now().minus(ttl).plus(scanInterval);
+        ReservationHold after = cursor;
+        List<ReservationHold> holds = readOnlyTransaction.execute(status ->
+                reservationRepository.findHoldsCreatedBefore(horizon, after, scanLimit));
+
+        for (ReservationHold hold : holds) {
+            if (queued.add(hold.getReservationId())) {
+                queue.add(new DueHold(hold.getReservationId(), hold.getCreatedAt().plus(ttl)));
+            }
+        }
+        cursor = holds.size() < scanLimit ? null : holds.get(holds.size() - 1);
+    }
+
+    private void run() {
+        List<DueHold> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, batchSize - 1);
+                expire(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // 실패한 예약은 PENDING_PAYMENT로 남아 다음 스캔에서 다시 적재됨
+                log.warn("결제 대기 예약 만료 처리 실패. count: {}, error: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.forEach(hold -> queued.remove(hold.reservationId));
+                batch.clear();
+            }
+        }
+    }
+
+    private void expire(List<DueHold> batch) {
+        List<Long> reservationIds = batch.stream().map(hold -> hold.reservationId).toList();
+        LocalDateTime createdBefore = LocalDateTime.now().minus(ttl);
+        List<Long> expiredIds = transaction.execute(status ->
+                reservationRepository.expireHolds(reservationIds, createdBefore));
+
+        expired.increment(expiredIds.size());
+        skipped.increment(reservationIds.size() - expiredIds.size());
+        if (!expiredIds.isEmpty()) {
+            log.info("결제 대기 예약 만료. expired: {}, skipped: {}", expiredIds.size(), reservationIds.size() - expiredIds.size());
+        }
+    }
+
+    /**
+     * 지연 큐 항목 (만료 시각 = 생성 시각 + ttl)
+     */
+    private static final class DueHold implements Delayed {
+
+        private final Long reservationId;
+        private final long dueAtMillis;
+
+        private DueHold(Long reservationId, LocalDateTime dueAt) {
+            this.reservationId = reservationId;
+            this.dueAtMillis = dueAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((DueHold) other).dueAtMillis);
+        }
+    }
+}
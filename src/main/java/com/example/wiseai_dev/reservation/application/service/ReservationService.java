@@ -1,43 +1,90 @@
 package com.example.wiseai_dev.reservation.application.service;
 
+import com.example.wiseai_dev.global.config.RetryConfig;
+import com.example.wiseai_dev.global.metrics.MetricOutcomes;
+import com.example.wiseai_dev.global.retry.ContentionTracker;
 import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
 import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationPageResponse;
 import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
 import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationSeriesRequest;
 import com.example.wiseai_dev.reservation.application.api.dto.ReservationUpdateRequest;
 import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSearchCondition;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
 import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
 import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
 import com.example.wiseai_dev.user.domain.model.User;
 import com.example.wiseai_dev.user.domain.repository.UserRepository;
-import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
-import jakarta.persistence.OptimisticLockException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
+    // 목록 조회 페이지 크기 (기본 / 최대)
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 500;
+    // 일괄 생성 최대 건수 (반복 예약의 최대 회차 수도 동일)
+    static final int MAX_BATCH_SIZE = 500;
+    // 반복 예약 실패 메시지에 나열할 최대 회차 수
+    private static final int MAX_REPORTED_CONFLICTS = 10;
+
     private final ReservationRepository reservationRepository;
     private final MeetingRoomRepository meetingRoomRepository;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final ContentionTracker contentionTracker;
 
     /**
-     * 예약 생성
+     * 예약 생성 (reservation.create 타이머, outcome 태그: success / conflict / rejected / error)
+     * - 겹침 검사는 저장 시 슬롯 선점(reservation_slot PK)으로 DB가 판정 - 사전 조회 후 INSERT 사이의 경합 없음
      */
     @Transactional
     public ReservationResponse createReservation(ReservationRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricOutcomes.SUCCESS;
+        try {
+            return create(request);
+        } catch (RuntimeException e) {
+            outcome = MetricOutcomes.of(e);
+            throw e;
+        } finally {
+            sample.stop(timer("reservation.create", "outcome", outcome));
+        }
+    }
+
+    private ReservationResponse create(ReservationRequest request) {
+        Reservation saved = reservationRepository.save(newReservation(request));
+        return ReservationResponse.fromDomain(saved);
+    }
+
+    /**
+     * 요청 검증 후 저장 전 예약 생성 (요금 계산 / 예약자 확인, 쓰기 없음)
+     * - 회의실 단위 예약 실행기(RoomShardedBookingExecutor)가 그룹 저장 전에 사용
+     */
+    Reservation newReservation(ReservationRequest request) {
         validateReservationTime(request.getStartTime(), request.getEndTime());
-        checkTimeAvailability(request.getMeetingRoomId(), request.getStartTime(), request.getEndTime());
 
         double totalAmount = calculateTotalAmount(
                 request.getMeetingRoomId(),
@@ -45,13 +92,10 @@ public class ReservationService {
                 request.getEndTime()
         );
 
-        // UserEntity → User 변환
-        UserEntity userEntity = UserEntity.fromDomainModel(userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다.")));
-        User user = userEntity.toDomainModel();
+        User user = findBooker(request.getUserId());
 
         // 도메인 Reservation 생성
-        Reservation newReservation = Reservation.create(
+        return Reservation.create(
                 request.getMeetingRoomId(),
                 request.getStartTime(),
                 request.getEndTime(),
@@ -59,9 +103,145 @@ public class ReservationService {
                 totalAmount,
                 ReservationStatus.PENDING_PAYMENT
         );
+    }
 
-        Reservation saved = reservationRepository.save(newReservation);
-        return ReservationResponse.fromDomain(saved);
+    /**
+     * 예약 일괄 생성 (reservation.create.batch 타이머)
+     * - 요청 전체의 회의실/기간 점유 슬롯을 한 번에 조회해 기존 예약 및 요청끼리의 겹침을 검사
+     * - 하나라도 실패하면 전체 취소 (부분 저장 없음)
+     * - 저장은 saveAll 한 번 (시퀀스 ID 블록 + JDBC 배치 INSERT), 그 사이 다른 예약이 끼어들면 슬롯 선점에서 실패
+     */
+    @Transactional
+    public List<ReservationResponse> createReservations(List<ReservationRequest> requests) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricOutcomes.SUCCESS;
+        try {
+            return createAll(requests, conflicts -> conflicts.stream()
+                    .map(index -> String.valueOf(index + 1))
+                    .collect(Collectors.joining(", ")) + "번째 예약: 해당 시간대에 이미 예약이 존재합니다.");
+        } catch (RuntimeException e) {
+            outcome = MetricOutcomes.of(e);
+            throw e;
+        } finally {
+            sample.stop(timer("reservation.create.batch", "outcome", outcome));
+        }
+    }
+
+    /**
+     * 반복 예약 생성 (reservation.create.series 타이머)
+     * - 규칙을 메모리에서 회차로 전개한 뒤 일괄 생성과 같은 경로로 처리
+     *   (회의실 점유 슬롯 범위 조회 1회 → 시간순 회차를 슬롯 비트로 검사, saveAll 한 번으로 전체 저장)
+     * - 비용은 회차 수 + 범위 내 기존 예약 수에 비례 (회차별 겹침 쿼리 없음)
+     * - 겹치는 회차가 하나라도 있으면 전체 취소하고 겹치는 회차를 함께 알려줌
+     */
+    @Transactional
+    public List<ReservationResponse> createReservationSeries(ReservationSeriesRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = MetricOutcomes.SUCCESS;
+        try {
+            return createSeries(request);
+        } catch (RuntimeException e) {
+            outcome = MetricOutcomes.of(e);
+            throw e;
+        } finally {
+            sample.stop(timer("reservation.create.series", "outcome", outcome));
+        }
+    }
+
+    private List<ReservationResponse> createSeries(ReservationSeriesRequest request) {
+        validateReservationTime(request.getStartTime(), request.getEndTime());
+        Duration duration = Duration.between(request.getStartTime(), request.getEndTime());
+        List<LocalDateTime> starts = request.toRule().expand(request.getStartTime(), MAX_BATCH_SIZE);
+        if (starts.isEmpty()) {
+            throw new IllegalArgumentException("반복 규칙에 해당하는 일정이 없습니다.");
+        }
+
+        List<ReservationRequest> occurrences = starts.stream()
+                .map(start -> {
+                    ReservationRequest occurrence = new ReservationRequest();
+                    occurrence.setMeetingRoomId(request.getMeetingRoomId());
+                    occurrence.setStartTime(start);
+                    occurrence.setEndTime(start.plus(duration));
+                    occurrence.setUserId(request.getUserId());
+                    return occurrence;
+                })
+                .collect(Collectors.toList());
+
+        return createAll(occurrences, conflicts -> "이미 예약이 존재하는 회차가 " + conflicts.size() + "건 있습니다: "
+                + conflicts.stream()
+                .limit(MAX_REPORTED_CONFLICTS)
+                .map(index -> starts.get(index).toString())
+                .collect(Collectors.joining(", "))
+                + (conflicts.size() > MAX_REPORTED_CONFLICTS ? " 외" : ""));
+    }
+
+    /**
+     * 일괄/반복 생성 공통 처리 (겹치는 요청의 index 목록으로 실패 메시지를 만듦)
+     */
+    private List<ReservationResponse> createAll(List<ReservationRequest> requests,
+                                                Function<List<Integer>, String> conflictMessage) {
+        if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("일괄 생성은 1건 이상 " + MAX_BATCH_SIZE + "건 이하만 가능합니다.");
+        }
+
+        // 1. 시간 검증 + 전체 조회 범위 계산 + 회의실/예약자 id 수집
+        Set<Long> meetingRoomIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        LocalDate fromDate = LocalDate.MAX;
+        LocalDate toDate = LocalDate.MIN;
+        for (ReservationRequest request : requests) {
+            validateReservationTime(request.getStartTime(), request.getEndTime());
+            meetingRoomIds.add(request.getMeetingRoomId());
+            userIds.add(request.getUserId());
+            LocalDate firstDay = LocalDate.ofEpochDay(ReservationSlots.firstDay(request.getStartTime()));
+            LocalDate lastDay = LocalDate.ofEpochDay(ReservationSlots.lastDay(request.getEndTime()));
+            fromDate = firstDay.isBefore(fromDate) ? firstDay : fromDate;
+            toDate = lastDay.isAfter(toDate) ? lastDay : toDate;
+        }
+
+        // 2. 회의실/예약자 존재 확인 (각각 IN 조회 한 번)
+        Map<Long, MeetingRoom> meetingRooms = meetingRoomRepository.findAllByIds(meetingRoomIds);
+        if (!meetingRooms.keySet().containsAll(meetingRoomIds)) {
+            throw new IllegalArgumentException("회의실을 찾을 수 없습니다.");
+        }
+        Map<Long, User> bookers = userRepository.findReferencesByIds(userIds);
+        if (!bookers.keySet().containsAll(userIds)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+
+        // 3. 기존 점유 슬롯 한 번에 조회 → 요청 순서대로 겹침 검사 후 점유 표시 (요청끼리의 겹침도 검출)
+        //    겹치는 요청은 모두 모은 뒤 한 번에 실패 처리
+        Map<Long, long[]> occupied = new HashMap<>(reservationRepository.findOccupiedSlots(meetingRoomIds, fromDate, toDate));
+        int days = (int) ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        List<Reservation> reservations = new ArrayList<>(requests.size());
+        List<Integer> conflicts = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ReservationRequest request = requests.get(i);
+            long[] roomDays = occupied.computeIfAbsent(request.getMeetingRoomId(), id -> new long[days]);
+            if (ReservationSlots.overlaps(roomDays, fromDate, request.getStartTime(), request.getEndTime())) {
+                conflicts.add(i);
+                continue;
+            }
+            ReservationSlots.mark(roomDays, fromDate, request.getStartTime(), request.getEndTime());
+            reservations.add(Reservation.create(
+                    request.getMeetingRoomId(),
+                    request.getStartTime(),
+                    request.getEndTime(),
+                    bookers.get(request.getUserId()),
+                    calculateTotalAmount(meetingRooms.get(request.getMeetingRoomId()),
+                            request.getStartTime(), request.getEndTime()),
+                    ReservationStatus.PENDING_PAYMENT
+            ));
+        }
+
+        if (!conflicts.isEmpty()) {
+            throw new IllegalStateException(conflictMessage.apply(conflicts));
+        }
+
+        // 4. 일괄 저장
+        return reservationRepository.saveAll(reservations).stream()
+                .map(ReservationResponse::fromDomain)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -75,36 +255,56 @@ public class ReservationService {
     }
 
     /**
-     * 예약 전체 조회
+     * 예약 목록 조회 (커서 기반 페이지)
+     * - cursor: 이전 페이지의 nextCursor (첫 페이지는 null)
+     * - size + 1건을 읽어 다음 페이지 존재 여부를 판단
      */
     @Transactional(readOnly = true)
-    public List<ReservationResponse> getReservations() {
-        return reservationRepository.findAll().stream()
+    public ReservationPageResponse getReservationPage(ReservationSearchCondition condition, Long cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        List<Reservation> reservations = reservationRepository.findPage(condition, cursor, pageSize + 1);
+        boolean hasNext = reservations.size() > pageSize;
+        List<ReservationResponse> items = reservations.stream()
+                .limit(pageSize)
                 .map(ReservationResponse::fromDomain)
                 .collect(Collectors.toList());
+
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getId() : null;
+        return new ReservationPageResponse(items, nextCursor, hasNext);
     }
 
     /**
      * 예약 변경 (낙관적 락 + 재시도)
      * - 결제가 완료되지 않은(PENDING_PAYMENT) 상태에서만 변경 가능
+     * - 기존 슬롯을 반납하고 새 시간대를 선점 (겹치면 전체 롤백)
      */
-    @Retryable(
-            value = OptimisticLockException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100)
-    )
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
     @Transactional
     public ReservationResponse updateReservation(Long id, ReservationUpdateRequest request) {
-        Reservation reservation = reservationRepository.findById(id)
+        // 충돌이 잦은 예약은 재시도를 반복하는 대신 행 잠금으로 순서대로 처리
+        Reservation reservation = (contentionTracker.shouldLock("reservation", id)
+                ? reservationRepository.findByIdForUpdate(id)
+                : reservationRepository.findById(id))
                 .orElseThrow(() -> new IllegalArgumentException("예약 정보를 찾을 수 없습니다."));
 
+        applyUpdate(reservation, request);
+        return ReservationResponse.fromDomain(reservationRepository.save(reservation));
+    }
+
+    /**
+     * 변경 내용 검증 후 예약 모델에 반영 (쓰기 없음)
+     */
+    void applyUpdate(Reservation reservation, ReservationUpdateRequest request) {
         // 결제가 완료된 상태라면 수정 불가
         if (reservation.getStatus() != ReservationStatus.PENDING_PAYMENT) {
             throw new IllegalStateException("결제가 완료된 예약은 변경할 수 없습니다.");
         }
 
         validateReservationTime(request.getStartTime(), request.getEndTime());
-        checkTimeAvailability(reservation.getMeetingRoomId(), request.getStartTime(), request.getEndTime(), id);
 
         double newTotalAmount = calculateTotalAmount(
                 reservation.getMeetingRoomId(),
@@ -112,10 +312,10 @@ public class ReservationService {
                 request.getEndTime()
         );
 
-        // userId로 User 갱신 (필요 시)
-        UserEntity userEntity = UserEntity.fromDomainModel(userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다.")));
-        User user = userEntity.toDomainModel();
+        // 예약자가 바뀌는 경우에만 조회
+        User user = Objects.equals(reservation.getUser().getId(), request.getUserId())
+                ? reservation.getUser()
+                : findBooker(request.getUserId());
 
         reservation.update(
                 request.getStartTime(),
@@ -123,29 +323,29 @@ public class ReservationService {
                 user,
                 newTotalAmount
         );
-
-        return ReservationResponse.fromDomain(reservationRepository.save(reservation));
     }
 
     /**
      * 예약 취소 (낙관적 락 + 재시도)
      */
-    @Retryable(
-            value = OptimisticLockException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 100)
-    )
+    @Retryable(interceptor = RetryConfig.OPTIMISTIC_LOCK_RETRY)
     @Transactional
     public ReservationResponse updateReservationStatusToCancelled(Long id) {
         Reservation reservation = reservationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new IllegalArgumentException("취소하려는 예약 정보를 찾을 수 없습니다."));
 
+        applyCancel(reservation);
+        return ReservationResponse.fromDomain(reservationRepository.save(reservation));
+    }
+
+    /**
+     * 취소 가능 여부 검증 후 예약 모델에 반영 (쓰기 없음)
+     */
+    void applyCancel(Reservation reservation) {
         if (reservation.getStatus() == ReservationStatus.CANCELLED) {
             throw new IllegalStateException("이미 취소된 예약입니다.");
         }
-
         reservation.setStatus(ReservationStatus.CANCELLED);
-        return ReservationResponse.fromDomain(reservationRepository.save(reservation));
     }
 
     // ====== 내부 비즈니스 로직 ======
@@ -153,31 +353,36 @@ public class ReservationService {
         if (startTime.isAfter(endTime) || startTime.isEqual(endTime)) {
             throw new IllegalArgumentException("시작 시간은 종료 시간보다 빨라야 합니다.");
         }
-        if (startTime.getMinute() % 30 != 0 || endTime.getMinute() % 30 != 0) {
+        if (!ReservationSlots.isAligned(startTime) || !ReservationSlots.isAligned(endTime)) {
             throw new IllegalArgumentException("예약 시작/종료 시간은 30분 단위여야 합니다.");
         }
     }
 
-    private void checkTimeAvailability(Long meetingRoomId, LocalDateTime startTime, LocalDateTime endTime) {
-        checkTimeAvailability(meetingRoomId, startTime, endTime, null);
+    /**
+     * 예약자 존재 확인 (요청당 1회, id/이름만 조회 - 저장 시에는 id 참조만 사용)
+     */
+    private User findBooker(Long userId) {
+        return userRepository.findReferenceById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
     }
 
-    private void checkTimeAvailability(Long meetingRoomId, LocalDateTime startTime,
-                                       LocalDateTime endTime, Long currentReservationId) {
-        List<Reservation> existing = reservationRepository.findByMeetingRoomIdAndTimeRange(meetingRoomId, startTime, endTime);
-        if (!existing.isEmpty()) {
-            if (currentReservationId != null &&
-                    existing.size() == 1 &&
-                    existing.get(0).getId().equals(currentReservationId)) {
-                return;
-            }
-            throw new IllegalStateException("해당 시간대에 이미 예약이 존재합니다.");
-        }
+    private Timer timer(String name, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     private double calculateTotalAmount(Long meetingRoomId, LocalDateTime startTime, LocalDateTime endTime) {
-        MeetingRoom meetingRoom = meetingRoomRepository.findById(meetingRoomId)
+        return calculateTotalAmount(findMeetingRoom(meetingRoomId), startTime, endTime);
+    }
+
+    private MeetingRoom findMeetingRoom(Long meetingRoomId) {
+        return meetingRoomRepository.findById(meetingRoomId)
                 .orElseThrow(() -> new IllegalArgumentException("회의실을 찾을 수 없습니다."));
+    }
+
+    private double calculateTotalAmount(MeetingRoom meetingRoom, LocalDateTime startTime, LocalDateTime endTime) {
         long minutes = ChronoUnit.MINUTES.between(startTime, endTime);
         long hours = (minutes + 59) / 60; // 올림
         return hours * meetingRoom.getHourlyRate();
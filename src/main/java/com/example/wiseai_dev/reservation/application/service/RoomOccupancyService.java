@@ -0,0 +1,105 @@
+package com.example.wiseai_dev.reservation.application.service;
+
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.RoomOccupancyResponse;
+import com.example.wiseai_dev.reservation.domain.model.RoomDailyOccupancy;
+import com.example.wiseai_dev.reservation.domain.repository.RoomDailyOccupancyRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.projection.RoomOccupancyProjector;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회의실 일자별 점유 조회 (room_daily_occupancy 프로젝션에서 회의실·일자당 한 행으로 응답)
+ * - 프로젝션은 RoomOccupancyProjector가 예약 변경 커밋 직후 비동기로 갱신 (flush-delay 수준의 지연)
+ * - 주기적 재구성(rebuild-cron)으로 누락/불일치를 복구
+ */
+@Slf4j
+@Service
+public class RoomOccupancyService {
+
+    // 회의실 기간 조회 최대 일수
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final RoomDailyOccupancyRepository occupancyRepository;
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final RoomOccupancyProjector occupancyProjector;
+    private final int rebuildWindowDays;
+
+    public RoomOccupancyService(RoomDailyOccupancyRepository occupancyRepository,
+                                MeetingRoomRepository meetingRoomRepository,
+                                RoomOccupancyProjector occupancyProjector,
+                                @Value("${reservation.occupancy.rebuild-window-days:400}") int rebuildWindowDays) {
+        this.occupancyRepository = occupancyRepository;
+        this.meetingRoomRepository = meetingRoomRepository;
+        this.occupancyProjector = occupancyProjector;
+        this.rebuildWindowDays = rebuildWindowDays;
+    }
+
+    /**
+     * 회의실 하나의 기간 내 일자별 점유 (예약이 없는 날은 0으로 채움)
+     */
+    @Transactional(readOnly = true)
+    public List<RoomOccupancyResponse> getRoomOccupancy(Long meetingRoomId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일 이후여야 합니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_RANGE_DAYS + "일입니다.");
+        }
+
+        Map<LocalDate, RoomDailyOccupancy> byDate = occupancyRepository.findByMeetingRoomId(meetingRoomId, from, to)
+                .stream()
+                .collect(Collectors.toMap(RoomDailyOccupancy::getDate, Function.identity()));
+        return from.datesUntil(to.plusDays(1))
+                .map(date -> RoomOccupancyResponse.from(
+                        byDate.getOrDefault(date, RoomDailyOccupancy.empty(meetingRoomId, date))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 특정 날짜의 전체 회의실 점유 (예약이 없는 회의실은 0)
+     */
+    @Transactional(readOnly = true)
+    public List<RoomOccupancyResponse> getDailyOccupancy(LocalDate date) {
+        Map<Long, RoomDailyOccupancy> byRoom = occupancyRepository.findByDate(date)
+                .stream()
+                .collect(Collectors.toMap(RoomDailyOccupancy::getMeetingRoomId, Function.identity()));
+        return meetingRoomRepository.findAll().stream()
+                .map(MeetingRoom::getId)
+                .map(meetingRoomId -> RoomOccupancyResponse.from(
+                        byRoom.getOrDefault(meetingRoomId, RoomDailyOccupancy.empty(meetingRoomId, date))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 프로젝션 재구성 (어제 ~ rebuild-window-days, 회의실별 백그라운드 처리)
+     * - meetingRoomId가 없으면 전체 회의실
+     * @return 재구성 대상 회의실 수
+     */
+    public int rebuild(Long meetingRoomId) {
+        List<Long> meetingRoomIds = meetingRoomId != null
+                ? List.of(meetingRoomId)
+                : meetingRoomRepository.findAll().stream().map(MeetingRoom::getId).toList();
+        LocalDate from = LocalDate.now().minusDays(1);
+        occupancyProjector.rebuildAsync(meetingRoomIds, from, from.plusDays(rebuildWindowDays));
+        return meetingRoomIds.size();
+    }
+
+    @Scheduled(cron = "${reservation.occupancy.rebuild-cron:0 30 3 * * *}")
+    public void scheduledRebuild() {
+        if (occupancyProjector.isEnabled()) {
+            log.info("회의실 점유 프로젝션 정기 재구성 시작. rooms: {}", rebuild(null));
+        }
+    }
+}
@@ -0,0 +1,403 @@
+package com.example.wiseai_dev.reservation.application.service;
+
+import com.example.wiseai_dev.global.metrics.MetricOutcomes;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationUpdateRequest;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 회의실 샤드별 단일 기록 실행기 (reservation.booking.executor=sharded)
+ * - 회의실 id 해시로 레인(큐 + 기록 스레드 하나)을 정해, 같은 회의실의 생성/변경/취소는 항상 한 스레드가 순서대로 처리
+ *   → 같은 회의실끼리 낙관적 락 충돌/재시도가 없고, 서로 다른 회의실은 레인 수(기본 CPU 수)만큼 병렬 처리
+ * - 레인은 큐에서 최대 group-size건을 꺼내 메모리에서 검증(겹침: 커밋된 일정 + 같은 그룹에서 선점한 구간)한 뒤
+ *   통과한 요청을 트랜잭션 하나로 저장 (그룹 커밋, 신규 예약은 saveAll 배치 INSERT)
+ * - 같은 예약을 두 번 다루거나, 그룹 안에서 반납된 시간대를 다시 검사해야 하면 그룹을 먼저 커밋하고 이어서 처리
+ * - 변경/취소는 호출 스레드에서 한 번 읽은 예약으로 레인을 고르고 검증, 커밋 트랜잭션에서는 직접 처리 경로와 같은 행 잠금 조회
+ * - 그룹 커밋이 실패하면(레인 밖 쓰기와의 슬롯 충돌, 결제와의 낙관적 락 충돌 등) 그룹의 요청을 건별 트랜잭션으로 다시 처리
+ * - 최종 겹침 금지는 여전히 reservation_slot 선점이 보장
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reservation.booking.executor", havingValue = "sharded")
+public class RoomShardedBookingExecutor implements BookingExecutor {
+
+    private final ReservationService reservationService;
+    private final ReservationRepository reservationRepository;
+    private final TransactionTemplate transaction;
+    private final MeterRegistry meterRegistry;
+    private final int groupSize;
+    private final List<Lane> lanes;
+
+    private final DistributionSummary groupSizes;
+    private final Counter fallbacks;
+
+    public RoomShardedBookingExecutor(ReservationService reservationService,
+                                      ReservationRepository reservationRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${reservation.booking.shards:0}") int shards,
+                                      @Value("${reservation.booking.queue-capacity:1000}") int queueCapacity,
+                                      @Value("${reservation.booking.group-size:64}") int groupSize) {
+        this.reservationService = reservationService;
+        this.reservationRepository = reservationRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.groupSize = groupSize;
+
+        int laneCount = shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+        this.lanes = IntStream.range(0, laneCount).mapToObj(index -> new Lane(index, queueCapacity)).toList();
+
+        this.groupSizes = DistributionSummary.builder("reservation.booking.group.size").register(meterRegistry);
+        this.fallbacks = Counter.builder("reservation.booking.fallback").register(meterRegistry);
+        Gauge.builder("reservation.booking.queue.size", lanes,
+                all -> all.stream().mapToInt(lane -> lane.queue.size()).sum()).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        lanes.forEach(Lane::start);
+        log.info("회의실 샤드 예약 실행기 시작. lanes: {}, groupSize: {}", lanes.size(), groupSize);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+    }
+
+    @Override
+    public CompletableFuture<ReservationResponse> create(ReservationRequest request) {
+        return submit(new Command(Operation.CREATE, request.getMeetingRoomId(), null, request, null));
+    }
+
+    @Override
+    public CompletableFuture<ReservationResponse> update(Long reservationId, ReservationUpdateRequest request) {
+        Reservation loaded = load(reservationId, Operation.UPDATE);
+        return submit(new Command(Operation.UPDATE, loaded.getMeetingRoomId(), loaded, null, request));
+    }
+
+    @Override
+    public CompletableFuture<ReservationResponse> cancel(Long reservationId) {
+        Reservation loaded = load(reservationId, Operation.CANCEL);
+        return submit(new Command(Operation.CANCEL, loaded.getMeetingRoomId(), loaded, null, null));
+    }
+
+    /**
+     * 변경/취소 대상 조회 (레인 선택 + 레인에서의 검증에 그대로 사용, 레인에서 다시 읽지 않음)
+     * - 예약의 회의실은 바뀌지 않으므로 변경/취소도 생성과 같은 레인
+     */
+    private Reservation load(Long reservationId, Operation operation) {
+        return reservationRepository.findById(reservationId)
+                .orElseThrow(() -> new IllegalArgumentException(operation.notFoundMessage));
+    }
+
+    private CompletableFuture<ReservationResponse> submit(Command command) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        command.result.whenComplete((response, error) -> sample.stop(Timer.builder("reservation.booking")
+                .tag("operation", command.operation.tag)
+                .tag("outcome", MetricOutcomes.of(error))
+                .publishPercentileHistogram()
+                .register(meterRegistry)));
+
+        Lane lane = lanes.get(Math.floorMod(Long.hashCode(command.meetingRoomId), lanes.size()));
+        if (!lane.queue.offer(command)) {
+            command.result.completeExceptionally(
+                    new IllegalStateException("예약 요청이 밀려 있습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return command.result;
+    }
+
+    /**
+     * 꺼낸 요청을 순서대로 검증하며 그룹으로 모으고, 필요하면 중간에 커밋
+     */
+    private void process(List<Command> commands) {
+        Group group = new Group();
+        for (Command command : commands) {
+            if (group.needsCommitBefore(command)) {
+                commit(group);
+                group = new Group();
+            }
+            try {
+                prepare(command, group);
+                group.add(command);
+            } catch (RuntimeException e) {
+                command.result.completeExceptionally(e);
+            }
+        }
+        commit(group);
+    }
+
+    /**
+     * 검증 후 저장할 예약 모델 준비 (쓰기 없음)
+     */
+    private void prepare(Command command, Group group) {
+        switch (command.operation) {
+            case CREATE -> {
+                Reservation reservation = reservationService.newReservation(command.createRequest);
+                checkAvailable(reservation, group);
+                command.prepared = reservation;
+            }
+            case UPDATE -> {
+                apply(command, command.loaded);
+                checkAvailable(command.loaded, group);
+                command.prepared = command.loaded;
+            }
+            case CANCEL -> {
+                apply(command, command.loaded);
+                command.prepared = command.loaded;
+            }
+        }
+    }
+
+    private void apply(Command command, Reservation reservation) {
+        if (command.operation == Operation.UPDATE) {
+            reservationService.applyUpdate(reservation, command.updateRequest);
+        } else {
+            reservationService.applyCancel(reservation);
+        }
+    }
+
+    /**
+     * 겹침 검사: 같은 그룹에서 선점한 구간 + 커밋된 일정 (인메모리 구간 인덱스, 미적재 회의실은 DB)
+     * - 레인이 회의실의 유일한 기록자이고 커밋 직후 인덱스가 갱신되므로 이전 그룹의 결과까지 반영됨
+     */
+    private void checkAvailable(Reservation reservation, Group group) {
+        if (group.overlapsClaim(reservation)
+                || reservationRepository.existsOverlapping(reservation.getMeetingRoomId(),
+                reservation.getStartTime(), reservation.getEndTime(), reservation.getId())) {
+            throw new IllegalStateException("해당 시간대에 이미 예약이 존재합니다.");
+        }
+    }
+
+    /**
+     * 그룹 커밋 (트랜잭션 하나), 실패하면 건별 처리로 전환
+     */
+    private void commit(Group group) {
+        if (group.commands.isEmpty()) {
+            return;
+        }
+        groupSizes.record(group.commands.size());
+
+        List<ReservationResponse> responses;
+        try {
+            responses = transaction.execute(status -> persist(group.commands));
+        } catch (RuntimeException e) {
+            log.warn("예약 그룹 커밋 실패 - 건별 처리로 전환. commands: {}, error: {}", group.commands.size(), e.getMessage());
+            fallbacks.increment();
+            group.commands.forEach(this::executeAlone);
+            return;
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            group.commands.get(i).result.complete(responses.get(i));
+        }
+    }
+
+    private List<ReservationResponse> persist(List<Command> commands) {
+        List<ReservationResponse> responses = new ArrayList<>(commands.size());
+        List<Integer> createIndexes = new ArrayList<>();
+        List<Reservation> creates = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            Command command = commands.get(i);
+            if (command.operation == Operation.CREATE) {
+                responses.add(null);
+                createIndexes.add(i);
+                creates.add(command.prepared);
+            } else {
+                responses.add(ReservationResponse.fromDomain(reservationRepository.save(locked(command))));
+            }
+        }
+
+        // 신규 예약은 한 번에 저장 (예약/슬롯 선점 모두 JDBC 배치 INSERT)
+        if (!creates.isEmpty()) {
+            List<Reservation> saved = reservationRepository.saveAll(creates);
+            for (int i = 0; i < saved.size(); i++) {
+                responses.set(createIndexes.get(i), ReservationResponse.fromDomain(saved.get(i)));
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 변경/취소 대상 행 잠금 (직접 처리 경로와 같은 findByIdForUpdate)
+     * - 호출 스레드가 읽은 뒤 바뀌었으면(같은 레인의 앞선 요청, 결제, 만료) 잠근 최신 행에 다시 반영
+     * - 변경 후 시간은 요청 값이라 겹침 검사 결과는 그대로, 상태 검증에 실패하면 그룹 전체가 건별 처리로 전환
+     */
+    private Reservation locked(Command command) {
+        Reservation current = reservationRepository.findByIdForUpdate(command.reservationId)
+                .orElseThrow(() -> new IllegalArgumentException(command.operation.notFoundMessage));
+        if (Objects.equals(current.getVersion(), command.prepared.getVersion())) {
+            return command.prepared;
+        }
+        apply(command, current);
+        return current;
+    }
+
+    /**
+     * 건별 처리 (요청마다 트랜잭션 하나, 낙관적 락 재시도 포함)
+     */
+    private void executeAlone(Command command) {
+        try {
+            ReservationResponse response = switch (command.operation) {
+                case CREATE -> reservationService.createReservation(command.createRequest);
+                case UPDATE -> reservationService.updateReservation(command.reservationId, command.updateRequest);
+                case CANCEL -> reservationService.updateReservationStatusToCancelled(command.reservationId);
+            };
+            command.result.complete(response);
+        } catch (RuntimeException e) {
+            command.result.completeExceptionally(e);
+        }
+    }
+
+    private enum Operation {
+        CREATE("create", null),
+        UPDATE("update", "예약 정보를 찾을 수 없습니다."),
+        CANCEL("cancel", "취소하려는 예약 정보를 찾을 수 없습니다.");
+
+        private final String tag;
+        private final String notFoundMessage;
+
+        Operation(String tag, String notFoundMessage) {
+            this.tag = tag;
+            this.notFoundMessage = notFoundMessage;
+        }
+    }
+
+    private static final class Command {
+
+        private final Operation operation;
+        private final Long meetingRoomId;
+        private final Long reservationId;
+        // 변경/취소: 호출 스레드에서 읽은 예약
+        private final Reservation loaded;
+        private final ReservationRequest createRequest;
+        private final ReservationUpdateRequest updateRequest;
+        private final CompletableFuture<ReservationResponse> result = new CompletableFuture<>();
+        private Reservation prepared;
+
+        private Command(Operation operation, Long meetingRoomId, Reservation loaded,
+                        ReservationRequest createRequest, ReservationUpdateRequest updateRequest) {
+            this.operation = operation;
+            this.meetingRoomId = meetingRoomId;
+            this.reservationId = loaded != null ? loaded.getId() : null;
+            this.loaded = loaded;
+            this.createRequest = createRequest;
+            this.updateRequest = updateRequest;
+        }
+    }
+
+    /**
+     * 한 번에 커밋할 요청 묶음
+     */
+    private static final class Group {
+
+        private final List<Command> commands = new ArrayList<>();
+        // 회의실별로 이 그룹에서 새로 선점한 구간 (생성 / 변경 후 시간)
+        private final Map<Long, List<Reservation>> claims = new HashMap<>();
+        // 이 그룹에서 변경/취소한 예약과 그 회의실 (커밋 전까지 반납된 시간대가 커밋된 일정에 남아 있음)
+        private final Set<Long> touchedReservations = new HashSet<>();
+        private final Set<Long> releasingRooms = new HashSet<>();
+
+        private boolean needsCommitBefore(Command command) {
+            if (command.reservationId != null && touchedReservations.contains(command.reservationId)) {
+                return true;
+            }
+            return command.operation != Operation.CANCEL && releasingRooms.contains(command.meetingRoomId);
+        }
+
+        private boolean overlapsClaim(Reservation reservation) {
+            for (Reservation claimed : claims.getOrDefault(reservation.getMeetingRoomId(), List.of())) {
+                if (claimed.getStartTime().isBefore(reservation.getEndTime())
+                        && reservation.getStartTime().isBefore(claimed.getEndTime())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(Command command) {
+            commands.add(command);
+            if (command.operation != Operation.CANCEL) {
+                claims.computeIfAbsent(command.meetingRoomId, id -> new ArrayList<>()).add(command.prepared);
+            }
+            if (command.reservationId != null) {
+                touchedReservations.add(command.reservationId);
+                releasingRooms.add(command.meetingRoomId);
+            }
+        }
+    }
+
+    /**
+     * 레인: 큐 하나 + 기록 스레드 하나
+     */
+    private final class Lane {
+
+        private final BlockingQueue<Command> queue;
+        private final Thread worker;
+
+        private Lane(int index, int queueCapacity) {
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            this.worker = new Thread(this::run, "reservation-booking-lane-" + index);
+            this.worker.setDaemon(true);
+        }
+
+        private void start() {
+            worker.start();
+        }
+
+        private void stop() throws InterruptedException {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+            List<Command> remaining = new ArrayList<>();
+            queue.drainTo(remaining);
+            remaining.forEach(command -> command.result.completeExceptionally(
+                    new IllegalStateException("예약 처리기가 종료되었습니다. 다시 시도해주세요.")));
+        }
+
+        private void run() {
+            List<Command> batch = new ArrayList<>(groupSize);
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    batch.add(queue.take());
+                    queue.drainTo(batch, groupSize - 1);
+                    process(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    log.error("예약 레인 처리 중 예기치 못한 오류", e);
+                    batch.forEach(command -> command.result.completeExceptionally(e));
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.wiseai_dev.reservation.domain.model;
+
+public enum RecurrenceFrequency {
+    DAILY,
+    WEEKLY
+}
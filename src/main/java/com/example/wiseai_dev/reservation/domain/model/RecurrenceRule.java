@@ -0,0 +1,91 @@
+package com.example.wiseai_dev.reservation.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 반복 규칙 (RRULE의 FREQ / INTERVAL / BYDAY / COUNT / UNTIL 부분집합)
+ * - count와 until 중 정확히 하나로 종료 조건을 지정 (RFC 5545와 동일하게 둘 다 지정 불가)
+ * - daysOfWeek는 WEEKLY에서만 사용, 비어 있으면 첫 회차의 요일
+ */
+@Getter
+@Builder
+public class RecurrenceRule {
+
+    private final RecurrenceFrequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> daysOfWeek;
+    private final Integer count;
+    private final LocalDate until;
+
+    /**
+     * 첫 회차 시작 시각부터 규칙에 맞는 회차 시작 시각을 시간순으로 전개 (첫 회차 포함)
+     * - 회차가 maxOccurrences를 넘으면 IllegalArgumentException
+     */
+    public List<LocalDateTime> expand(LocalDateTime firstStart, int maxOccurrences) {
+        validate();
+
+        List<LocalDateTime> starts = new ArrayList<>();
+        LocalDate firstDate = firstStart.toLocalDate();
+        if (frequency == RecurrenceFrequency.DAILY) {
+            for (LocalDate date = firstDate; !isFinished(starts, date); date = date.plusDays(interval)) {
+                add(starts, date.atTime(firstStart.toLocalTime()), maxOccurrences);
+            }
+            return starts;
+        }
+
+        Set<DayOfWeek> days = daysOfWeek == null || daysOfWeek.isEmpty()
+                ? EnumSet.of(firstDate.getDayOfWeek())
+                : EnumSet.copyOf(daysOfWeek);
+        LocalDate weekStart = firstDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        while (true) {
+            // EnumSet 순회 순서 = 월 → 일
+            for (DayOfWeek day : days) {
+                LocalDate date = weekStart.with(TemporalAdjusters.nextOrSame(day));
+                if (date.isBefore(firstDate)) {
+                    continue;
+                }
+                if (isFinished(starts, date)) {
+                    return starts;
+                }
+                add(starts, date.atTime(firstStart.toLocalTime()), maxOccurrences);
+            }
+            weekStart = weekStart.plusWeeks(interval);
+        }
+    }
+
+    private void validate() {
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 주기는 필수입니다.");
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("반복 간격은 1 이상이어야 합니다.");
+        }
+        if ((count == null) == (until == null)) {
+            throw new IllegalArgumentException("반복 횟수(count)와 종료일(until) 중 하나만 지정해야 합니다.");
+        }
+        if (count != null && count < 1) {
+            throw new IllegalArgumentException("반복 횟수는 1 이상이어야 합니다.");
+        }
+    }
+
+    private boolean isFinished(List<LocalDateTime> starts, LocalDate nextDate) {
+        return count != null ? starts.size() >= count : nextDate.isAfter(until);
+    }
+
+    private static void add(List<LocalDateTime> starts, LocalDateTime start, int maxOccurrences) {
+        if (starts.size() >= maxOccurrences) {
+            throw new IllegalArgumentException("반복 예약은 최대 " + maxOccurrences + "회까지 가능합니다.");
+        }
+        starts.add(start);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.wiseai_dev.reservation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제가 시작되지 않은 결제 대기(PENDING_PAYMENT) 예약 - 만료 시각 계산에만 사용
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationHold {
+
+    private final Long reservationId;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package com.example.wiseai_dev.reservation.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 목록 조회 조건 (모든 필드 선택)
+ * - from/to가 있으면 [from, to) 구간과 겹치는 예약만 조회
+ */
+@Getter
+@Builder
+public class ReservationSearchCondition {
+
+    private final Long meetingRoomId;
+    private final Long userId;
+    private final ReservationStatus status;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+}
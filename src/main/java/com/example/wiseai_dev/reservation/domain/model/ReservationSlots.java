@@ -0,0 +1,123 @@
+package com.example.wiseai_dev.reservation.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 30분 예약 그리드 연산
+ * - 하루 48개 슬롯을 long 하나의 하위 48비트로 표현 (bit i = i번째 30분 슬롯)
+ * - 날짜는 epochDay(long)로 다뤄 반복 연산 중 객체 생성이 없도록 함
+ */
+public final class ReservationSlots {
+
+    public static final int SLOT_MINUTES = 30;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    public static final long FULL_DAY = (1L << SLOTS_PER_DAY) - 1;
+
+    private ReservationSlots() {
+    }
+
+    /**
+     * 30분 단위 경계인지 여부
+     */
+    public static boolean isAligned(LocalDateTime time) {
+        return time.getMinute() % SLOT_MINUTES == 0;
+    }
+
+    /**
+     * [fromSlot, toSlot) 범위 마스크
+     */
+    public static long rangeMask(int fromSlot, int toSlot) {
+        if (toSlot <= fromSlot) {
+            return 0L;
+        }
+        return ((1L << toSlot) - 1) & ~((1L << fromSlot) - 1);
+    }
+
+    /**
+     * epochDay 하루 안에서 [startTime, endTime) 구간이 차지하는 슬롯 마스크
+     */
+    public static long dayMask(long epochDay, LocalDateTime startTime, LocalDateTime endTime) {
+        long startDay = startTime.toLocalDate().toEpochDay();
+        long endDay = endTime.toLocalDate().toEpochDay();
+        if (epochDay < startDay || epochDay > endDay) {
+            return 0L;
+        }
+        int fromSlot = epochDay == startDay ? startSlot(startTime) : 0;
+        int toSlot = epochDay == endDay ? endSlot(endTime) : SLOTS_PER_DAY;
+        return rangeMask(fromSlot, toSlot);
+    }
+
+    /**
+     * 구간이 실제로 걸치는 첫 날 (epochDay)
+     */
+    public static long firstDay(LocalDateTime startTime) {
+        return startTime.toLocalDate().toEpochDay();
+    }
+
+    /**
+     * 구간이 실제로 걸치는 마지막 날 (자정에 끝나면 전날까지)
+     */
+    public static long lastDay(LocalDateTime endTime) {
+        long endDay = endTime.toLocalDate().toEpochDay();
+        return endSlot(endTime) == 0 ? endDay - 1 : endDay;
+    }
+
+    /**
+     * days[i] = fromDate + i 일의 점유 마스크 배열에 구간을 표시
+     */
+    public static void mark(long[] days, LocalDate fromDate, LocalDateTime startTime, LocalDateTime endTime) {
+        long base = fromDate.toEpochDay();
+        long first = Math.max(base, firstDay(startTime));
+        long last = Math.min(base + days.length - 1, lastDay(endTime));
+        for (long day = first; day <= last; day++) {
+            days[(int) (day - base)] |= dayMask(day, startTime, endTime);
+        }
+    }
+
+    /**
+     * days[i] = fromDate + i 일의 점유 마스크 배열에서 구간이 이미 점유된 슬롯과 겹치는지 여부
+     */
+    public static boolean overlaps(long[] days, LocalDate fromDate, LocalDateTime startTime, LocalDateTime endTime) {
+        long base = fromDate.toEpochDay();
+        long first = Math.max(base, firstDay(startTime));
+        long last = Math.min(base + days.length - 1, lastDay(endTime));
+        for (long day = first; day <= last; day++) {
+            if ((days[(int) (day - base)] & dayMask(day, startTime, endTime)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 슬롯 번호 → 해당 날짜의 슬롯 시작 시각
+     */
+    public static LocalDateTime slotStart(LocalDate day, int slot) {
+        return day.atStartOfDay().plusMinutes((long) slot * SLOT_MINUTES);
+    }
+
+    /**
+     * [startTime, endTime) 구간이 걸치는 30분 슬롯의 시작 시각 목록 (경계가 어긋나면 바깥쪽 슬롯까지 포함)
+     */
+    public static List<LocalDateTime> slotStarts(LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime slot = startTime.truncatedTo(ChronoUnit.HOURS)
+                .plusMinutes((long) (startTime.getMinute() / SLOT_MINUTES) * SLOT_MINUTES);
+        List<LocalDateTime> starts = new ArrayList<>();
+        for (; slot.isBefore(endTime); slot = slot.plusMinutes(SLOT_MINUTES)) {
+            starts.add(slot);
+        }
+        return starts;
+    }
+
+    private static int startSlot(LocalDateTime time) {
+        return (time.getHour() * 60 + time.getMinute()) / SLOT_MINUTES;
+    }
+
+    private static int endSlot(LocalDateTime time) {
+        return (time.getHour() * 60 + time.getMinute() + SLOT_MINUTES - 1) / SLOT_MINUTES;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.wiseai_dev.reservation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약이 점유하고 있는 시간 구간 (사용자 등 연관 정보 없이 겹침 판단에만 사용)
+ */
+@Getter
+@AllArgsConstructor
+public class ReservedInterval {
+
+    private final Long reservationId;
+    private final Long meetingRoomId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return this.startTime.isBefore(end) && this.endTime.isAfter(start);
+    }
+}
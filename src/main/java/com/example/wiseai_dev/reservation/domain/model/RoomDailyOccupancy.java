@@ -0,0 +1,26 @@
+package com.example.wiseai_dev.reservation.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 회의실 하루 점유 요약 (room_daily_occupancy 프로젝션 한 행)
+ * - slots: 활성 예약(CONFIRMED / PENDING_PAYMENT)이 차지한 30분 슬롯 비트맵 (ReservationSlots 규칙)
+ * - revenue: 확정(CONFIRMED) 예약 금액을 그날 이용 시간 비율만큼 배분한 합계
+ */
+@Getter
+@AllArgsConstructor
+public class RoomDailyOccupancy {
+
+    private final Long meetingRoomId;
+    private final LocalDate date;
+    private final long slots;
+    private final int bookedMinutes;
+    private final double revenue;
+
+    public static RoomDailyOccupancy empty(Long meetingRoomId, LocalDate date) {
+        return new RoomDailyOccupancy(meetingRoomId, date, 0L, 0, 0);
+    }
+}
@@ -1,20 +1,41 @@
 package com.example.wiseai_dev.reservation.domain.repository;
 
 import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationHold;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSearchCondition;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ReservationRepository {
-    Reservation save(Reservation reservation);
+    Reservation save(Reservation reservation); // 활성 예약은 30분 슬롯 선점 (겹치면 IllegalStateException)
+    List<Reservation> saveAll(List<Reservation> reservations); // 신규 예약 일괄 저장 (JDBC 배치 INSERT)
     Optional<Reservation> findById(Long id);   // 락 없음 (조회용)
     Optional<Reservation> findByIdForUpdate(Long id); //  락 있음 (결제/취소 시)
     List<Reservation> findAll();
+    List<Reservation> findPage(ReservationSearchCondition condition,
+                               Long afterId,
+                               int size); // id > afterId 인 예약을 id 오름차순으로 최대 size건 (keyset)
     void deleteById(Long id);
     List<Reservation> findByMeetingRoomIdAndTimeRange(Long meetingRoomId,
                                                       LocalDateTime startTime,
                                                       LocalDateTime endTime);
+    boolean existsOverlapping(Long meetingRoomId,
+                              LocalDateTime startTime,
+                              LocalDateTime endTime,
+                              Long excludeReservationId); // 겹치는 활성 예약 존재 여부
+    Map<Long, long[]> findOccupiedSlots(Collection<Long> meetingRoomIds,
+                                        LocalDate fromDate,
+                                        LocalDate toDate); // 회의실별 일자 점유 슬롯 (index 0 = fromDate)
+    List<ReservationHold> findHoldsCreatedBefore(LocalDateTime createdBefore,
+                                                 ReservationHold after,
+                                                 int limit); // 결제 시작 전 PENDING_PAYMENT 예약 중 after 다음부터 (createdAt, id) 순, 잠금 없음
+    List<Long> expireHolds(Collection<Long> reservationIds,
+                           LocalDateTime createdBefore); // 다른 트랜잭션이 잠근 행은 건너뛰고 EXPIRED로 전환한 id 목록
     void flush();
     void deleteAll();
 }
@@ -0,0 +1,17 @@
+package com.example.wiseai_dev.reservation.domain.repository;
+
+import com.example.wiseai_dev.reservation.domain.model.RoomDailyOccupancy;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 회의실 일자별 점유 프로젝션 조회 (PK 범위 조회 - 회의실·일자당 한 행)
+ * - 예약이 없는 날은 행이 없음
+ */
+public interface RoomDailyOccupancyRepository {
+    List<RoomDailyOccupancy> findByMeetingRoomId(Long meetingRoomId,
+                                                 LocalDate fromDate,
+                                                 LocalDate toDate); // 날짜 오름차순
+    List<RoomDailyOccupancy> findByDate(LocalDate date);
+}
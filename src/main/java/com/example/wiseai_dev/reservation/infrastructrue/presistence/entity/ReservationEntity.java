@@ -4,14 +4,21 @@ import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
 import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@NamedEntityGraph(
+        name = ReservationEntity.WITH_USER,
+        attributeNodes = @NamedAttributeNode("user")
+)
 @Table(
         name = "reservations",
         indexes = {
-                @Index(name = "idx_meetingroom_time", columnList = "meetingRoomId, startTime, endTime")
+                @Index(name = "idx_meetingroom_time", columnList = "meetingRoomId, startTime, endTime"),
+                // 결제 대기 만료 스캔 (status = PENDING_PAYMENT AND createdAt < ? ORDER BY createdAt, id)
+                @Index(name = "idx_status_created_at", columnList = "status, createdAt")
         }
 )
 @Getter
@@ -21,8 +28,13 @@ import java.time.LocalDateTime;
 @Builder
 public class ReservationEntity {
 
+    // 예약 + 예약자를 한 번의 조인으로 읽는 fetch plan (목록/단건 조회용)
+    public static final String WITH_USER = "Reservation.withUser";
+
+    // 시퀀스 ID 블록(allocationSize) 단위로 미리 할당 - IDENTITY와 달리 INSERT를 JDBC 배치로 묶을 수 있음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_seq")
+    @SequenceGenerator(name = "reservation_seq", sequenceName = "reservation_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -47,4 +59,9 @@ public class ReservationEntity {
 
     @Version
     private long version;
+
+    // INSERT 시점에 채워지고 이후 변경되지 않음 (이 컬럼 추가 전의 행은 NULL → 만료 대상 아님)
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
 }
@@ -0,0 +1,72 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 예약 슬롯 선점 (활성 예약이 차지한 30분 슬롯마다 한 행)
+ * - PK (meeting_room_id, slot_start) 가 곧 겹침 금지 제약: 같은 슬롯을 두 예약이 동시에 선점하면 DB가 하나를 거절
+ * - 예약이 취소/만료/삭제되면 행을 지워 슬롯을 반납
+ */
+@Entity
+@IdClass(ReservationSlotEntity.Key.class)
+@Table(
+        name = "reservation_slot",
+        indexes = {
+                // 예약 단위 반납
+                @Index(name = "idx_slot_reservation_id", columnList = "reservationId")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationSlotEntity implements Persistable<ReservationSlotEntity.Key> {
+
+    @Id
+    private Long meetingRoomId;
+
+    @Id
+    private LocalDateTime slotStart;
+
+    @Column(nullable = false)
+    private Long reservationId;
+
+    // 선점 행은 INSERT만 하므로 save 시 merge 전 SELECT 없이 바로 persist
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public ReservationSlotEntity(Long meetingRoomId, LocalDateTime slotStart, Long reservationId) {
+        this.meetingRoomId = meetingRoomId;
+        this.slotStart = slotStart;
+        this.reservationId = reservationId;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(meetingRoomId, slotStart);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long meetingRoomId;
+        private LocalDateTime slotStart;
+    }
+}
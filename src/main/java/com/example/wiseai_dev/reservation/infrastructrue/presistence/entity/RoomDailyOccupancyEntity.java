@@ -0,0 +1,67 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.entity;
+
+import com.example.wiseai_dev.reservation.domain.model.RoomDailyOccupancy;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 회의실 일자별 점유 프로젝션 (reservations에서 파생, RoomOccupancyProjector만 기록)
+ */
+@Entity
+@IdClass(RoomDailyOccupancyEntity.Key.class)
+@Table(
+        name = "room_daily_occupancy",
+        indexes = {
+                // 특정 날짜의 전체 회의실 조회
+                @Index(name = "idx_occupancy_date", columnList = "occupancyDate")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+public class RoomDailyOccupancyEntity {
+
+    @Id
+    private Long meetingRoomId;
+
+    @Id
+    private LocalDate occupancyDate;
+
+    @Column(nullable = false)
+    private long slots;
+
+    @Column(nullable = false)
+    private int bookedMinutes;
+
+    @Column(nullable = false)
+    private double revenue;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // null이면 신규 행으로 보고 INSERT (merge 전 SELECT 없음)
+    @Version
+    private Long version;
+
+    public RoomDailyOccupancyEntity(Long meetingRoomId, LocalDate occupancyDate) {
+        this.meetingRoomId = meetingRoomId;
+        this.occupancyDate = occupancyDate;
+    }
+
+    public RoomDailyOccupancy toDomainModel() {
+        return new RoomDailyOccupancy(meetingRoomId, occupancyDate, slots, bookedMinutes, revenue);
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long meetingRoomId;
+        private LocalDate occupancyDate;
+    }
+}
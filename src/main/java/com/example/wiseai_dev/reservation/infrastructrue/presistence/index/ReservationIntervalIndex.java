@@ -0,0 +1,264 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.index;
+
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.ReservationJpaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회의실별 활성 예약(CONFIRMED / PENDING_PAYMENT) 인메모리 구간 인덱스
+ * - 겹침 조회를 DB 왕복 없이 O(log n + k)로 처리
+ * - 커밋 이후(afterCommit)에만 반영되므로 롤백된 변경은 인덱스에 들어오지 않음
+ * - 아직 적재되지 않은 회의실은 호출 측이 DB로 폴백하고, 적재는 백그라운드에서 진행
+ * - 이 JVM의 커밋만 반영되고 다른 인스턴스의 커밋은 알 수 없음
+ *   → 이 프로세스가 회의실의 유일한 기록자일 때(단일 인스턴스 + sharded 실행기)만 켜야 함 (reservation.index.enabled)
+ *   → 꺼져 있으면 covers()가 항상 false라 모든 겹침 조회는 DB로 가고, 적재 스레드/커밋 이후 반영도 하지 않음
+ */
+@Slf4j
+@Component
+public class ReservationIntervalIndex {
+
+    // 적재 시점 기준으로 이만큼 이전까지의 구간만 인덱스가 책임짐
+    private static final Duration HORIZON = Duration.ofDays(1);
+
+    private static final Comparator<ReservedInterval> BY_START =
+            Comparator.comparing(ReservedInterval::getStartTime)
+                    .thenComparing(ReservedInterval::getReservationId);
+
+    private final ReservationJpaRepository jpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean enabled;
+
+    private final Map<Long, RoomSchedule> rooms = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> epochs = new ConcurrentHashMap<>();
+    private final Set<Long> loading = ConcurrentHashMap.newKeySet();
+    private final ExecutorService loader;
+
+    public ReservationIntervalIndex(ReservationJpaRepository jpaRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${reservation.index.enabled:false}") boolean enabled,
+                                    @Value("${reservation.booking.executor:direct}") String bookingExecutor) {
+        this.jpaRepository = jpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // sharded 실행기가 아니면 요청 스레드마다 따로 기록하므로 켜도 무시
+        if (enabled && !"sharded".equals(bookingExecutor)) {
+            log.warn("예약 인덱스는 sharded 실행기에서만 사용 - 비활성화. executor: {}", bookingExecutor);
+        }
+        this.enabled = enabled && "sharded".equals(bookingExecutor);
+        this.loader = this.enabled ? Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "reservation-index-loader");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * 해당 회의실이 적재되어 있고, 조회 구간이 인덱스 범위 안에 있는지 여부
+     */
+    public boolean covers(Long meetingRoomId, LocalDateTime startTime) {
+        if (!enabled) {
+            return false;
+        }
+        RoomSchedule schedule = rooms.get(meetingRoomId);
+        return schedule != null && !startTime.isBefore(schedule.horizon);
+    }
+
+    /**
+     * 겹치는 활성 예약 존재 여부 (excludeReservationId는 판단에서 제외)
+     */
+    public boolean hasOverlap(Long meetingRoomId, LocalDateTime startTime,
+                              LocalDateTime endTime, Long excludeReservationId) {
+        RoomSchedule schedule = rooms.get(meetingRoomId);
+        if (schedule == null) {
+            throw new IllegalStateException("적재되지 않은 회의실입니다. meetingRoomId=" + meetingRoomId);
+        }
+        return schedule.hasOverlap(startTime, endTime, excludeReservationId);
+    }
+
+    /**
+     * 예약 저장 결과 반영 (활성 상태면 추가/갱신, 그 외 상태면 제거)
+     * - 적재와 같은 키 잠금(compute) 안에서 처리해 적재 중인 스냅샷과 경합하지 않도록 함
+     */
+    public void apply(ReservedInterval interval, ReservationStatus status) {
+        if (!enabled) {
+            return;
+        }
+        rooms.compute(interval.getMeetingRoomId(), (meetingRoomId, schedule) -> {
+            bumpEpoch(meetingRoomId);
+            if (schedule != null) {
+                if (isActive(status)) {
+                    schedule.upsert(interval);
+                } else {
+                    schedule.remove(interval.getReservationId());
+                }
+            }
+            return schedule;
+        });
+    }
+
+    public void remove(Long reservationId) {
+        if (!enabled) {
+            return;
+        }
+        epochs.keySet().forEach(meetingRoomId -> rooms.compute(meetingRoomId, (id, schedule) -> {
+            bumpEpoch(id);
+            if (schedule != null) {
+                schedule.remove(reservationId);
+            }
+            return schedule;
+        }));
+    }
+
+    public void clear() {
+        epochs.values().forEach(AtomicLong::incrementAndGet);
+        rooms.clear();
+    }
+
+    /**
+     * 회의실 인덱스를 백그라운드에서 DB로부터 적재
+     * - 적재 도중 같은 회의실에 커밋된 변경이 있으면 이번 적재는 버리고 다음 조회 때 다시 시도
+     */
+    public void warmUpAsync(Long meetingRoomId) {
+        if (!enabled || rooms.containsKey(meetingRoomId) || !loading.add(meetingRoomId)) {
+            return;
+        }
+        loader.execute(() -> {
+            try {
+                long epoch = epochOf(meetingRoomId).get();
+                LocalDateTime horizon = LocalDateTime.now().minus(HORIZON);
+                List<ReservedInterval> intervals = readOnlyTransaction.execute(status ->
+                        jpaRepository.findActiveIntervalsEndingAfter(meetingRoomId, horizon));
+
+                RoomSchedule schedule = new RoomSchedule(horizon);
+                intervals.forEach(schedule::upsert);
+
+                RoomSchedule installed = rooms.compute(meetingRoomId, (id, existing) -> {
+                    if (existing != null) {
+                        return existing;
+                    }
+                    return epochOf(id).get() == epoch ? schedule : null;
+                });
+                if (installed == schedule) {
+                    log.info("예약 인덱스 적재 완료. meetingRoomId: {}, intervals: {}", meetingRoomId, intervals.size());
+                } else if (installed == null) {
+                    log.debug("적재 중 변경 감지 - 예약 인덱스 적재 보류. meetingRoomId: {}", meetingRoomId);
+                }
+            } catch (Exception e) {
+                log.warn("예약 인덱스 적재 실패. meetingRoomId: {}, error: {}", meetingRoomId, e.getMessage());
+            } finally {
+                loading.remove(meetingRoomId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (loader != null) {
+            loader.shutdownNow();
+        }
+    }
+
+    private static boolean isActive(ReservationStatus status) {
+        return status == ReservationStatus.CONFIRMED || status == ReservationStatus.PENDING_PAYMENT;
+    }
+
+    private AtomicLong epochOf(Long meetingRoomId) {
+        return epochs.computeIfAbsent(meetingRoomId, id -> new AtomicLong());
+    }
+
+    private void bumpEpoch(Long meetingRoomId) {
+        epochOf(meetingRoomId).incrementAndGet();
+    }
+
+    /**
+     * 회의실 하나의 활성 예약 구간 (시작 시각 정렬)
+     */
+    private static final class RoomSchedule {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final TreeSet<ReservedInterval> byStart = new TreeSet<>(BY_START);
+        private final Map<Long, ReservedInterval> byId = new HashMap<>();
+        private final LocalDateTime horizon;
+        // 가장 긴 예약 길이: 역방향 탐색을 어디서 멈출지 결정
+        private Duration maxDuration = Duration.ZERO;
+
+        private RoomSchedule(LocalDateTime horizon) {
+            this.horizon = horizon;
+        }
+
+        private boolean hasOverlap(LocalDateTime startTime, LocalDateTime endTime, Long excludeReservationId) {
+            lock.readLock().lock();
+            try {
+                // 시작 시각이 endTime 이전인 구간만 후보, 시작이 (startTime - 최대 길이) 이전이면 더 볼 필요 없음
+                LocalDateTime lowerBound = startTime.minus(maxDuration);
+                ReservedInterval probe = new ReservedInterval(Long.MIN_VALUE, null, endTime, endTime);
+                Iterator<ReservedInterval> candidates = byStart.headSet(probe, false).descendingIterator();
+                while (candidates.hasNext()) {
+                    ReservedInterval candidate = candidates.next();
+                    if (!candidate.getStartTime().isAfter(lowerBound)) {
+                        break;
+                    }
+                    if (candidate.getEndTime().isAfter(startTime)
+                            && !candidate.getReservationId().equals(excludeReservationId)) {
+                        return true;
+                    }
+                }
+                return false;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void upsert(ReservedInterval interval) {
+            lock.writeLock().lock();
+            try {
+                ReservedInterval previous = byId.put(interval.getReservationId(), interval);
+                if (previous != null) {
+                    byStart.remove(previous);
+                }
+                byStart.add(interval);
+                Duration duration = Duration.between(interval.getStartTime(), interval.getEndTime());
+                if (duration.compareTo(maxDuration) > 0) {
+                    maxDuration = duration;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private boolean remove(Long reservationId) {
+            lock.writeLock().lock();
+            try {
+                ReservedInterval previous = byId.remove(reservationId);
+                if (previous == null) {
+                    return false;
+                }
+                byStart.remove(previous);
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
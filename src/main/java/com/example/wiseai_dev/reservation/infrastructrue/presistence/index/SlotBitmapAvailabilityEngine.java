@@ -0,0 +1,267 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.index;
+
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.ReservationJpaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * (회의실, 날짜)별 30분 슬롯 비트맵 가용성 엔진
+ * - 회의실마다 [어제, 어제 + windowDays) 범위를 AtomicLongArray 하나로 보관 (하루 = long 하나)
+ * - 겹침/빈 슬롯 조회는 비트 연산 몇 번으로 끝나고 조회 경로에서 객체를 만들지 않음
+ * - 반영 시점과 콜드 스타트 처리 방식은 ReservationIntervalIndex와 동일 (커밋 이후 반영, 미적재 시 DB 폴백)
+ * - 적재 후 reload-after가 지나면 조회 시 기존 비트맵으로 답하면서 백그라운드에서 윈도우를 오늘 기준으로 다시 적재
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "reservation.availability.engine", havingValue = "bitmap")
+public class SlotBitmapAvailabilityEngine {
+
+    private final ReservationJpaRepository jpaRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int windowDays;
+    private final long reloadAfterNanos;
+
+    private final Map<Long, RoomBitmap> rooms = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> epochs = new ConcurrentHashMap<>();
+    private final Set<Long> loading = ConcurrentHashMap.newKeySet();
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "reservation-bitmap-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SlotBitmapAvailabilityEngine(ReservationJpaRepository jpaRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${reservation.availability.bitmap.window-days:400}") int windowDays,
+                                        @Value("${reservation.availability.bitmap.reload-after:7d}") Duration reloadAfter) {
+        this.jpaRepository = jpaRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.windowDays = windowDays;
+        this.reloadAfterNanos = reloadAfter.toNanos();
+    }
+
+    /**
+     * 회의실이 적재되어 있고 [startTime, endTime) 전체가 윈도우 안에 있는지 여부
+     */
+    public boolean covers(Long meetingRoomId, LocalDateTime startTime, LocalDateTime endTime) {
+        RoomBitmap room = loadedRoom(meetingRoomId);
+        return room != null
+                && room.contains(ReservationSlots.firstDay(startTime))
+                && room.contains(ReservationSlots.lastDay(endTime));
+    }
+
+    public boolean covers(Long meetingRoomId, LocalDate fromDate, LocalDate toDate) {
+        RoomBitmap room = loadedRoom(meetingRoomId);
+        return room != null && room.contains(fromDate.toEpochDay()) && room.contains(toDate.toEpochDay());
+    }
+
+    /**
+     * 겹치는 활성 예약 존재 여부 (excludeReservationId가 차지한 슬롯은 비어 있는 것으로 봄)
+     */
+    public boolean hasOverlap(Long meetingRoomId, LocalDateTime startTime,
+                              LocalDateTime endTime, Long excludeReservationId) {
+        RoomBitmap room = requireRoom(meetingRoomId);
+        ReservedInterval excluded = excludeReservationId != null ? room.footprints.get(excludeReservationId) : null;
+
+        long last = ReservationSlots.lastDay(endTime);
+        for (long day = ReservationSlots.firstDay(startTime); day <= last; day++) {
+            long occupied = room.get(day);
+            if (excluded != null) {
+                occupied &= ~ReservationSlots.dayMask(day, excluded.getStartTime(), excluded.getEndTime());
+            }
+            if ((occupied & ReservationSlots.dayMask(day, startTime, endTime)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 기간 내 일자별 점유 슬롯 (index 0 = fromDate)
+     */
+    public long[] occupiedSlots(Long meetingRoomId, LocalDate fromDate, LocalDate toDate) {
+        RoomBitmap room = requireRoom(meetingRoomId);
+        long from = fromDate.toEpochDay();
+        long[] days = new long[(int) (toDate.toEpochDay() - from) + 1];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = room.get(from + i);
+        }
+        return days;
+    }
+
+    /**
+     * 예약 저장 결과 반영 (활성 상태면 슬롯 점유, 그 외 상태면 해제)
+     */
+    public void apply(ReservedInterval interval, ReservationStatus status) {
+        rooms.compute(interval.getMeetingRoomId(), (meetingRoomId, room) -> {
+            bumpEpoch(meetingRoomId);
+            if (room != null) {
+                room.release(interval.getReservationId());
+                if (status == ReservationStatus.CONFIRMED || status == ReservationStatus.PENDING_PAYMENT) {
+                    room.occupy(interval);
+                }
+            }
+            return room;
+        });
+    }
+
+    public void remove(Long reservationId) {
+        epochs.keySet().forEach(meetingRoomId -> rooms.compute(meetingRoomId, (id, room) -> {
+            bumpEpoch(id);
+            if (room != null) {
+                room.release(reservationId);
+            }
+            return room;
+        }));
+    }
+
+    public void clear() {
+        epochs.values().forEach(AtomicLong::incrementAndGet);
+        rooms.clear();
+    }
+
+    /**
+     * 회의실 비트맵을 백그라운드에서 적재 (미적재이거나 윈도우가 오래된 경우)
+     */
+    public void warmUpAsync(Long meetingRoomId) {
+        RoomBitmap current = rooms.get(meetingRoomId);
+        if ((current != null && !current.isStale(System.nanoTime())) || !loading.add(meetingRoomId)) {
+            return;
+        }
+        loader.execute(() -> {
+            try {
+                long epoch = epochOf(meetingRoomId).get();
+                long baseDay = LocalDate.now().toEpochDay() - 1;
+                LocalDateTime from = LocalDate.ofEpochDay(baseDay).atStartOfDay();
+                List<ReservedInterval> intervals = readOnlyTransaction.execute(status ->
+                        jpaRepository.findActiveIntervalsEndingAfter(meetingRoomId, from));
+
+                RoomBitmap loaded = new RoomBitmap(baseDay, windowDays, System.nanoTime() + reloadAfterNanos);
+                intervals.forEach(loaded::occupy);
+
+                RoomBitmap installed = rooms.compute(meetingRoomId, (id, existing) -> {
+                    if (existing != null && !existing.isStale(System.nanoTime())) {
+                        return existing;
+                    }
+                    return epochOf(id).get() == epoch ? loaded : existing;
+                });
+                if (installed == loaded) {
+                    log.info("예약 슬롯 비트맵 적재 완료. meetingRoomId: {}, intervals: {}", meetingRoomId, intervals.size());
+                }
+            } catch (Exception e) {
+                log.warn("예약 슬롯 비트맵 적재 실패. meetingRoomId: {}, error: {}", meetingRoomId, e.getMessage());
+            } finally {
+                loading.remove(meetingRoomId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        loader.shutdownNow();
+    }
+
+    /**
+     * 적재된 비트맵 (reload-after가 지났으면 그대로 돌려주고 백그라운드 재적재 시작)
+     */
+    private RoomBitmap loadedRoom(Long meetingRoomId) {
+        RoomBitmap room = rooms.get(meetingRoomId);
+        if (room != null && room.isStale(System.nanoTime())) {
+            warmUpAsync(meetingRoomId);
+        }
+        return room;
+    }
+
+    private RoomBitmap requireRoom(Long meetingRoomId) {
+        RoomBitmap room = rooms.get(meetingRoomId);
+        if (room == null) {
+            throw new IllegalStateException("적재되지 않은 회의실입니다. meetingRoomId=" + meetingRoomId);
+        }
+        return room;
+    }
+
+    private AtomicLong epochOf(Long meetingRoomId) {
+        return epochs.computeIfAbsent(meetingRoomId, id -> new AtomicLong());
+    }
+
+    private void bumpEpoch(Long meetingRoomId) {
+        epochOf(meetingRoomId).incrementAndGet();
+    }
+
+    /**
+     * 회의실 하나의 일자별 슬롯 비트맵
+     */
+    private static final class RoomBitmap {
+
+        private final long baseDay;
+        private final AtomicLongArray days;
+        private final long reloadAtNanos;
+        // 예약별 점유 구간: 해제/수정 시 정확히 그 예약의 비트만 지우기 위해 보관
+        private final Map<Long, ReservedInterval> footprints = new ConcurrentHashMap<>();
+
+        private RoomBitmap(long baseDay, int windowDays, long reloadAtNanos) {
+            this.baseDay = baseDay;
+            this.days = new AtomicLongArray(windowDays);
+            this.reloadAtNanos = reloadAtNanos;
+        }
+
+        private boolean contains(long epochDay) {
+            return epochDay >= baseDay && epochDay < baseDay + days.length();
+        }
+
+        private boolean isStale(long nowNanos) {
+            return nowNanos - reloadAtNanos >= 0;
+        }
+
+        private long get(long epochDay) {
+            return contains(epochDay) ? days.get((int) (epochDay - baseDay)) : 0L;
+        }
+
+        private void occupy(ReservedInterval interval) {
+            footprints.put(interval.getReservationId(), interval);
+            forEachDay(interval, true);
+        }
+
+        private void release(Long reservationId) {
+            ReservedInterval previous = footprints.remove(reservationId);
+            if (previous != null) {
+                forEachDay(previous, false);
+            }
+        }
+
+        private void forEachDay(ReservedInterval interval, boolean set) {
+            long first = Math.max(baseDay, ReservationSlots.firstDay(interval.getStartTime()));
+            long last = Math.min(baseDay + days.length() - 1, ReservationSlots.lastDay(interval.getEndTime()));
+            for (long day = first; day <= last; day++) {
+                long mask = ReservationSlots.dayMask(day, interval.getStartTime(), interval.getEndTime());
+                int index = (int) (day - baseDay);
+                if (set) {
+                    days.getAndAccumulate(index, mask, (bits, m) -> bits | m);
+                } else {
+                    days.getAndAccumulate(index, mask, (bits, m) -> bits & ~m);
+                }
+            }
+        }
+    }
+}
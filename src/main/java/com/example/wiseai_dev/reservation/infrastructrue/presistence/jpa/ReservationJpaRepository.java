@@ -1,18 +1,46 @@
 package com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa;
 
+import com.example.wiseai_dev.reservation.domain.model.ReservationHold;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
 import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.ReservationEntity;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.projection.OccupancySource;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * fetch plan 규칙
+ * - 도메인 모델로 변환해 응답에 쓰는 조회: Reservation.withUser 그래프(또는 JOIN FETCH)로 사용자까지 한 번에
+ * - 겹침 판단 등 구간만 필요한 조회: ReservedInterval projection (사용자 미조회)
+ * - 비관적 락 조회: 사용자 행까지 잠그지 않도록 예약만 조회
+ * - 백그라운드 만료 처리: SKIP LOCKED로 선점해 예약/결제 경로의 잠금을 기다리지 않음
+ */
 public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, Long> {
 
+    // Hibernate LockOptions.SKIP_LOCKED
+    String SKIP_LOCKED = "-2";
+
+    // 단건 조회 (사용자 포함)
+    @EntityGraph(ReservationEntity.WITH_USER)
+    Optional<ReservationEntity> findWithUserById(Long id);
+
+    // 전체 조회 (사용자 포함)
+    @EntityGraph(ReservationEntity.WITH_USER)
+    @Query("SELECT r FROM ReservationEntity r")
+    List<ReservationEntity> findAllWithUser();
+
     // 특정 회의실 ID + 시작/종료 시간 조건으로 예약 조회
     List<ReservationEntity> findByMeetingRoomIdAndStartTimeBetween(
             long meetingRoomId,
@@ -20,7 +48,8 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationEntit
             LocalDateTime end
     );
 
-    // 겹치는 시간대 예약 조회
+    // 겹치는 시간대 예약 조회 (사용자 포함)
+    @EntityGraph(ReservationEntity.WITH_USER)
     @Query("SELECT r FROM ReservationEntity r " +
             "WHERE r.meetingRoomId = :meetingRoomId " +
             "AND r.status IN ('CONFIRMED', 'PENDING_PAYMENT') " +
@@ -31,6 +60,106 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationEntit
             @Param("endTime") LocalDateTime endTime
     );
 
+    // 겹치는 시간대 예약 구간만 조회 (엔티티/사용자 로딩 없이 겹침 여부 판단용)
+    @Query("SELECT new com.example.wiseai_dev.reservation.domain.model.ReservedInterval(" +
+            "r.id, r.meetingRoomId, r.startTime, r.endTime) " +
+            "FROM ReservationEntity r " +
+            "WHERE r.meetingRoomId = :meetingRoomId " +
+            "AND r.status IN ('CONFIRMED', 'PENDING_PAYMENT') " +
+            "AND ((r.startTime < :endTime AND r.endTime > :startTime))")
+    List<ReservedInterval> findOverlappingIntervals(
+            @Param("meetingRoomId") Long meetingRoomId,
+            @Param("startTime") LocalDateTime startTime,
+            @Param("endTime") LocalDateTime endTime
+    );
+
+    // 특정 시각 이후에 끝나는 활성 예약 구간 조회 (인메모리 인덱스 적재용)
+    @Query("SELECT new com.example.wiseai_dev.reservation.domain.model.ReservedInterval(" +
+            "r.id, r.meetingRoomId, r.startTime, r.endTime) " +
+            "FROM ReservationEntity r " +
+            "WHERE r.meetingRoomId = :meetingRoomId " +
+            "AND r.status IN ('CONFIRMED', 'PENDING_PAYMENT') " +
+            "AND r.endTime > :from")
+    List<ReservedInterval> findActiveIntervalsEndingAfter(
+            @Param("meetingRoomId") Long meetingRoomId,
+            @Param("from") LocalDateTime from
+    );
+
+    // 여러 회의실의 기간 내 활성 예약 구간 조회 (idx_meetingroom_time 범위 스캔 한 번)
+    @Query("SELECT new com.example.wiseai_dev.reservation.domain.model.ReservedInterval(" +
+            "r.id, r.meetingRoomId, r.startTime, r.endTime) " +
+            "FROM ReservationEntity r " +
+            "WHERE r.meetingRoomId IN :meetingRoomIds " +
+            "AND r.status IN ('CONFIRMED', 'PENDING_PAYMENT') " +
+            "AND r.startTime < :to AND r.endTime > :from " +
+            "ORDER BY r.meetingRoomId, r.startTime")
+    List<ReservedInterval> findActiveIntervalsInRange(
+            @Param("meetingRoomIds") Collection<Long> meetingRoomIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // 점유 프로젝션 재계산용 활성 예약 (idx_meetingroom_time 범위 스캔, 금액/상태 포함)
+    @Query("SELECT new com.example.wiseai_dev.reservation.infrastructrue.presistence.projection.OccupancySource(" +
+            "r.meetingRoomId, r.startTime, r.endTime, r.status, r.totalAmount) " +
+            "FROM ReservationEntity r " +
+            "WHERE r.meetingRoomId IN :meetingRoomIds " +
+            "AND r.status IN ('CONFIRMED', 'PENDING_PAYMENT') " +
+            "AND r.startTime < :to AND r.endTime > :from")
+    List<OccupancySource> findOccupancySourcesInRange(
+            @Param("meetingRoomIds") Collection<Long> meetingRoomIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    // 조건별 예약 목록 (id 기준 keyset 페이지, 사용자 함께 조회)
+    @Query("SELECT r FROM ReservationEntity r JOIN FETCH r.user " +
+            "WHERE r.id > :afterId " +
+            "AND (:meetingRoomId IS NULL OR r.meetingRoomId = :meetingRoomId) " +
+            "AND (:userId IS NULL OR r.user.id = :userId) " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND (:from IS NULL OR r.endTime > :from) " +
+            "AND (:to IS NULL OR r.startTime < :to) " +
+            "ORDER BY r.id ASC")
+    List<ReservationEntity> findPage(
+            @Param("afterId") Long afterId,
+            @Param("meetingRoomId") Long meetingRoomId,
+            @Param("userId") Long userId,
+            @Param("status") ReservationStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    // 결제가 시작되지 않은 결제 대기 예약, (afterCreatedAt, afterId) 다음부터 (idx_status_created_at 범위 스캔, 잠금 없음)
+    @Query("SELECT new com.example.wiseai_dev.reservation.domain.model.ReservationHold(r.id, r.createdAt) " +
+            "FROM ReservationEntity r " +
+            "WHERE r.status = 'PENDING_PAYMENT' " +
+            "AND r.createdAt < :createdBefore " +
+            "AND r.createdAt >= :afterCreatedAt " +
+            "AND (r.createdAt > :afterCreatedAt OR r.id > :afterId) " +
+            "AND NOT EXISTS (SELECT 1 FROM PaymentEntity p WHERE p.reservation = r) " +
+            "ORDER BY r.createdAt, r.id")
+    List<ReservationHold> findHoldsCreatedBefore(
+            @Param("createdBefore") LocalDateTime createdBefore,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
+    // 만료 대상 선점: 다른 트랜잭션(결제/변경/취소)이 잠근 행은 기다리지 않고 건너뜀 (FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    @Query("SELECT r FROM ReservationEntity r " +
+            "WHERE r.id IN :ids " +
+            "AND r.status = 'PENDING_PAYMENT' " +
+            "AND r.createdAt < :createdBefore " +
+            "AND NOT EXISTS (SELECT 1 FROM PaymentEntity p WHERE p.reservation = r)")
+    List<ReservationEntity> claimHolds(
+            @Param("ids") Collection<Long> ids,
+            @Param("createdBefore") LocalDateTime createdBefore
+    );
+
     // 예약 단건 조회 시 비관적 락 적용 (결제 직전 동시성 방지)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT r FROM ReservationEntity r WHERE r.id = :id")
@@ -0,0 +1,25 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa;
+
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.ReservationSlotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+public interface ReservationSlotJpaRepository
+        extends JpaRepository<ReservationSlotEntity, ReservationSlotEntity.Key> {
+
+    // 예약 단위 슬롯 반납 (즉시 실행 - 같은 flush에서 다시 선점하는 INSERT보다 먼저 지워지도록)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReservationSlotEntity s WHERE s.reservationId IN :reservationIds")
+    int deleteByReservationIds(@Param("reservationIds") Collection<Long> reservationIds);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ReservationSlotEntity s")
+    int deleteAllRows();
+}
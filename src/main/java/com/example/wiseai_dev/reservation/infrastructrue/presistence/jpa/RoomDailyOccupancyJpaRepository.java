@@ -0,0 +1,36 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa;
+
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.RoomDailyOccupancyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface RoomDailyOccupancyJpaRepository
+        extends JpaRepository<RoomDailyOccupancyEntity, RoomDailyOccupancyEntity.Key> {
+
+    // 회의실 기간 조회 (PK 범위 스캔)
+    List<RoomDailyOccupancyEntity> findByMeetingRoomIdAndOccupancyDateBetweenOrderByOccupancyDate(
+            Long meetingRoomId, LocalDate fromDate, LocalDate toDate);
+
+    // 특정 날짜 전체 회의실 (idx_occupancy_date)
+    List<RoomDailyOccupancyEntity> findByOccupancyDate(LocalDate occupancyDate);
+
+    // 재계산 대상 행 일괄 조회
+    @Query("SELECT o FROM RoomDailyOccupancyEntity o " +
+            "WHERE o.meetingRoomId IN :meetingRoomIds " +
+            "AND o.occupancyDate BETWEEN :fromDate AND :toDate")
+    List<RoomDailyOccupancyEntity> findInRange(
+            @Param("meetingRoomIds") Collection<Long> meetingRoomIds,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+
+    @Modifying
+    @Query("DELETE FROM RoomDailyOccupancyEntity o")
+    int deleteAllRows();
+}
@@ -0,0 +1,21 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.projection;
+
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 점유 프로젝션 재계산에 필요한 예약 필드만 담은 조회 결과
+ */
+@Getter
+@AllArgsConstructor
+public class OccupancySource {
+
+    private final Long meetingRoomId;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final ReservationStatus status;
+    private final double totalAmount;
+}
@@ -0,0 +1,262 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.projection;
+
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.RoomDailyOccupancyEntity;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.ReservationJpaRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.RoomDailyOccupancyJpaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * room_daily_occupancy 프로젝션 기록기
+ * - 예약 저장/취소/만료/결제 결과 반영이 커밋되면 그 예약이 걸친 (회의실, 날짜)를 dirty로 표시
+ * - 기록 스레드 하나가 flush-delay 동안 모인 dirty 키를 한 트랜잭션에서 다시 계산
+ *   (회의실별 연속 날짜 구간마다 활성 예약 조회 + 기존 행 조회, 배치 INSERT/UPDATE) → 예약 트랜잭션에는 SQL이 추가되지 않음
+ * - 델타 가감 대신 해당 날짜를 원본에서 다시 계산하므로 같은 키가 여러 번 표시되어도 결과가 같고, 누락은 rebuild로 복구
+ * - 기록자가 하나뿐이라 프로젝션 행끼리의 쓰기 경합이 없음
+ */
+@Slf4j
+@Component
+public class RoomOccupancyProjector {
+
+    // 한 번의 flush에서 다시 계산하는 최대 키 수 (남은 키는 바로 다음 flush에서)
+    private static final int MAX_KEYS_PER_FLUSH = 5_000;
+
+    private final ReservationJpaRepository reservationJpaRepository;
+    private final RoomDailyOccupancyJpaRepository occupancyJpaRepository;
+    private final TransactionTemplate transaction;
+    private final boolean enabled;
+    private final Duration flushDelay;
+
+    private final Set<RoomDay> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "room-occupancy-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public RoomOccupancyProjector(ReservationJpaRepository reservationJpaRepository,
+                                  RoomDailyOccupancyJpaRepository occupancyJpaRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${reservation.occupancy.enabled:true}") boolean enabled,
+                                  @Value("${reservation.occupancy.flush-delay:200ms}") Duration flushDelay) {
+        this.reservationJpaRepository = reservationJpaRepository;
+        this.occupancyJpaRepository = occupancyJpaRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.flushDelay = flushDelay;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 구간이 걸친 (회의실, 날짜)를 재계산 대상으로 표시 (커밋 이후 호출)
+     */
+    public void markDirty(ReservedInterval interval) {
+        if (!enabled) {
+            return;
+        }
+        long last = ReservationSlots.lastDay(interval.getEndTime());
+        for (long day = ReservationSlots.firstDay(interval.getStartTime()); day <= last; day++) {
+            dirty.add(new RoomDay(interval.getMeetingRoomId(), day));
+        }
+        scheduleFlush(flushDelay);
+    }
+
+    /**
+     * 회의실별로 기간 전체를 다시 계산 (기록 스레드에서 회의실 하나당 트랜잭션 하나)
+     */
+    public void rebuildAsync(Collection<Long> meetingRoomIds, LocalDate fromDate, LocalDate toDate) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> roomIds = List.copyOf(meetingRoomIds);
+        writer.execute(() -> {
+            long startedAt = System.nanoTime();
+            for (Long meetingRoomId : roomIds) {
+                List<RoomDay> keys = new ArrayList<>();
+                for (long day = fromDate.toEpochDay(); day <= toDate.toEpochDay(); day++) {
+                    keys.add(new RoomDay(meetingRoomId, day));
+                }
+                try {
+                    transaction.executeWithoutResult(status -> recompute(keys));
+                } catch (Exception e) {
+                    log.warn("회의실 점유 프로젝션 재구성 실패. meetingRoomId: {}, error: {}", meetingRoomId, e.getMessage());
+                }
+            }
+            log.info("회의실 점유 프로젝션 재구성 완료. rooms: {}, from: {}, to: {}, elapsedMs: {}",
+                    roomIds.size(), fromDate, toDate, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        });
+    }
+
+    /**
+     * 프로젝션 전체 삭제 (예약 전체 삭제 이후)
+     */
+    public void clear() {
+        if (!enabled) {
+            return;
+        }
+        dirty.clear();
+        writer.execute(() -> transaction.executeWithoutResult(status -> occupancyJpaRepository.deleteAllRows()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdownNow();
+    }
+
+    private void scheduleFlush(Duration delay) {
+        if (flushScheduled.compareAndSet(false, true)) {
+            writer.schedule(this::flush, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+
+        // 꺼낸 뒤 다시 표시된 키는 그 변경이 이미 커밋된 상태이므로 이번 재계산 조회에 반영됨
+        List<RoomDay> keys = new ArrayList<>();
+        for (Iterator<RoomDay> it = dirty.iterator(); it.hasNext() && keys.size() < MAX_KEYS_PER_FLUSH; ) {
+            keys.add(it.next());
+            it.remove();
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            transaction.executeWithoutResult(status -> recompute(keys));
+        } catch (Exception e) {
+            log.warn("회의실 점유 프로젝션 반영 실패 - 재시도 예정. keys: {}, error: {}", keys.size(), e.getMessage());
+            dirty.addAll(keys);
+        }
+        if (!dirty.isEmpty()) {
+            scheduleFlush(flushDelay);
+        }
+    }
+
+    /**
+     * 키 목록의 (회의실, 날짜) 행을 활성 예약에서 다시 계산해 기록 (빈 날은 행 삭제)
+     * - 회의실별로 연속된 날짜 구간마다 조회 (서로 다른 회의실/떨어진 날짜를 하나의 큰 범위로 합쳐 읽지 않음)
+     */
+    private void recompute(List<RoomDay> keys) {
+        Map<Long, List<Long>> daysByRoom = new HashMap<>();
+        for (RoomDay key : keys) {
+            daysByRoom.computeIfAbsent(key.meetingRoomId(), id -> new ArrayList<>()).add(key.epochDay());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RoomDailyOccupancyEntity> changed = new ArrayList<>();
+        List<RoomDailyOccupancyEntity> emptied = new ArrayList<>();
+        for (Map.Entry<Long, List<Long>> entry : daysByRoom.entrySet()) {
+            List<Long> days = entry.getValue();
+            days.sort(null);
+            int runStart = 0;
+            for (int i = 1; i <= days.size(); i++) {
+                if (i == days.size() || days.get(i) > days.get(i - 1) + 1) {
+                    recomputeRange(entry.getKey(), days.get(runStart), days.get(i - 1), now, changed, emptied);
+                    runStart = i;
+                }
+            }
+        }
+        occupancyJpaRepository.saveAll(changed);
+        occupancyJpaRepository.deleteAll(emptied);
+    }
+
+    /**
+     * 회의실 하나의 연속된 날짜 구간 [fromDay, toDay] 재계산 (예약 범위 조회 1회 + 기존 행 조회 1회)
+     */
+    private void recomputeRange(Long meetingRoomId, long fromDay, long toDay, LocalDateTime now,
+                                List<RoomDailyOccupancyEntity> changed, List<RoomDailyOccupancyEntity> emptied) {
+        LocalDate fromDate = LocalDate.ofEpochDay(fromDay);
+        LocalDate toDate = LocalDate.ofEpochDay(toDay);
+        List<Long> meetingRoomIds = List.of(meetingRoomId);
+
+        Map<RoomDay, DayTotals> totals = aggregate(
+                reservationJpaRepository.findOccupancySourcesInRange(
+                        meetingRoomIds, fromDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay()),
+                fromDay, toDay);
+
+        Map<Long, RoomDailyOccupancyEntity> rows = new HashMap<>();
+        for (RoomDailyOccupancyEntity row : occupancyJpaRepository.findInRange(meetingRoomIds, fromDate, toDate)) {
+            rows.put(row.getOccupancyDate().toEpochDay(), row);
+        }
+
+        for (long day = fromDay; day <= toDay; day++) {
+            DayTotals dayTotals = totals.get(new RoomDay(meetingRoomId, day));
+            RoomDailyOccupancyEntity row = rows.get(day);
+            if (dayTotals == null) {
+                if (row != null) {
+                    emptied.add(row);
+                }
+                continue;
+            }
+            if (row == null) {
+                row = new RoomDailyOccupancyEntity(meetingRoomId, LocalDate.ofEpochDay(day));
+            }
+            row.setSlots(dayTotals.slots);
+            row.setBookedMinutes(Long.bitCount(dayTotals.slots) * ReservationSlots.SLOT_MINUTES);
+            row.setRevenue(dayTotals.revenue);
+            row.setUpdatedAt(now);
+            changed.add(row);
+        }
+    }
+
+    /**
+     * 예약 구간 → (회의실, 날짜)별 슬롯 합집합 / 확정 매출 (이용 시간 비율로 날짜별 배분)
+     */
+    static Map<RoomDay, DayTotals> aggregate(List<OccupancySource> sources, long fromDay, long toDay) {
+        Map<RoomDay, DayTotals> totals = new HashMap<>();
+        for (OccupancySource source : sources) {
+            long totalSlots = 0;
+            long first = ReservationSlots.firstDay(source.getStartTime());
+            long last = ReservationSlots.lastDay(source.getEndTime());
+            for (long day = first; day <= last; day++) {
+                totalSlots += Long.bitCount(ReservationSlots.dayMask(day, source.getStartTime(), source.getEndTime()));
+            }
+
+            for (long day = Math.max(first, fromDay); day <= Math.min(last, toDay); day++) {
+                long mask = ReservationSlots.dayMask(day, source.getStartTime(), source.getEndTime());
+                DayTotals dayTotals = totals.computeIfAbsent(new RoomDay(source.getMeetingRoomId(), day), key -> new DayTotals());
+                dayTotals.slots |= mask;
+                if (source.getStatus() == ReservationStatus.CONFIRMED && totalSlots > 0) {
+                    dayTotals.revenue += source.getTotalAmount() * Long.bitCount(mask) / totalSlots;
+                }
+            }
+        }
+        return totals;
+    }
+
+    record RoomDay(Long meetingRoomId, long epochDay) {
+    }
+
+    static final class DayTotals {
+        long slots;
+        double revenue;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.repository;
+
+import com.example.wiseai_dev.global.transaction.TransactionCallbacks;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationHold;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSearchCondition;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.SlotBitmapAvailabilityEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 슬롯 비트맵 가속 ReservationRepository
+ * - reservation.availability.engine=bitmap 일 때 기본 구현(ReservationRepositoryImpl)을 감싸서 사용
+ * - 겹침/점유 슬롯 조회는 비트맵으로 답하고, 나머지는 그대로 위임
+ */
+@Primary
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "reservation.availability.engine", havingValue = "bitmap")
+public class BitmapReservationRepository implements ReservationRepository {
+
+    private final ReservationRepositoryImpl delegate;
+    private final SlotBitmapAvailabilityEngine engine;
+
+    @Override
+    public Reservation save(Reservation reservation) {
+        Reservation saved = delegate.save(reservation);
+        ReservedInterval interval = new ReservedInterval(
+                saved.getId(), saved.getMeetingRoomId(), saved.getStartTime(), saved.getEndTime());
+        TransactionCallbacks.afterCommit(() -> engine.apply(interval, saved.getStatus()));
+        return saved;
+    }
+
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        List<Reservation> saved = delegate.saveAll(reservations);
+        List<ReservedInterval> intervals = saved.stream()
+                .map(reservation -> new ReservedInterval(reservation.getId(), reservation.getMeetingRoomId(),
+                        reservation.getStartTime(), reservation.getEndTime()))
+                .toList();
+        TransactionCallbacks.afterCommit(() -> {
+            for (int i = 0; i < intervals.size(); i++) {
+                engine.apply(intervals.get(i), saved.get(i).getStatus());
+            }
+        });
+        return saved;
+    }
+
+    @Override
+    public Optional<Reservation> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public Optional<Reservation> findByIdForUpdate(Long id) {
+        return delegate.findByIdForUpdate(id);
+    }
+
+    @Override
+    public List<Reservation> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Reservation> findPage(ReservationSearchCondition condition, Long afterId, int size) {
+        return delegate.findPage(condition, afterId, size);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        TransactionCallbacks.afterCommit(() -> engine.remove(id));
+    }
+
+    @Override
+    public List<Reservation> findByMeetingRoomIdAndTimeRange(Long meetingRoomId, LocalDateTime startTime, LocalDateTime endTime) {
+        return delegate.findByMeetingRoomIdAndTimeRange(meetingRoomId, startTime, endTime);
+    }
+
+    @Override
+    public boolean existsOverlapping(Long meetingRoomId, LocalDateTime startTime,
+                                     LocalDateTime endTime, Long excludeReservationId) {
+        if (engine.covers(meetingRoomId, startTime, endTime)) {
+            return engine.hasOverlap(meetingRoomId, startTime, endTime, excludeReservationId);
+        }
+        engine.warmUpAsync(meetingRoomId);
+        return delegate.existsOverlapping(meetingRoomId, startTime, endTime, excludeReservationId);
+    }
+
+    /**
+     * 적재된 회의실은 비트맵에서, 나머지는 한 번의 범위 쿼리로 조회
+     */
+    @Override
+    public Map<Long, long[]> findOccupiedSlots(Collection<Long> meetingRoomIds, LocalDate fromDate, LocalDate toDate) {
+        Map<Long, long[]> occupied = new HashMap<>();
+        List<Long> uncovered = new ArrayList<>();
+        for (Long meetingRoomId : meetingRoomIds) {
+            if (engine.covers(meetingRoomId, fromDate, toDate)) {
+                occupied.put(meetingRoomId, engine.occupiedSlots(meetingRoomId, fromDate, toDate));
+            } else {
+                engine.warmUpAsync(meetingRoomId);
+                uncovered.add(meetingRoomId);
+            }
+        }
+        if (!uncovered.isEmpty()) {
+            occupied.putAll(delegate.findOccupiedSlots(uncovered, fromDate, toDate));
+        }
+        return occupied;
+    }
+
+    @Override
+    public List<ReservationHold> findHoldsCreatedBefore(LocalDateTime createdBefore, ReservationHold after, int limit) {
+        return delegate.findHoldsCreatedBefore(createdBefore, after, limit);
+    }
+
+    @Override
+    public List<Long> expireHolds(Collection<Long> reservationIds, LocalDateTime createdBefore) {
+        List<Long> expired = delegate.expireHolds(reservationIds, createdBefore);
+        TransactionCallbacks.afterCommit(() -> expired.forEach(engine::remove));
+        return expired;
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    @Override
+    public void deleteAll() {
+        delegate.deleteAll();
+        TransactionCallbacks.afterCommit(engine::clear);
+    }
+}
@@ -1,15 +1,38 @@
 package com.example.wiseai_dev.reservation.infrastructrue.presistence.repository;
 
+import com.example.wiseai_dev.global.transaction.TransactionCallbacks;
 import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationHold;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSearchCondition;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
 import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
 import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.ReservationEntity;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.ReservationSlotEntity;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.ReservationIntervalIndex;
 import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.ReservationJpaRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.ReservationSlotJpaRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.projection.RoomOccupancyProjector;
+import com.example.wiseai_dev.user.domain.model.User;
 import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -17,33 +40,122 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ReservationRepositoryImpl implements ReservationRepository {
 
+    // 결제 대기 만료 스캔 커서가 없을 때의 시작 위치
+    private static final LocalDateTime HOLD_SCAN_START = LocalDateTime.of(2000, 1, 1, 0, 0);
+
     private final ReservationJpaRepository jpaRepository;
+    private final ReservationIntervalIndex intervalIndex;
+    private final UserJpaRepository userJpaRepository;
+    private final RoomOccupancyProjector occupancyProjector;
+    private final ReservationSlotJpaRepository slotJpaRepository;
 
+    /**
+     * 저장 시 사용자는 id 기반 참조(getReferenceById)로만 연결 - 사용자 SELECT / merge 없음
+     * 반환 모델의 사용자는 호출 측이 넘긴 값을 그대로 사용 (프록시 초기화 방지)
+     * 활성 예약이 되거나 시간이 바뀌면 슬롯을 선점하고, 비활성이 되면 반납 (겹치면 IllegalStateException)
+     * 점유 프로젝션은 커밋 이후 변경 전/후 구간의 날짜를 재계산 대상으로 표시
+     */
     @Override
     public Reservation save(Reservation reservation) {
+        // 변경 전 상태 (같은 트랜잭션에서 이미 읽은 예약이면 SQL 없음)
+        ReservationEntity current = reservation.getId() != null
+                ? jpaRepository.findById(reservation.getId()).orElse(null)
+                : null;
+        ReservedInterval previous = current != null ? toInterval(current) : null;
+        boolean previouslyActive = current != null && isActive(current.getStatus());
+
         ReservationEntity entity = toEntity(reservation);
         ReservationEntity savedEntity = jpaRepository.save(entity);
-        return toDomainModel(savedEntity);
+
+        ReservedInterval interval = toInterval(savedEntity);
+        boolean active = isActive(savedEntity.getStatus());
+        boolean moved = previous == null || !sameSlots(previous, interval);
+        if (previouslyActive && (!active || moved)) {
+            slotJpaRepository.deleteByReservationIds(List.of(savedEntity.getId()));
+        }
+        if (active && (!previouslyActive || moved)) {
+            claimSlots(List.of(savedEntity));
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            intervalIndex.apply(interval, savedEntity.getStatus());
+            occupancyProjector.markDirty(interval);
+            if (previous != null) {
+                occupancyProjector.markDirty(previous);
+            }
+        });
+        return toDomainModel(savedEntity, reservation.getUser());
     }
 
     /**
-     * 일반 조회 (락 없음)
+     * 일괄 저장
+     * - 시퀀스 ID 블록으로 id가 INSERT 전에 정해지므로 INSERT는 flush 시점에 hibernate.jdbc.batch_size 단위로 묶여 전송
+     * - 활성 예약의 슬롯은 모두 모아 한 번에 선점 (하나라도 겹치면 전체 실패)
+     * - 인덱스 반영은 save와 같이 커밋 이후 한 번에
+     */
+    @Override
+    public List<Reservation> saveAll(List<Reservation> reservations) {
+        List<ReservationEntity> savedEntities = jpaRepository.saveAll(
+                reservations.stream().map(this::toEntity).collect(Collectors.toList()));
+        claimSlots(savedEntities.stream().filter(entity -> isActive(entity.getStatus())).toList());
+
+        List<ReservedInterval> intervals = savedEntities.stream().map(this::toInterval).collect(Collectors.toList());
+        TransactionCallbacks.afterCommit(() -> {
+            for (int i = 0; i < intervals.size(); i++) {
+                intervalIndex.apply(intervals.get(i), savedEntities.get(i).getStatus());
+                occupancyProjector.markDirty(intervals.get(i));
+            }
+        });
+
+        List<Reservation> saved = new ArrayList<>(savedEntities.size());
+        for (int i = 0; i < savedEntities.size(); i++) {
+            saved.add(toDomainModel(savedEntities.get(i), reservations.get(i).getUser()));
+        }
+        return saved;
+    }
+
+    /**
+     * 일반 조회 (락 없음, 사용자 조인 조회)
      */
     @Override
     public Optional<Reservation> findById(Long id) {
-        return jpaRepository.findById(id).map(this::toDomainModel);
+        return jpaRepository.findWithUserById(id).map(this::toDomainModel);
     }
 
     /**
      * 비관적 락 조회 (결제/취소 시 동시성 제어 용도)
+     * - 사용자 행은 잠그지 않도록 예약만 잠그고, 사용자는 락 획득 후 별도로 초기화
      */
     public Optional<Reservation> findByIdForUpdate(Long id) {
-        return jpaRepository.findByIdWithPessimisticLock(id).map(this::toDomainModel);
+        return jpaRepository.findByIdWithPessimisticLock(id)
+                .map(entity -> {
+                    Hibernate.initialize(entity.getUser());
+                    return toDomainModel(entity);
+                });
     }
 
     @Override
     public List<Reservation> findAll() {
-        return jpaRepository.findAll()
+        return jpaRepository.findAllWithUser()
+                .stream()
+                .map(this::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 조건별 keyset 페이지 조회 (OFFSET 없이 PK 범위 스캔 + LIMIT)
+     */
+    @Override
+    public List<Reservation> findPage(ReservationSearchCondition condition, Long afterId, int size) {
+        return jpaRepository.findPage(
+                        afterId != null ? afterId : 0L,
+                        condition.getMeetingRoomId(),
+                        condition.getUserId(),
+                        condition.getStatus(),
+                        condition.getFrom(),
+                        condition.getTo(),
+                        PageRequest.ofSize(size)
+                )
                 .stream()
                 .map(this::toDomainModel)
                 .collect(Collectors.toList());
@@ -51,7 +163,15 @@ public class ReservationRepositoryImpl implements ReservationRepository {
 
     @Override
     public void deleteById(Long id) {
+        ReservedInterval previous = findPreviousInterval(id);
+        slotJpaRepository.deleteByReservationIds(List.of(id));
         jpaRepository.deleteById(id);
+        TransactionCallbacks.afterCommit(() -> {
+            intervalIndex.remove(id);
+            if (previous != null) {
+                occupancyProjector.markDirty(previous);
+            }
+        });
     }
 
     @Override
@@ -62,6 +182,83 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 겹침 여부 확인
+     * - 인메모리 인덱스가 켜져 있고(sharded 실행기 + 단일 인스턴스) 적재된 회의실이면 DB 조회 없이 판단
+     * - 인덱스가 꺼져 있거나 미적재(콜드 스타트) 상태면 구간 projection 쿼리로 폴백하고 인덱스 적재를 예약
+     */
+    @Override
+    public boolean existsOverlapping(Long meetingRoomId, LocalDateTime startTime,
+                                     LocalDateTime endTime, Long excludeReservationId) {
+        if (intervalIndex.covers(meetingRoomId, startTime)) {
+            return intervalIndex.hasOverlap(meetingRoomId, startTime, endTime, excludeReservationId);
+        }
+
+        intervalIndex.warmUpAsync(meetingRoomId);
+        return jpaRepository.findOverlappingIntervals(meetingRoomId, startTime, endTime)
+                .stream()
+                .anyMatch(interval -> !interval.getReservationId().equals(excludeReservationId));
+    }
+
+    /**
+     * 회의실별 점유 슬롯 비트맵 (기간 전체를 한 번의 범위 쿼리로 조회)
+     */
+    @Override
+    public Map<Long, long[]> findOccupiedSlots(Collection<Long> meetingRoomIds, LocalDate fromDate, LocalDate toDate) {
+        int days = (int) ChronoUnit.DAYS.between(fromDate, toDate) + 1;
+        Map<Long, long[]> occupied = new HashMap<>();
+        meetingRoomIds.forEach(meetingRoomId -> occupied.put(meetingRoomId, new long[days]));
+        if (meetingRoomIds.isEmpty()) {
+            return occupied;
+        }
+
+        List<ReservedInterval> intervals = jpaRepository.findActiveIntervalsInRange(
+                meetingRoomIds,
+                fromDate.atStartOfDay(),
+                toDate.plusDays(1).atStartOfDay()
+        );
+        for (ReservedInterval interval : intervals) {
+            ReservationSlots.mark(occupied.get(interval.getMeetingRoomId()), fromDate,
+                    interval.getStartTime(), interval.getEndTime());
+        }
+        return occupied;
+    }
+
+    /**
+     * after가 없으면 처음부터
+     */
+    @Override
+    public List<ReservationHold> findHoldsCreatedBefore(LocalDateTime createdBefore, ReservationHold after, int limit) {
+        LocalDateTime afterCreatedAt = after != null ? after.getCreatedAt() : HOLD_SCAN_START;
+        Long afterId = after != null ? after.getReservationId() : 0L;
+        return jpaRepository.findHoldsCreatedBefore(createdBefore, afterCreatedAt, afterId, PageRequest.ofSize(limit));
+    }
+
+    /**
+     * 결제 대기 예약 만료 (호출 측 트랜잭션 안에서)
+     * - 잠기지 않은 대상만 선점해 EXPIRED로 변경, UPDATE는 커밋 시 배치로 전송 (version 증가)
+     * - 선점 슬롯은 바로 반납, 인덱스 반영은 커밋 이후 (EXPIRED는 점유 해제)
+     */
+    @Override
+    public List<Long> expireHolds(Collection<Long> reservationIds, LocalDateTime createdBefore) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+        List<ReservationEntity> claimed = jpaRepository.claimHolds(reservationIds, createdBefore);
+        claimed.forEach(entity -> entity.setStatus(ReservationStatus.EXPIRED));
+        if (!claimed.isEmpty()) {
+            slotJpaRepository.deleteByReservationIds(
+                    claimed.stream().map(ReservationEntity::getId).collect(Collectors.toList()));
+        }
+
+        List<ReservedInterval> intervals = claimed.stream().map(this::toInterval).collect(Collectors.toList());
+        TransactionCallbacks.afterCommit(() -> intervals.forEach(interval -> {
+            intervalIndex.apply(interval, ReservationStatus.EXPIRED);
+            occupancyProjector.markDirty(interval);
+        }));
+        return claimed.stream().map(ReservationEntity::getId).collect(Collectors.toList());
+    }
+
     @Override
     public void flush() {
         jpaRepository.flush();
@@ -69,24 +266,92 @@ public class ReservationRepositoryImpl implements ReservationRepository {
 
     @Override
     public void deleteAll() {
+        slotJpaRepository.deleteAllRows();
         jpaRepository.deleteAll();
+        TransactionCallbacks.afterCommit(() -> {
+            intervalIndex.clear();
+            occupancyProjector.clear();
+        });
+    }
+
+    /**
+     * 변경 전 구간 (프로젝션 사용 시에만, 같은 트랜잭션에서 이미 읽은 예약이면 SQL 없음)
+     */
+    private ReservedInterval findPreviousInterval(Long id) {
+        if (id == null || !occupancyProjector.isEnabled()) {
+            return null;
+        }
+        return jpaRepository.findById(id).map(this::toInterval).orElse(null);
+    }
+
+    /**
+     * 예약들이 차지하는 30분 슬롯을 선점 (호출 측 트랜잭션 안에서)
+     * - 예약 INSERT/UPDATE를 먼저 보낸 뒤 슬롯 행을 JDBC 배치 INSERT 한 번으로 전송
+     *   → 이 시점의 제약 위반은 슬롯 PK 충돌뿐이므로 겹침으로 변환
+     * - 동시에 같은 슬롯을 선점하면 DB 유니크 제약이 한쪽을 거절 (조회 후 INSERT 사이의 경합 없음)
+     * - 슬롯은 (회의실, 시작 시각) 순으로 INSERT해 동시 선점끼리 교착되지 않도록 함
+     */
+    private void claimSlots(List<ReservationEntity> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+        jpaRepository.flush();
+
+        List<ReservationSlotEntity> slots = new ArrayList<>();
+        for (ReservationEntity entity : entities) {
+            for (LocalDateTime slotStart : ReservationSlots.slotStarts(entity.getStartTime(), entity.getEndTime())) {
+                slots.add(new ReservationSlotEntity(entity.getMeetingRoomId(), slotStart, entity.getId()));
+            }
+        }
+        slots.sort(Comparator.comparing(ReservationSlotEntity::getMeetingRoomId)
+                .thenComparing(ReservationSlotEntity::getSlotStart));
+        try {
+            slotJpaRepository.saveAll(slots);
+            slotJpaRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("해당 시간대에 이미 예약이 존재합니다.", e);
+        }
+    }
+
+    private static boolean isActive(ReservationStatus status) {
+        return status == ReservationStatus.CONFIRMED || status == ReservationStatus.PENDING_PAYMENT;
+    }
+
+    private static boolean sameSlots(ReservedInterval previous, ReservedInterval interval) {
+        return Objects.equals(previous.getMeetingRoomId(), interval.getMeetingRoomId())
+                && previous.getStartTime().equals(interval.getStartTime())
+                && previous.getEndTime().equals(interval.getEndTime());
     }
 
     // --- 변환 헬퍼 메서드 ---
+    // 사용자 로딩 여부는 조회 메서드의 fetch plan이 결정 (여기서 지연 로딩을 유발하지 않음, 미로딩이면 id만)
     private Reservation toDomainModel(ReservationEntity entity) {
         if (entity == null) return null;
+        return toDomainModel(entity, UserEntity.toDomainReference(entity.getUser()));
+    }
+
+    private Reservation toDomainModel(ReservationEntity entity, User user) {
         return new Reservation(
                 entity.getId(),
                 entity.getMeetingRoomId(),
                 entity.getStartTime(),
                 entity.getEndTime(),
-                entity.getUser().toDomainModel(),
+                user,
                 entity.getStatus(),
                 entity.getTotalAmount(),
                 entity.getVersion()
         );
     }
 
+    private ReservedInterval toInterval(ReservationEntity entity) {
+        return new ReservedInterval(
+                entity.getId(),
+                entity.getMeetingRoomId(),
+                entity.getStartTime(),
+                entity.getEndTime()
+        );
+    }
+
     private ReservationEntity toEntity(Reservation domainModel) {
         if (domainModel == null) return null;
         return new ReservationEntity(
@@ -94,10 +359,11 @@ public class ReservationRepositoryImpl implements ReservationRepository {
                 domainModel.getMeetingRoomId(),
                 domainModel.getStartTime(),
                 domainModel.getEndTime(),
-                UserEntity.fromDomainModel(domainModel.getUser()),
+                domainModel.getUser() != null ? userJpaRepository.getReferenceById(domainModel.getUser().getId()) : null,
                 domainModel.getStatus(),
                 domainModel.getTotalAmount(),
-                domainModel.getVersion()
+                domainModel.getVersion(),
+                null
         );
     }
 }
@@ -0,0 +1,94 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.repository;
+
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예약 슬롯 선점 행 채우기 (reservation_slot 도입 이전부터 있던 데이터베이스용)
+ * - 겹침 금지는 슬롯 선점만으로 보장되므로, 슬롯 행이 없는 활성 예약(CONFIRMED / PENDING_PAYMENT) 위에는 새 예약이 그대로 들어감
+ * - 기동 시(스키마 갱신 + data.sql 이후, 요청 수신 전) 슬롯 행이 하나도 없는 활성 예약만 찾아 슬롯을 선점 (이미 채워진 예약은 건너뛰므로 매번 실행해도 안전)
+ * - 예약 단위 트랜잭션: 기존 데이터에 이미 겹친 활성 예약이 있으면 뒤의 예약은 선점하지 못하고 경고만 남김 (직접 정리 필요)
+ */
+@Slf4j
+@Component
+@DependsOnDatabaseInitialization
+public class ReservationSlotBackfill {
+
+    private static final int PAGE_SIZE = 500;
+
+    private static final String SELECT_UNCLAIMED = """
+            SELECT r.id, r.meeting_room_id, r.start_time, r.end_time
+            FROM reservations r
+            WHERE r.id > ?
+              AND r.status IN ('CONFIRMED', 'PENDING_PAYMENT')
+              AND NOT EXISTS (SELECT 1 FROM reservation_slot s WHERE s.reservation_id = r.id)
+            ORDER BY r.id
+            LIMIT ?""";
+
+    private static final String INSERT_SLOT =
+            "INSERT INTO reservation_slot (meeting_room_id, slot_start, reservation_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transaction;
+
+    // 스키마 생성/갱신(EntityManagerFactory 초기화) 이후에 실행되도록 의존
+    public ReservationSlotBackfill(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void backfill() {
+        long afterId = 0;
+        int claimed = 0;
+        int failed = 0;
+        List<ReservedInterval> page;
+        do {
+            page = jdbcTemplate.query(SELECT_UNCLAIMED, (rs, rowNum) -> new ReservedInterval(
+                    rs.getLong("id"),
+                    rs.getLong("meeting_room_id"),
+                    rs.getObject("start_time", LocalDateTime.class),
+                    rs.getObject("end_time", LocalDateTime.class)), afterId, PAGE_SIZE);
+            for (ReservedInterval interval : page) {
+                if (claim(interval)) {
+                    claimed++;
+                } else {
+                    failed++;
+                }
+                afterId = interval.getReservationId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        if (claimed > 0 || failed > 0) {
+            log.info("예약 슬롯 채우기 완료. claimed: {}, failed: {}", claimed, failed);
+        }
+    }
+
+    private boolean claim(ReservedInterval interval) {
+        List<Object[]> slots = ReservationSlots.slotStarts(interval.getStartTime(), interval.getEndTime()).stream()
+                .map(slotStart -> new Object[]{interval.getMeetingRoomId(), slotStart, interval.getReservationId()})
+                .toList();
+        try {
+            transaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SLOT, slots));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("예약 슬롯 채우기 실패 - 겹치는 활성 예약 또는 다른 인스턴스가 먼저 채움, 직접 확인 필요. reservationId: {}, meetingRoomId: {}, {} ~ {}",
+                    interval.getReservationId(), interval.getMeetingRoomId(), interval.getStartTime(), interval.getEndTime());
+            return false;
+        }
+    }
+}
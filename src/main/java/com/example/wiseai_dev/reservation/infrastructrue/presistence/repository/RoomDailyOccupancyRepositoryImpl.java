@@ -0,0 +1,35 @@
+package com.example.wiseai_dev.reservation.infrastructrue.presistence.repository;
+
+import com.example.wiseai_dev.reservation.domain.model.RoomDailyOccupancy;
+import com.example.wiseai_dev.reservation.domain.repository.RoomDailyOccupancyRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.RoomDailyOccupancyEntity;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.RoomDailyOccupancyJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class RoomDailyOccupancyRepositoryImpl implements RoomDailyOccupancyRepository {
+
+    private final RoomDailyOccupancyJpaRepository jpaRepository;
+
+    @Override
+    public List<RoomDailyOccupancy> findByMeetingRoomId(Long meetingRoomId, LocalDate fromDate, LocalDate toDate) {
+        return jpaRepository.findByMeetingRoomIdAndOccupancyDateBetweenOrderByOccupancyDate(meetingRoomId, fromDate, toDate)
+                .stream()
+                .map(RoomDailyOccupancyEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RoomDailyOccupancy> findByDate(LocalDate date) {
+        return jpaRepository.findByOccupancyDate(date)
+                .stream()
+                .map(RoomDailyOccupancyEntity::toDomainModel)
+                .collect(Collectors.toList());
+    }
+}
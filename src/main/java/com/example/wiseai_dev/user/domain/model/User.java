@@ -1,5 +1,6 @@
 package com.example.wiseai_dev.user.domain.model;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,8 +8,14 @@ import lombok.Setter;
 @Getter
 @Setter
 @Builder
+@AllArgsConstructor
 public class User {
     private Long id;
     private String name;
     private String email;
+
+    // 참조용 (id, name) - 존재 확인 + 예약자 이름만 필요한 경우 (JPQL 생성자 표현식에서 사용)
+    public User(Long id, String name) {
+        this(id, name, null);
+    }
 }
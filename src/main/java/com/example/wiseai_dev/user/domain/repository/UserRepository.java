@@ -1,10 +1,24 @@
 package com.example.wiseai_dev.user.domain.repository;
 
 import com.example.wiseai_dev.user.domain.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserRepository {
     User save(User user);
     Optional<User> findById(Long id);
     Optional<User> findByEmail(String email);
+
+    /**
+     * 존재하는 사용자만 id → 참조(id, name)로 반환
+     * - 엔티티를 로딩하지 않는 단일 projection 쿼리로 여러 id의 존재 여부를 한 번에 확인
+     */
+    Map<Long, User> findReferencesByIds(Collection<Long> ids);
+
+    default Optional<User> findReferenceById(Long id) {
+        return Optional.ofNullable(findReferencesByIds(List.of(id)).get(id));
+    }
 }
@@ -3,6 +3,7 @@ package com.example.wiseai_dev.user.infrastructure.persistence.entity;
 import com.example.wiseai_dev.user.domain.model.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 @Entity
 @Table(
@@ -37,6 +38,19 @@ public class UserEntity {
                 .build();
     }
 
+    // 연관 엔티티 → Domain 변환 (지연 로딩 프록시는 초기화하지 않고 id만 담음)
+    public static User toDomainReference(UserEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        if (!Hibernate.isInitialized(entity)) {
+            return User.builder()
+                    .id(entity.getId())
+                    .build();
+        }
+        return entity.toDomainModel();
+    }
+
     // Domain → Entity 변환
     public static UserEntity fromDomainModel(User user) {
         return UserEntity.builder()
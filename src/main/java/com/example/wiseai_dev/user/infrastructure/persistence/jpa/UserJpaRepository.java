@@ -1,10 +1,19 @@
 package com.example.wiseai_dev.user.infrastructure.persistence.jpa;
 
+import com.example.wiseai_dev.user.domain.model.User;
 import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
+
+    @Query("SELECT new com.example.wiseai_dev.user.domain.model.User(u.id, u.name) " +
+            "FROM UserEntity u WHERE u.id IN :ids")
+    List<User> findReferencesByIdIn(@Param("ids") Collection<Long> ids);
 }
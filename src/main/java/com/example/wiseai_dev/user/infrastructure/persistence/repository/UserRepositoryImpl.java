@@ -7,7 +7,11 @@ import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaReposit
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -30,4 +34,13 @@ public class UserRepositoryImpl implements UserRepository {
     public Optional<User> findByEmail(String email) {
         return jpaRepository.findByEmail(email).map(UserEntity::toDomainModel);
     }
+
+    @Override
+    public Map<Long, User> findReferencesByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return jpaRepository.findReferencesByIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
 }
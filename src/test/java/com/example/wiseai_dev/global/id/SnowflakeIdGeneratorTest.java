@@ -0,0 +1,159 @@
+package com.example.wiseai_dev.global.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Snowflake ID: 동시 발급 유일성 / 노드 내 단조 증가 / 밀리초 내 순번 초과 / 13자리 Base32 고정 폭
+ */
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int SEQUENCE_BITS = 12;
+    private static final int NODE_BITS = 10;
+    private static final String CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발급해도 중복 없음")
+    void 동시_발급_유일성() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+        int threads = 8;
+        int perThread = 50_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 발급한 ID와 문자열은 발급 순서대로 증가")
+    void 노드_내_단조_증가() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+        long previous = generator.nextId();
+        String previousText = generator.nextId("TXN-");
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            String text = generator.nextId("TXN-");
+            assertThat(id).isGreaterThan(previous);
+            assertThat(text).isGreaterThan(previousText);
+            previous = id;
+            previousText = text;
+        }
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 4096개를 넘기면 다음 밀리초로 넘어가고, 시계가 따라오거나 뒤로 가도 중복 없이 증가")
+    void 순번_초과_다음_밀리초() {
+        AtomicLong clock = new AtomicLong(EPOCH_MILLIS + 1_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(5, clock::get);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < (1 << SEQUENCE_BITS) + 1; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertThat(millisOf(ids.get(0))).isEqualTo(1_000);
+        assertThat(sequenceOf(ids.get(0))).isZero();
+        assertThat(sequenceOf(ids.get((1 << SEQUENCE_BITS) - 1))).isEqualTo((1 << SEQUENCE_BITS) - 1);
+        long rolled = ids.get(1 << SEQUENCE_BITS);
+        assertThat(millisOf(rolled)).isEqualTo(1_001);
+        assertThat(sequenceOf(rolled)).isZero();
+        assertThat(nodeOf(rolled)).isEqualTo(5);
+
+        // 시계가 미리 쓴 밀리초에 도달: 순번을 이어감
+        clock.set(EPOCH_MILLIS + 1_001);
+        long caughtUp = generator.nextId();
+        assertThat(caughtUp).isGreaterThan(rolled);
+        assertThat(sequenceOf(caughtUp)).isEqualTo(1);
+
+        // 시계 역행: 마지막 밀리초에서 계속 증가
+        clock.set(EPOCH_MILLIS + 500);
+        assertThat(generator.nextId()).isGreaterThan(caughtUp);
+    }
+
+    @Test
+    @DisplayName("문자열 ID는 prefix + 13자리 Crockford Base32 고정 폭이고 숫자 ID로 복원됨")
+    void Base32_고정_폭() {
+        long fixedMillis = EPOCH_MILLIS + 1;
+        long id = new SnowflakeIdGenerator(1, () -> fixedMillis).nextId();
+        String text = new SnowflakeIdGenerator(1, () -> fixedMillis).nextId("TXN-");
+
+        assertThat(text).hasSize("TXN-".length() + 13).startsWith("TXN-");
+        assertThat(text.substring(4)).matches("[" + CROCKFORD + "]{13}");
+        // epoch 직후의 작은 값도 앞자리를 0으로 채워 13자리
+        assertThat(text.substring(4)).startsWith("000000");
+        assertThat(decode(text.substring(4))).isEqualTo(id);
+
+        String latest = new SnowflakeIdGenerator(1).nextId("");
+        assertThat(latest).hasSize(13);
+        assertThat(latest).isGreaterThan(text.substring(4));
+    }
+
+    @Test
+    @DisplayName("노드 ID는 10비트 범위만 허용하고, 노드가 다르면 같은 밀리초에도 ID가 다름")
+    void 노드_ID() {
+        assertThatThrownBy(() -> new SnowflakeIdGenerator(1 << NODE_BITS))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        long fixedMillis = EPOCH_MILLIS + 1_000;
+        long first = new SnowflakeIdGenerator(1, () -> fixedMillis).nextId();
+        long second = new SnowflakeIdGenerator(2, () -> fixedMillis).nextId();
+        assertThat(first).isNotEqualTo(second);
+        assertThat(nodeOf(new SnowflakeIdGenerator((1 << NODE_BITS) - 1, () -> fixedMillis).nextId()))
+                .isEqualTo((1 << NODE_BITS) - 1);
+    }
+
+    private static long millisOf(long id) {
+        return id >>> (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    private static long nodeOf(long id) {
+        return (id >>> SEQUENCE_BITS) & ((1L << NODE_BITS) - 1);
+    }
+
+    private static long sequenceOf(long id) {
+        return id & ((1L << SEQUENCE_BITS) - 1);
+    }
+
+    private static long decode(String encoded) {
+        long value = 0;
+        for (char c : encoded.toCharArray()) {
+            value = (value << 5) | CROCKFORD.indexOf(c);
+        }
+        return value;
+    }
+}
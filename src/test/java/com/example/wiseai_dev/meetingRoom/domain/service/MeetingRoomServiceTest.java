@@ -2,9 +2,12 @@ package com.example.wiseai_dev.meetingRoom.domain.service;
 
 import com.example.wiseai_dev.meetingRoom.application.api.dto.MeetingRoomRequest;
 import com.example.wiseai_dev.meetingRoom.application.api.dto.MeetingRoomResponse;
+import com.example.wiseai_dev.meetingRoom.application.api.dto.RoomAvailabilityResponse;
 import com.example.wiseai_dev.meetingRoom.application.service.MeetingRoomService;
 import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
 import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,12 +15,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +33,9 @@ class MeetingRoomServiceTest {
     @Mock
     private MeetingRoomRepository meetingRoomRepository;
 
+    @Mock
+    private ReservationRepository reservationRepository;
+
     @InjectMocks
     private MeetingRoomService meetingRoomService;
 
@@ -86,4 +96,27 @@ class MeetingRoomServiceTest {
         verify(meetingRoomRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("회의실별 예약 가능 시간대를 조회할 수 있음")
+    void 회의실별_예약_가능_시간대를_조회할_수_있음() {
+        // given: 내일 10:00~11:00 예약 1건
+        LocalDate day = LocalDate.now().plusDays(1);
+        MeetingRoom room = new MeetingRoom(1L, "회의실A", 10, 50000.0);
+        when(meetingRoomRepository.findByMinCapacity(6)).thenReturn(List.of(room));
+        when(reservationRepository.findOccupiedSlots(anyCollection(), eq(day), eq(day)))
+                .thenReturn(Map.of(1L, new long[]{ReservationSlots.rangeMask(20, 22)}));
+
+        // when
+        List<RoomAvailabilityResponse> availability = meetingRoomService.findAvailability(day, day, 6);
+
+        // then
+        assertThat(availability).hasSize(1);
+        List<RoomAvailabilityResponse.FreeSlot> freeSlots = availability.get(0).getFreeSlots();
+        assertThat(freeSlots).hasSize(2);
+        assertThat(freeSlots.get(0).getStartTime()).isEqualTo(day.atStartOfDay());
+        assertThat(freeSlots.get(0).getEndTime()).isEqualTo(day.atTime(10, 0));
+        assertThat(freeSlots.get(1).getStartTime()).isEqualTo(day.atTime(11, 0));
+        assertThat(freeSlots.get(1).getEndTime()).isEqualTo(day.plusDays(1).atStartOfDay());
+        verify(reservationRepository, times(1)).findOccupiedSlots(anyCollection(), eq(day), eq(day));
+    }
 }
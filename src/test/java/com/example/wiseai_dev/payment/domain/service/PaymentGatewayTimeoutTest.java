@@ -0,0 +1,167 @@
+package com.example.wiseai_dev.payment.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.application.service.PaymentService;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+import com.example.wiseai_dev.payment.infrastructure.persistence.gateway.impl.CardPaymentGateway;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * PG 호출 제한 시간 / 대기열 초과 / 늦게 도착한 PG 결과
+ * - 풀 2개 + 대기열 없음: 두 호출이 PG를 붙잡고 있으면 세 번째는 즉시 거절
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class, properties = {
+        "payment.gateway.timeout=500ms",
+        "payment.gateway.pool-size=2",
+        "payment.gateway.queue-capacity=0",
+        "payment.gateway.virtual-threads=false"
+})
+@ActiveProfiles("test")
+class PaymentGatewayTimeoutTest {
+
+    private static final String PROVIDER = "Card";
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @SpyBean
+    private CardPaymentGateway cardPaymentGateway;
+
+    private User user;
+    private Long meetingRoomId;
+    private LocalDateTime base;
+    private int slot;
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(UserEntity.builder()
+                .name("PG지연")
+                .email("pg-timeout-" + System.nanoTime() + "@test.com")
+                .build()).toDomainModel();
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("PG지연회의실", 10, 10000)).getId();
+        base = LocalDateTime.now().plusDays(35).truncatedTo(ChronoUnit.DAYS).withHour(9);
+        slot = 0;
+    }
+
+    @Test
+    @DisplayName("PG 응답 지연 - 결제 대기로 응답하고, 늦게 도착한 승인으로 확정")
+    void 응답_지연_후_늦은_승인() {
+        doAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return invocation.callRealMethod();
+        }).when(cardPaymentGateway).processPayment(any());
+        Long reservationId = pendingReservation();
+
+        PaymentResponse response = paymentService.processReservationPayment(reservationId, PROVIDER);
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        awaitUntil(() -> paymentService.getPaymentStatus(reservationId) == PaymentStatus.SUCCESS);
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("PG 응답 지연 후 오류 - 늦게라도 결제 실패 + 예약 취소로 정리되어 시간대가 풀림")
+    void 응답_지연_후_늦은_오류() {
+        doAnswer(invocation -> {
+            Thread.sleep(1_000);
+            throw new RuntimeException("PG 연결 끊김");
+        }).when(cardPaymentGateway).processPayment(any());
+        Long reservationId = pendingReservation();
+
+        PaymentResponse response = paymentService.processReservationPayment(reservationId, PROVIDER);
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.PENDING);
+        awaitUntil(() -> paymentService.getPaymentStatus(reservationId) == PaymentStatus.FAILED);
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("PG 호출 대기열 초과 - 즉시 거절, 결제 대기 건은 삭제되고 예약은 다시 결제 가능")
+    void 대기열_초과_거절() throws Exception {
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            entered.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(cardPaymentGateway).processPayment(any());
+
+        CompletableFuture<PaymentResponse> first = paymentService.processReservationPaymentAsync(pendingReservation(), PROVIDER);
+        CompletableFuture<PaymentResponse> second = paymentService.processReservationPaymentAsync(pendingReservation(), PROVIDER);
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+
+        Long rejectedId = pendingReservation();
+        try {
+            assertThatThrownBy(() -> paymentService.processReservationPayment(rejectedId, PROVIDER))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("결제 요청이 많아");
+        } finally {
+            release.countDown();
+        }
+
+        assertThatThrownBy(() -> paymentService.getPaymentStatus(rejectedId))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(reservationRepository.findById(rejectedId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.PENDING_PAYMENT);
+        assertThat(first.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(second.get(10, TimeUnit.SECONDS).getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+    }
+
+    private Long pendingReservation() {
+        LocalDateTime startTime = base.plusHours(slot++);
+        return reservationRepository.save(Reservation.create(
+                meetingRoomId, startTime, startTime.plusHours(1), user, 10000, ReservationStatus.PENDING_PAYMENT
+        )).getId();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.wiseai_dev.payment.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.application.service.PaymentService;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+import com.example.wiseai_dev.payment.infrastructure.persistence.gateway.impl.CardPaymentGateway;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * 가상 스레드 모드 PG 호출 (동시 호출 제한 2)
+ * - 동시 호출 제한을 꽉 채운 PG 호출들이 한꺼번에 끝나도 결과 반영이 PG 호출 슬롯을 기다리지 않고 모두 완료
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class, properties = {
+        "payment.gateway.virtual-threads=true",
+        "payment.gateway.pool-size=2",
+        "payment.gateway.timeout=5s"
+})
+@ActiveProfiles("test")
+class PaymentGatewayVirtualThreadTest {
+
+    private static final String PROVIDER = "Card";
+    private static final int POOL_SIZE = 2;
+    private static final int PAYMENT_COUNT = 8;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @SpyBean
+    private CardPaymentGateway cardPaymentGateway;
+
+    private User user;
+    private Long meetingRoomId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(UserEntity.builder()
+                .name("가상스레드결제")
+                .email("pg-virtual-" + System.nanoTime() + "@test.com")
+                .build()).toDomainModel();
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("가상스레드회의실", 10, 10000)).getId();
+        base = LocalDateTime.now().plusDays(42).truncatedTo(ChronoUnit.DAYS).withHour(9);
+    }
+
+    @Test
+    @DisplayName("pool-size보다 많은 동시 결제 - 슬롯을 채운 PG 호출이 동시에 끝나도 교착 없이 모두 확정")
+    void 동시_호출_제한_초과_결제() throws Exception {
+        // 슬롯을 모두 채운 PG 호출들이 함께 끝나도록, 동시에 pool-size개가 들어올 때까지 붙잡아 둠
+        CountDownLatch full = new CountDownLatch(POOL_SIZE);
+        doAnswer(invocation -> {
+            full.countDown();
+            full.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(cardPaymentGateway).processPayment(any());
+
+        List<Long> reservationIds = new ArrayList<>();
+        for (int i = 0; i < PAYMENT_COUNT; i++) {
+            reservationIds.add(pendingReservation(i));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(PAYMENT_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(PAYMENT_COUNT);
+        List<Future<PaymentResponse>> results = new ArrayList<>();
+        for (Long reservationId : reservationIds) {
+            results.add(executorService.submit(() -> {
+                startLatch.countDown();
+                startLatch.await();
+                return paymentService.processReservationPayment(reservationId, PROVIDER);
+            }));
+        }
+        try {
+            for (Future<PaymentResponse> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS).getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        for (Long reservationId : reservationIds) {
+            assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                    .isEqualTo(ReservationStatus.CONFIRMED);
+        }
+    }
+
+    private Long pendingReservation(int index) {
+        LocalDateTime startTime = base.plusHours(index);
+        return reservationRepository.save(Reservation.create(
+                meetingRoomId, startTime, startTime.plusHours(1), user, 10000, ReservationStatus.PENDING_PAYMENT)).getId();
+    }
+}
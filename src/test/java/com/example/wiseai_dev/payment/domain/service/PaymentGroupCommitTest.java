@@ -0,0 +1,198 @@
+package com.example.wiseai_dev.payment.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.application.service.PaymentGroupCommitter;
+import com.example.wiseai_dev.payment.application.service.PaymentProviderRegistry;
+import com.example.wiseai_dev.payment.application.service.PaymentService;
+import com.example.wiseai_dev.payment.application.service.PaymentTransactionService;
+import com.example.wiseai_dev.payment.domain.model.Payment;
+import com.example.wiseai_dev.payment.domain.model.PaymentResult;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 결과 그룹 커밋 (payment.group-commit.enabled=true)
+ * - 여러 결제의 결과 반영이 한 트랜잭션으로 묶여도 요청별 결과/영속화는 건별 처리와 같아야 함
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class, properties = {
+        "payment.group-commit.enabled=true",
+        "payment.group-commit.max-wait=50ms"
+})
+@ActiveProfiles("test")
+class PaymentGroupCommitTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentGroupCommitter paymentGroupCommitter;
+
+    @Autowired
+    private PaymentTransactionService paymentTransactionService;
+
+    @Autowired
+    private PaymentProviderRegistry paymentProviderRegistry;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private Long meetingRoomId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(UserEntity.builder()
+                .name("그룹커밋")
+                .email("group-commit-" + System.nanoTime() + "@test.com")
+                .build()).toDomainModel();
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("그룹커밋회의실", 10, 10000)).getId();
+        base = LocalDateTime.now().plusDays(21).truncatedTo(ChronoUnit.DAYS).withHour(8);
+    }
+
+    @Test
+    @DisplayName("동시 결제 - 결과 반영이 묶여서 커밋되고 모든 예약이 확정됨")
+    void 동시_결제_그룹_커밋() throws Exception {
+        DistributionSummary groupSizes = meterRegistry.summary("payment.group-commit.size");
+        long groupsBefore = groupSizes.count();
+        double transitionsBefore = groupSizes.totalAmount();
+
+        List<Long> reservationIds = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            reservationIds.add(pendingReservation(i));
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(THREAD_COUNT); // 동시 시작을 위한 래치
+        List<Future<PaymentResponse>> results = new ArrayList<>();
+        for (Long reservationId : reservationIds) {
+            results.add(executorService.submit(() -> {
+                startLatch.countDown();
+                startLatch.await();
+                return paymentService.processReservationPayment(reservationId, "Card");
+            }));
+        }
+        for (Future<PaymentResponse> result : results) {
+            assertThat(result.get(30, TimeUnit.SECONDS).getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        }
+        executorService.shutdown();
+
+        // 응답을 받은 시점에 이미 커밋되어 있음
+        for (Long reservationId : reservationIds) {
+            assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                    .isEqualTo(ReservationStatus.CONFIRMED);
+        }
+        assertThat(groupSizes.totalAmount() - transitionsBefore).isEqualTo(THREAD_COUNT);
+        assertThat(groupSizes.count() - groupsBefore).isBetween(1L, (long) THREAD_COUNT);
+    }
+
+    @Test
+    @DisplayName("그룹 안에 실패하는 요청이 있으면 건별 처리로 전환되어 나머지는 반영됨")
+    void 그룹_실패_시_건별_처리() throws Exception {
+        double fallbacksBefore = meterRegistry.counter("payment.group-commit.fallback").count();
+        Payment first = pendingPayment(0);
+        Payment second = pendingPayment(1);
+
+        CompletableFuture<PaymentResponse> firstResult = paymentGroupCommitter.complete(first.getId(), success(first));
+        CompletableFuture<PaymentResponse> missing = paymentGroupCommitter.complete(-1L, success(first));
+        CompletableFuture<Void> secondResult = paymentGroupCommitter.fail(second.getId(), "PG 오류");
+
+        assertThat(firstResult.get(30, TimeUnit.SECONDS).getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(missing).failsWithin(30, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalArgumentException.class);
+        secondResult.get(30, TimeUnit.SECONDS);
+
+        assertThat(paymentService.getPaymentStatus(first.getReservation().getId())).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(paymentService.getPaymentStatus(second.getReservation().getId())).isEqualTo(PaymentStatus.FAILED);
+        assertThat(reservationRepository.findById(second.getReservation().getId()).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(meterRegistry.counter("payment.group-commit.fallback").count()).isGreaterThan(fallbacksBefore);
+    }
+
+    @Test
+    @DisplayName("호출 측 후속 단계는 그룹 커밋 스레드가 아닌 곳에서 실행 (그룹 커밋 / 건별 처리 전환 모두)")
+    void 후속_단계_실행_스레드() throws Exception {
+        // 그룹 커밋 성공 - max-wait(50ms) 동안 모이는 사이에 후속 단계를 붙임
+        Payment grouped = pendingPayment(2);
+        CompletableFuture<String> groupedThread = paymentGroupCommitter.complete(grouped.getId(), success(grouped))
+                .thenApply(response -> Thread.currentThread().getName());
+        assertThat(groupedThread.get(30, TimeUnit.SECONDS)).doesNotStartWith("payment-group-commit");
+
+        // 그룹 커밋 실패 → 커밋 스레드에서 건별 처리
+        Payment fallback = pendingPayment(3);
+        CompletableFuture<String> fallbackThread = paymentGroupCommitter.complete(fallback.getId(), success(fallback))
+                .thenApply(response -> Thread.currentThread().getName());
+        CompletableFuture<String> failedThread = paymentGroupCommitter.complete(-1L, success(fallback))
+                .handle((response, error) -> Thread.currentThread().getName());
+        assertThat(fallbackThread.get(30, TimeUnit.SECONDS)).doesNotStartWith("payment-group-commit");
+        assertThat(failedThread.get(30, TimeUnit.SECONDS)).doesNotStartWith("payment-group-commit");
+
+        assertThat(paymentService.getPaymentStatus(grouped.getReservation().getId())).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(paymentService.getPaymentStatus(fallback.getReservation().getId())).isEqualTo(PaymentStatus.SUCCESS);
+    }
+
+    private Long pendingReservation(int index) {
+        LocalDateTime startTime = base.plusHours(index);
+        return reservationRepository.save(Reservation.create(
+                meetingRoomId, startTime, startTime.plusHours(1), user, 10000, ReservationStatus.PENDING_PAYMENT
+        )).getId();
+    }
+
+    private Payment pendingPayment(int index) {
+        return paymentTransactionService.prepare(pendingReservation(THREAD_COUNT + index),
+                paymentProviderRegistry.get("Card").getProvider(), "TXN-GROUP-" + System.nanoTime());
+    }
+
+    private PaymentResult success(Payment payment) {
+        return PaymentResult.builder()
+                .paymentId(payment.getId())
+                .reservationId(payment.getReservation().getId())
+                .amount(payment.getAmount())
+                .status(PaymentStatus.SUCCESS)
+                .transactionId(payment.getTransactionId())
+                .providerName("Card")
+                .build();
+    }
+}
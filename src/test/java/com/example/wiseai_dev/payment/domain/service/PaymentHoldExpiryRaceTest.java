@@ -0,0 +1,214 @@
+package com.example.wiseai_dev.payment.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.application.api.dto.ProviderPayload;
+import com.example.wiseai_dev.payment.application.service.PaymentProviderRegistry;
+import com.example.wiseai_dev.payment.application.service.PaymentService;
+import com.example.wiseai_dev.payment.application.service.PaymentTransactionService;
+import com.example.wiseai_dev.payment.domain.model.Payment;
+import com.example.wiseai_dev.payment.domain.model.PaymentProvider;
+import com.example.wiseai_dev.payment.domain.model.PaymentResult;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 진행 중 결제 대기 만료 경합
+ * - 결제 준비(prepare)는 예약 행을 잠그므로 만료 선점은 그 행을 건너뛰고, 커밋 후에는 결제 행이 있어 대상이 아님
+ * - 그래도 만료/취소된 예약에 승인 결과(PG 응답 / 웹훅)가 도착하면 SUCCESS로 기록하지 않고 REFUND_REQUIRED로 남김
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class)
+@ActiveProfiles("test")
+class PaymentHoldExpiryRaceTest {
+
+    @Autowired
+    private PaymentTransactionService paymentTransactionService;
+
+    @Autowired
+    private PaymentProviderRegistry paymentProviderRegistry;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transaction;
+    private User user;
+    private Long meetingRoomId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        user = userJpaRepository.save(UserEntity.builder()
+                .name("만료경합")
+                .email("hold-race-" + System.nanoTime() + "@test.com")
+                .build()).toDomainModel();
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("만료경합회의실", 10, 10000)).getId();
+        base = LocalDateTime.now().plusDays(28).truncatedTo(ChronoUnit.DAYS).withHour(10);
+    }
+
+    @Test
+    @DisplayName("결제 준비 중 만료 스캔 - 결제가 승인되면 예약은 확정되고 만료되지 않음")
+    void 결제_준비_중_만료_스캔() throws Exception {
+        Long reservationId = pendingReservation();
+        CountDownLatch prepared = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 결제 준비 트랜잭션을 커밋 직전에 붙잡아 둠 (예약 행 잠금 + 커밋 전 결제 행)
+        CompletableFuture<Payment> preparing = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            Payment payment = paymentTransactionService.prepare(reservationId, cardProvider(), transactionId());
+            prepared.countDown();
+            await(release);
+            return payment;
+        }));
+        assertThat(prepared.await(10, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<List<Long>> expiring = CompletableFuture.supplyAsync(() -> transaction.execute(status ->
+                reservationRepository.expireHolds(List.of(reservationId), LocalDateTime.now().plusMinutes(1))));
+        Thread.sleep(200);
+        release.countDown();
+
+        Payment payment = preparing.get(10, TimeUnit.SECONDS);
+        assertThat(expiring.get(10, TimeUnit.SECONDS)).isEmpty();
+
+        PaymentResponse response = paymentTransactionService.complete(payment.getId(), success(payment));
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("만료가 먼저 선점하면 결제 준비는 거절됨")
+    void 만료_후_결제_준비_거절() {
+        Long reservationId = pendingReservation();
+
+        List<Long> expired = transaction.execute(status ->
+                reservationRepository.expireHolds(List.of(reservationId), LocalDateTime.now().plusMinutes(1)));
+
+        assertThat(expired).containsExactly(reservationId);
+        assertThatThrownBy(() -> paymentTransactionService.prepare(reservationId, cardProvider(), transactionId()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 예약에 늦게 도착한 승인 - REFUND_REQUIRED로 기록되고 예약은 살아나지 않음")
+    void 만료된_예약의_승인_결과() {
+        Long reservationId = pendingReservation();
+        Payment payment = paymentTransactionService.prepare(reservationId, cardProvider(), transactionId());
+
+        // 결제 진행 중 예약이 풀린 상황 (시간대 반납)
+        Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+        reservation.setStatus(ReservationStatus.EXPIRED);
+        reservationRepository.save(reservation);
+
+        PaymentResponse response = paymentTransactionService.complete(payment.getId(), success(payment));
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.REFUND_REQUIRED);
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation_slot WHERE reservation_id = ?", Long.class, reservationId)).isZero();
+        // 풀린 시간대는 다른 예약이 가져갈 수 있음
+        assertThat(pendingReservation()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("만료된 예약에 승인 웹훅 도착 - REFUND_REQUIRED로 기록되고 예약은 살아나지 않음, 풀린 시간대의 새 예약도 유지")
+    void 만료된_예약의_승인_웹훅() {
+        Long reservationId = pendingReservation();
+        Payment payment = paymentTransactionService.prepare(reservationId, cardProvider(), transactionId());
+
+        // 결제 진행 중 예약이 만료되고, 풀린 시간대를 다른 예약이 가져감
+        Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+        reservation.setStatus(ReservationStatus.EXPIRED);
+        reservationRepository.save(reservation);
+        Long rebookedId = pendingReservation();
+
+        ProviderPayload payload = new ProviderPayload();
+        payload.setTransactionId(payment.getTransactionId());
+        payload.setStatus("SUCCESS");
+        paymentService.handleWebhook("Card", payload);
+
+        assertThat(paymentService.getPaymentStatus(reservationId)).isEqualTo(PaymentStatus.REFUND_REQUIRED);
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation_slot WHERE reservation_id = ?", Long.class, reservationId)).isZero();
+        assertThat(reservationRepository.findById(rebookedId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.PENDING_PAYMENT);
+    }
+
+    private Long pendingReservation() {
+        return reservationRepository.save(Reservation.create(
+                meetingRoomId, base, base.plusHours(1), user, 10000, ReservationStatus.PENDING_PAYMENT
+        )).getId();
+    }
+
+    private PaymentProvider cardProvider() {
+        return paymentProviderRegistry.get("Card").getProvider();
+    }
+
+    private String transactionId() {
+        return "TXN-RACE-" + System.nanoTime();
+    }
+
+    private PaymentResult success(Payment payment) {
+        return PaymentResult.builder()
+                .paymentId(payment.getId())
+                .reservationId(payment.getReservation().getId())
+                .amount(payment.getAmount())
+                .status(PaymentStatus.SUCCESS)
+                .transactionId(payment.getTransactionId())
+                .providerName("Card")
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.wiseai_dev.payment.domain.service;
+
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.application.service.PaymentIdempotencyService;
+import com.example.wiseai_dev.payment.application.service.PaymentTransactionService;
+import com.example.wiseai_dev.payment.domain.model.IdempotencyKey;
+import com.example.wiseai_dev.payment.domain.model.PaymentStatus;
+import com.example.wiseai_dev.payment.domain.repository.IdempotencyKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Idempotency-Key DB 선점 / 기록 해제
+ */
+class PaymentIdempotencyServiceTest {
+
+    private static final String KEY = "idem-key";
+
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+    private PaymentTransactionService paymentTransactionService;
+    private PaymentIdempotencyService paymentIdempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyKeyRepository = mock(IdempotencyKeyRepository.class);
+        when(idempotencyKeyRepository.findByKey(KEY)).thenReturn(Optional.empty());
+        paymentTransactionService = mock(PaymentTransactionService.class);
+        paymentIdempotencyService = new PaymentIdempotencyService(idempotencyKeyRepository, paymentTransactionService,
+                Jackson2ObjectMapperBuilder.json().build(), new SimpleMeterRegistry(),
+                Duration.ofMinutes(10), Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 방금 선점한 키 - 살아 있는 기록은 지우지 않고 INSERT 충돌로 거절, 결제 미실행")
+    void 다른_인스턴스가_선점한_키() {
+        // 조회 시점에는 없었지만 INSERT 전에 다른 인스턴스가 IN_PROGRESS를 커밋한 상황
+        doThrow(new DataIntegrityViolationException("PK 위반")).when(idempotencyKeyRepository).insert(any());
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThatThrownBy(() -> paymentIdempotencyService.execute(KEY, 1L, "Card", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(response());
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(executions).hasValue(0);
+        verify(idempotencyKeyRepository).deleteExpiredByKey(eq(KEY), any());
+        verify(idempotencyKeyRepository, never()).deleteByKey(anyString());
+    }
+
+    @Test
+    @DisplayName("결과 기록 실패 - 결제 결과는 그대로 응답하고 IN_PROGRESS 기록은 해제되어 재시도가 막히지 않음")
+    void 결과_기록_실패_시_기록_해제() {
+        doThrow(new IllegalStateException("DB 오류")).when(idempotencyKeyRepository).complete(eq(KEY), anyString());
+
+        PaymentResponse response = paymentIdempotencyService.execute(KEY, 1L, "Card",
+                () -> CompletableFuture.completedFuture(response())).join();
+
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        verify(idempotencyKeyRepository).deleteByKey(KEY);
+    }
+
+    @Test
+    @DisplayName("결과 기록 성공 - 기록은 유지 (재응답용)")
+    void 결과_기록_성공() {
+        paymentIdempotencyService.execute(KEY, 1L, "Card", () -> CompletableFuture.completedFuture(response())).join();
+
+        verify(idempotencyKeyRepository).complete(eq(KEY), anyString());
+        verify(idempotencyKeyRepository, never()).deleteByKey(anyString());
+    }
+
+    @Test
+    @DisplayName("PG 응답 지연(PENDING) 결과 재응답 - 메모리/DB 모두 현재 결제 상태를 다시 읽어 최종 결과를 돌려줌")
+    void 대기_결과_재응답() throws Exception {
+        PaymentResponse pending = paymentIdempotencyService.execute(KEY, 1L, "Card",
+                () -> CompletableFuture.completedFuture(response(PaymentStatus.PENDING, "PENDING_PAYMENT"))).join();
+        assertThat(pending.getStatus()).isEqualTo(PaymentStatus.PENDING);
+
+        // 늦은 PG 응답 / 웹훅으로 확정된 뒤 같은 키로 재시도
+        when(paymentTransactionService.getResponse(10L)).thenReturn(response());
+        AtomicInteger executions = new AtomicInteger();
+        PaymentResponse fromMemory = paymentIdempotencyService.execute(KEY, 1L, "Card", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(response());
+        }).join();
+        assertThat(fromMemory.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+
+        // 다른 인스턴스(메모리 없음)가 DB의 PENDING 기록으로 재응답
+        String otherKey = KEY + "-other";
+        String pendingBody = Jackson2ObjectMapperBuilder.json().build()
+                .writeValueAsString(response(PaymentStatus.PENDING, "PENDING_PAYMENT"));
+        when(idempotencyKeyRepository.findByKey(otherKey)).thenReturn(Optional.of(IdempotencyKey.builder()
+                .key(otherKey)
+                .reservationId(1L)
+                .providerName("Card")
+                .status(IdempotencyKey.Status.COMPLETED)
+                .responseBody(pendingBody)
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build()));
+        PaymentResponse fromRecord = paymentIdempotencyService.execute(otherKey, 1L, "Card", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(response());
+        }).join();
+
+        assertThat(fromRecord.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+        assertThat(executions).hasValue(0);
+        // 최종 상태가 된 응답으로 기록 갱신
+        verify(idempotencyKeyRepository, times(2)).complete(eq(KEY), anyString());
+        verify(idempotencyKeyRepository).complete(eq(otherKey), contains("SUCCESS"));
+    }
+
+    private static PaymentResponse response() {
+        return response(PaymentStatus.SUCCESS, "CONFIRMED");
+    }
+
+    private static PaymentResponse response(PaymentStatus status, String reservationStatus) {
+        return PaymentResponse.builder()
+                .paymentId(10L)
+                .reservationId(1L)
+                .amount(10000)
+                .providerName("Card")
+                .status(status)
+                .transactionId("TXN-1")
+                .reservationStatus(reservationStatus)
+                .build();
+    }
+}
@@ -1,19 +1,28 @@
 package com.example.wiseai_dev.payment.domain.service;
 
 import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.payment.application.api.dto.PaymentResponse;
+import com.example.wiseai_dev.payment.application.service.PaymentIdempotencyService;
 import com.example.wiseai_dev.payment.application.service.PaymentService;
+import com.example.wiseai_dev.payment.infrastructure.persistence.gateway.impl.CardPaymentGateway;
 import com.example.wiseai_dev.payment.infrastructure.persistence.jpa.PaymentJpaRepository;
 import com.example.wiseai_dev.reservation.domain.model.Reservation;
 import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
 import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
 import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
 import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -23,11 +32,19 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @SpringBootTest(classes = WiseaiDevApplication.class)
 @ActiveProfiles("test")
@@ -37,6 +54,9 @@ class PaymentServiceConcurrencyTest {
     @Autowired
     private PaymentService paymentService;
 
+    @Autowired
+    private PaymentIdempotencyService paymentIdempotencyService;
+
     @Autowired
     private ReservationRepository reservationRepository;
 
@@ -49,11 +69,24 @@ class PaymentServiceConcurrencyTest {
     @Autowired
     private PlatformTransactionManager transactionManager;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @SpyBean
+    private CardPaymentGateway cardPaymentGateway;
+
+    private Statistics statistics;
+
     private Long reservationId;
     private final String paymentProviderName = "Card";
 
     @BeforeEach
     void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
         // TransactionTemplate을 사용해서 초기 데이터 설정
         TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
 
@@ -203,12 +236,16 @@ class PaymentServiceConcurrencyTest {
             log.error("❌ 테스트 타임아웃 발생!");
         }
 
-        // 검증
+        // 검증: 진행 중인 결제에 합류한 요청은 같은 성공 결과를 받고, 끝난 뒤 도착한 요청만 중복으로 거절됨
         assertThat(completed).isTrue();
-        assertThat(successCount.get()).isEqualTo(1); // 정확히 1개만 성공해야 함
+        assertThat(successCount.get()).isGreaterThanOrEqualTo(1);
+        assertThat(otherFailureCount.get()).isZero();
         assertThat(successCount.get() + optimisticLockFailureCount.get() +
                 duplicatePaymentCount.get() + otherFailureCount.get()).isEqualTo(threadCount);
 
+        // PG 호출은 정확히 1번
+        verify(cardPaymentGateway, times(1)).processPayment(any());
+
         // 최종 예약 상태 확인
         Reservation finalReservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new RuntimeException("Reservation not found"));
@@ -322,9 +359,140 @@ class PaymentServiceConcurrencyTest {
         log.info("재시도 테스트 완료 - 성공: {}, 실패: {}, 완료: {}",
                 successCount.get(), failureCount.get(), completed);
 
-        // 검증: 정확히 1개만 성공해야 함
-        assertThat(successCount.get()).isEqualTo(1);
-        assertThat(failureCount.get()).isEqualTo(threadCount - 1);
+        // 검증: 합류한 요청은 같은 결과로 성공, PG 호출은 1번
+        assertThat(successCount.get()).isGreaterThanOrEqualTo(1);
+        assertThat(successCount.get() + failureCount.get()).isEqualTo(threadCount);
+        verify(cardPaymentGateway, times(1)).processPayment(any());
+        assertThat(paymentJpaRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("single-flight - 동시 결제 N건이 1건의 DB 작업/PG 호출로 병합")
+    void 단일_실행_병합_테스트() throws Exception {
+        int threadCount = 5;
+        Counter joins = meterRegistry.counter("payment.singleflight.joins");
+        AtomicInteger expectedJoins = new AtomicInteger();
+        AtomicInteger joinBase = new AtomicInteger();
+
+        // PG 응답 전에 나머지 요청이 모두 합류하도록 PG 호출을 잠시 붙잡아 둠
+        doAnswer(invocation -> {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (joins.count() - joinBase.get() < expectedJoins.get() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            return invocation.callRealMethod();
+        }).when(cardPaymentGateway).processPayment(any());
+
+        // 1) 기준: 다른 예약에 결제 1건만 실행했을 때의 SQL 수
+        Long soloReservationId = createPendingReservation();
+        statistics.clear();
+        paymentService.processReservationPayment(soloReservationId, paymentProviderName);
+        long soloStatements = statistics.getPrepareStatementCount();
+
+        // 2) 같은 예약에 동시 결제 N건
+        joinBase.set((int) joins.count());
+        expectedJoins.set(threadCount - 1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(threadCount);
+        statistics.clear();
+
+        List<Future<PaymentResponse>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                startLatch.countDown();
+                startLatch.await();
+                return paymentService.processReservationPayment(reservationId, paymentProviderName);
+            }));
+        }
+        Set<Long> paymentIds = new HashSet<>();
+        for (Future<PaymentResponse> result : results) {
+            paymentIds.add(result.get(30, TimeUnit.SECONDS).getPaymentId());
+        }
+        executorService.shutdown();
+        long concurrentStatements = statistics.getPrepareStatementCount();
+
+        // 검증: 모두 같은 결과, SQL 수는 1건 실행과 같고 PG 호출은 예약당 1번
+        assertThat(paymentIds).hasSize(1);
+        assertThat(concurrentStatements).isEqualTo(soloStatements);
+        verify(cardPaymentGateway, times(2)).processPayment(any());
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("single-flight - 다른 결제사로 요청하면 진행 중인 결제에 합류하지 않고 거절")
+    void 단일_실행_다른_결제사_거절() {
+        // 다른 결제사 요청이 거절될 때까지 Card 결제를 진행 중으로 붙잡아 둠
+        CountDownLatch rejected = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            rejected.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(cardPaymentGateway).processPayment(any());
+
+        CompletableFuture<PaymentResponse> card =
+                paymentService.processReservationPaymentAsync(reservationId, paymentProviderName);
+
+        assertThatThrownBy(() -> paymentService.processReservationPayment(reservationId, "Simple"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("다른 결제사로 진행 중");
+        rejected.countDown();
+
+        // 검증: 진행 중이던 결제는 요청한 결제사로 완료, 결제는 1건
+        assertThat(card.join().getProviderName()).isEqualTo(paymentProviderName);
+        assertThat(paymentJpaRepository.count()).isEqualTo(1);
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    private Long createPendingReservation() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            UserEntity user = userJpaRepository.save(UserEntity.builder()
+                    .name("Solo User")
+                    .email("solo-" + System.nanoTime() + "@example.com")
+                    .build());
+            return reservationRepository.save(Reservation.create(
+                    3L,
+                    LocalDateTime.now().plusDays(1),
+                    LocalDateTime.now().plusDays(1).plusHours(1),
+                    user.toDomainModel(),
+                    100.0,
+                    ReservationStatus.PENDING_PAYMENT
+            )).getId();
+        });
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 동시 중복 요청 - 하나의 결제 결과를 공유")
+    void 멱등키_동시_중복_요청_테스트() throws Exception {
+        int threadCount = 5;
+        String idempotencyKey = "idem-" + reservationId;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(threadCount);
+
+        List<Future<PaymentResponse>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executorService.submit(() -> {
+                startLatch.countDown();
+                startLatch.await();
+                return paymentIdempotencyService.execute(idempotencyKey, reservationId, paymentProviderName,
+                        () -> paymentService.processReservationPaymentAsync(reservationId, paymentProviderName)).join();
+            }));
+        }
+
+        Set<Long> paymentIds = new HashSet<>();
+        for (Future<PaymentResponse> result : results) {
+            paymentIds.add(result.get(30, TimeUnit.SECONDS).getPaymentId());
+        }
+        executorService.shutdown();
+
+        // 같은 키의 재요청은 실행 없이 처음 결과를 그대로 응답
+        PaymentResponse replayed = paymentIdempotencyService.execute(idempotencyKey, reservationId, paymentProviderName,
+                () -> { throw new AssertionError("완료된 키는 다시 실행되면 안 됨"); }).join();
+
+        assertThat(paymentIds).hasSize(1);
+        assertThat(replayed.getPaymentId()).isEqualTo(paymentIds.iterator().next());
+        assertThat(paymentJpaRepository.count()).isEqualTo(1);
     }
 
     /**
@@ -0,0 +1,204 @@
+package com.example.wiseai_dev.payment.domain.service;
+
+import com.example.wiseai_dev.payment.application.api.dto.ProviderPayload;
+import com.example.wiseai_dev.payment.application.service.PaymentService;
+import com.example.wiseai_dev.payment.application.service.PaymentWebhookQueue;
+import com.example.wiseai_dev.payment.domain.model.PaymentWebhookEvent;
+import com.example.wiseai_dev.payment.infrastructure.persistence.webhook.PaymentWebhookSpillStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 웹훅 수신 큐: 배치 반영 / 건별 처리 전환 / 디스크 적재·재처리 / 반영 실패 이벤트 보관
+ */
+class PaymentWebhookQueueTest {
+
+    @TempDir
+    Path spillDir;
+
+    private PaymentService paymentService;
+    private PaymentWebhookSpillStore spillStore;
+    private PaymentWebhookQueue queue;
+
+    // 배치 / 건별로 반영 시도된 거래 ID
+    private final List<String> batchApplied = new CopyOnWriteArrayList<>();
+    private final List<String> singleApplied = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        paymentService = mock(PaymentService.class);
+        spillStore = new PaymentWebhookSpillStore(spillDir, Jackson2ObjectMapperBuilder.json().build());
+        doAnswer(invocation -> {
+            Collection<PaymentWebhookEvent> events = invocation.getArgument(0);
+            events.forEach(event -> batchApplied.add(event.getTransactionId()));
+            return events.size();
+        }).when(paymentService).applyWebhookBatch(any());
+        doAnswer(invocation -> {
+            ProviderPayload payload = invocation.getArgument(1);
+            singleApplied.add(payload.getTransactionId());
+            return null;
+        }).when(paymentService).handleWebhook(anyString(), any());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("배치 반영 - 같은 거래 ID는 최종 상태 하나로 병합되어 한 번에 반영")
+    void 배치_반영() {
+        queue = newQueue(100);
+        queue.enqueue("Card", payload("tx-1", "PENDING"));
+        queue.enqueue("Card", payload("tx-1", "SUCCESS"));
+        queue.enqueue("Card", payload("tx-2", "FAILED"));
+
+        queue.start();
+
+        awaitUntil(() -> batchApplied.size() == 2);
+        verify(paymentService).applyWebhookBatch(argThat(events -> events.size() == 2
+                && events.stream().anyMatch(event -> event.getTransactionId().equals("tx-1")
+                && event.getStatus().name().equals("SUCCESS"))));
+        verify(paymentService, never()).handleWebhook(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("배치 실패(원인 무관) - 건별 처리로 전환, 건별로도 실패한 이벤트만 rejected 파일에 보관")
+    void 배치_실패_시_건별_처리() throws IOException {
+        doThrow(new IllegalStateException("해당 시간대에 이미 예약이 존재합니다."))
+                .when(paymentService).applyWebhookBatch(any());
+        doThrow(new IllegalStateException("해당 시간대에 이미 예약이 존재합니다."))
+                .when(paymentService).handleWebhook(anyString(), argThat(p -> p.getTransactionId().equals("tx-poison")));
+
+        queue = newQueue(100);
+        queue.enqueue("Card", payload("tx-ok", "SUCCESS"));
+        queue.enqueue("Card", payload("tx-poison", "SUCCESS"));
+        queue.start();
+
+        awaitUntil(() -> singleApplied.contains("tx-ok") && rejectedIds().contains("tx-poison"));
+        assertThat(rejectedIds()).containsExactly("tx-poison");
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 디스크에 적재되고, 유휴 시 재처리 후 세그먼트 삭제")
+    void 디스크_적재_후_재처리() throws IOException {
+        queue = newQueue(1);
+        assertThat(queue.enqueue("Card", payload("tx-queued", "SUCCESS"))).isTrue();
+        assertThat(queue.enqueue("Card", payload("tx-spilled-1", "SUCCESS"))).isTrue();
+        assertThat(queue.enqueue("Card", payload("tx-spilled-2", "FAILED"))).isTrue();
+        assertThat(segments()).hasSize(1);
+
+        queue.start();
+
+        awaitUntil(() -> batchApplied.containsAll(Set.of("tx-queued", "tx-spilled-1", "tx-spilled-2"))
+                && segments().isEmpty());
+        assertThat(rejectedIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재처리 중 반영할 수 없는 이벤트 - 세그먼트는 삭제되고 이벤트는 보관되어 반복 재처리되지 않음")
+    void 재처리_불가_세그먼트() throws IOException {
+        doThrow(new IllegalStateException("해당 시간대에 이미 예약이 존재합니다."))
+                .when(paymentService).applyWebhookBatch(argThat(events -> events.stream()
+                        .anyMatch(event -> event.getTransactionId().equals("tx-poison"))));
+        doThrow(new IllegalStateException("해당 시간대에 이미 예약이 존재합니다."))
+                .when(paymentService).handleWebhook(anyString(), argThat(p -> p.getTransactionId().equals("tx-poison")));
+
+        queue = newQueue(1);
+        queue.enqueue("Card", payload("tx-queued", "SUCCESS"));
+        queue.enqueue("Card", payload("tx-poison", "SUCCESS"));
+        queue.start();
+
+        awaitUntil(() -> segments().isEmpty() && rejectedIds().contains("tx-poison"));
+        verify(paymentService, after(300).times(1))
+                .handleWebhook(anyString(), argThat(p -> p.getTransactionId().equals("tx-poison")));
+        assertThat(batchApplied).contains("tx-queued");
+    }
+
+    @Test
+    @DisplayName("세그먼트 이름순 = 생성순 (순번 0 채움)")
+    void 세그먼트_순서() throws IOException {
+        for (int i = 0; i < 12; i++) {
+            spillStore.append(PaymentWebhookEvent.of("Card", "tx-" + i, "SUCCESS"));
+            spillStore.sealSegments();
+        }
+
+        List<String> replayOrder = new ArrayList<>();
+        for (Path segment : spillStore.sealSegments()) {
+            spillStore.read(segment).forEach(event -> replayOrder.add(event.getTransactionId()));
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            expected.add("tx-" + i);
+        }
+        assertThat(replayOrder).containsExactlyElementsOf(expected);
+    }
+
+    private PaymentWebhookQueue newQueue(int capacity) {
+        return new PaymentWebhookQueue(paymentService, spillStore, new SimpleMeterRegistry(),
+                capacity, 200, Duration.ofMillis(1), Duration.ofMillis(10));
+    }
+
+    private static ProviderPayload payload(String transactionId, String status) {
+        ProviderPayload payload = new ProviderPayload();
+        payload.setTransactionId(transactionId);
+        payload.setStatus(status);
+        return payload;
+    }
+
+    private List<String> rejectedIds() {
+        try {
+            return spillStore.readRejected().stream().map(PaymentWebhookEvent::getTransactionId).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Path> segments() {
+        try (Stream<Path> files = Files.list(spillDir)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".ndjson")).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
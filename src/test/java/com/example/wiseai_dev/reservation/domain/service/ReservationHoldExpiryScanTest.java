@@ -0,0 +1,75 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.reservation.application.service.ReservationHoldExpiryService;
+import com.example.wiseai_dev.reservation.domain.model.ReservationHold;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * 결제 대기 만료 스캔 커서
+ * - 앞쪽 예약이 계속 건너뛰어져도(잠김) 다음 스캔은 지난 스캔이 읽은 위치 다음부터 읽음
+ */
+class ReservationHoldExpiryScanTest {
+
+    private static final int SCAN_LIMIT = 2;
+
+    private ReservationRepository reservationRepository;
+    private ReservationHoldExpiryService service;
+    private LocalDateTime createdAt;
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        // 만료 스레드는 시작하지 않고 스캔만 호출
+        service = new ReservationHoldExpiryService(reservationRepository, mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), Duration.ofMinutes(15), Duration.ofSeconds(30), 100, SCAN_LIMIT);
+        createdAt = LocalDateTime.now().minusHours(1);
+    }
+
+    @Test
+    @DisplayName("scan-limit만큼 읽으면 마지막 예약 다음부터, 끝까지 읽으면 처음부터 다시")
+    void 커서_전진_후_처음부터() {
+        ReservationHold first = hold(1L, 0);
+        ReservationHold second = hold(2L, 1);
+        ReservationHold third = hold(3L, 2);
+        when(reservationRepository.findHoldsCreatedBefore(any(), isNull(), eq(SCAN_LIMIT)))
+                .thenReturn(List.of(first, second));
+        when(reservationRepository.findHoldsCreatedBefore(any(), eq(second), eq(SCAN_LIMIT)))
+                .thenReturn(List.of(third));
+
+        service.scan();
+        service.scan();
+        service.scan();
+
+        verify(reservationRepository, times(2)).findHoldsCreatedBefore(any(), isNull(), eq(SCAN_LIMIT));
+        verify(reservationRepository).findHoldsCreatedBefore(any(), eq(second), eq(SCAN_LIMIT));
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 커서는 처음으로")
+    void 빈_결과() {
+        when(reservationRepository.findHoldsCreatedBefore(any(), any(), anyInt())).thenReturn(List.of());
+
+        service.scan();
+        service.scan();
+
+        verify(reservationRepository, times(2)).findHoldsCreatedBefore(any(), isNull(), eq(SCAN_LIMIT));
+    }
+
+    private ReservationHold hold(Long reservationId, int minutes) {
+        return new ReservationHold(reservationId, createdAt.plusMinutes(minutes));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 대기 만료 (짧은 ttl + 작은 scan-limit로 실제 스캔/만료 스레드 동작 확인)
+ * - scan-limit(2)보다 많은 결제 대기 예약도 커서를 따라 모두 적재되어 만료
+ * - 만료 스레드가 계속 돌기 때문에 다른 테스트의 결제 대기 예약에 영향이 없도록 컨텍스트를 닫음
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class, properties = {
+        "reservation.hold.expiry.enabled=true",
+        "reservation.hold.expiry.ttl=300ms",
+        "reservation.hold.expiry.scan-interval=100ms",
+        "reservation.hold.expiry.scan-limit=2",
+        "reservation.hold.expiry.batch-size=2"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ReservationHoldExpiryServiceTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    private User user;
+    private Long meetingRoomId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(UserEntity.builder()
+                .name("결제대기만료")
+                .email("hold-expiry-" + System.nanoTime() + "@test.com")
+                .build()).toDomainModel();
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("결제대기만료회의실", 10, 10000)).getId();
+        base = LocalDateTime.now().plusDays(14).truncatedTo(ChronoUnit.DAYS).withHour(9);
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 결제 대기 예약은 scan-limit보다 많아도 모두 EXPIRED, 확정 예약은 그대로")
+    void 결제_대기_만료() {
+        List<Long> holdIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            holdIds.add(save(base.plusHours(i), ReservationStatus.PENDING_PAYMENT).getId());
+        }
+        Long confirmedId = save(base.plusHours(8), ReservationStatus.CONFIRMED).getId();
+
+        awaitUntil(() -> holdIds.stream().allMatch(id -> statusOf(id) == ReservationStatus.EXPIRED));
+        assertThat(statusOf(confirmedId)).isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("만료된 예약의 시간대는 풀려서 다시 예약 가능")
+    void 만료_후_시간대_해제() {
+        Long holdId = save(base, ReservationStatus.PENDING_PAYMENT).getId();
+
+        awaitUntil(() -> statusOf(holdId) == ReservationStatus.EXPIRED);
+
+        Reservation rebooked = save(base, ReservationStatus.CONFIRMED);
+        assertThat(statusOf(rebooked.getId())).isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    private Reservation save(LocalDateTime startTime, ReservationStatus status) {
+        return reservationRepository.save(Reservation.create(
+                meetingRoomId, startTime, startTime.plusHours(1), user, 10000, status));
+    }
+
+    private ReservationStatus statusOf(Long reservationId) {
+        return reservationRepository.findById(reservationId).orElseThrow().getStatus();
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
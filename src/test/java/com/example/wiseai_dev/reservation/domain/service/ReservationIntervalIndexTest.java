@@ -0,0 +1,199 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.ReservationIntervalIndex;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.jpa.ReservationJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 회의실별 인메모리 구간 인덱스: 겹침 판정 / 해제 / 적재 범위 / 적재 중 커밋된 변경 처리
+ */
+class ReservationIntervalIndexTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private ReservationJpaRepository jpaRepository;
+    private ReservationIntervalIndex index;
+    private LocalDateTime day;
+
+    @BeforeEach
+    void setUp() {
+        jpaRepository = mock(ReservationJpaRepository.class);
+        when(jpaRepository.findActiveIntervalsEndingAfter(eq(ROOM_ID), any())).thenReturn(List.of());
+        index = new ReservationIntervalIndex(jpaRepository, mock(PlatformTransactionManager.class), true, "sharded");
+        day = LocalDateTime.now().plusDays(3).truncatedTo(ChronoUnit.DAYS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.shutdown();
+    }
+
+    @Test
+    @DisplayName("맞닿은 구간은 겹침이 아니고, 일부/포함/감싸는 구간은 겹침")
+    void 맞닿은_구간과_겹치는_구간() {
+        when(jpaRepository.findActiveIntervalsEndingAfter(eq(ROOM_ID), any())).thenReturn(List.of(
+                interval(1L, day.withHour(10), day.withHour(11)),
+                interval(2L, day.withHour(13), day.withHour(15))));
+        load();
+
+        assertThat(hasOverlap(day.withHour(9), day.withHour(10))).isFalse();
+        assertThat(hasOverlap(day.withHour(11), day.withHour(13))).isFalse();
+        assertThat(hasOverlap(day.withHour(15), day.withHour(16))).isFalse();
+        assertThat(hasOverlap(day.withHour(10).withMinute(30), day.withHour(10).withMinute(45))).isTrue();
+        assertThat(hasOverlap(day.withHour(12).withMinute(30), day.withHour(13).withMinute(30))).isTrue();
+        assertThat(hasOverlap(day.withHour(14).withMinute(30), day.withHour(16))).isTrue();
+        assertThat(hasOverlap(day.withHour(9), day.withHour(16))).isTrue();
+    }
+
+    @Test
+    @DisplayName("긴 예약 - 시작이 한참 앞선 구간도 역방향 탐색에서 찾음")
+    void 긴_예약_역방향_탐색() {
+        when(jpaRepository.findActiveIntervalsEndingAfter(eq(ROOM_ID), any())).thenReturn(List.of(
+                interval(1L, day, day.plusDays(2)),
+                interval(2L, day.plusDays(1).withHour(9), day.plusDays(1).withHour(10))));
+        load();
+
+        assertThat(hasOverlap(day.plusDays(1).withHour(22), day.plusDays(1).withHour(23))).isTrue();
+        assertThat(hasOverlap(day.plusDays(2), day.plusDays(2).withHour(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("해제 - 취소/만료 반영, 삭제, 시간 변경 시 이전 구간이 풀리고 자기 자신은 제외 가능")
+    void 해제() {
+        load();
+        index.apply(interval(1L, day.withHour(10), day.withHour(11)), ReservationStatus.CONFIRMED);
+        index.apply(interval(2L, day.withHour(12), day.withHour(13)), ReservationStatus.PENDING_PAYMENT);
+        index.apply(interval(3L, day.withHour(14), day.withHour(15)), ReservationStatus.CONFIRMED);
+
+        assertThat(hasOverlap(day.withHour(10), day.withHour(11))).isTrue();
+        assertThat(index.hasOverlap(ROOM_ID, day.withHour(10), day.withHour(11), 1L)).isFalse();
+
+        index.apply(interval(1L, day.withHour(10), day.withHour(11)), ReservationStatus.CANCELLED);
+        index.apply(interval(2L, day.withHour(12), day.withHour(13)), ReservationStatus.EXPIRED);
+        index.remove(3L);
+
+        assertThat(hasOverlap(day, day.plusDays(1))).isFalse();
+
+        index.apply(interval(4L, day.withHour(16), day.withHour(17)), ReservationStatus.CONFIRMED);
+        index.apply(interval(4L, day.withHour(18), day.withHour(19)), ReservationStatus.CONFIRMED);
+
+        assertThat(hasOverlap(day.withHour(16), day.withHour(17))).isFalse();
+        assertThat(hasOverlap(day.withHour(18), day.withHour(19))).isTrue();
+    }
+
+    @Test
+    @DisplayName("적재 범위 - 적재 시점 하루 전 이후만 인덱스가 답하고, 그 이전은 DB 폴백")
+    void 적재_범위_경계() {
+        assertThat(index.covers(ROOM_ID, day)).isFalse();
+        assertThatThrownBy(() -> hasOverlap(day, day.plusHours(1))).isInstanceOf(IllegalStateException.class);
+
+        LocalDateTime beforeLoad = LocalDateTime.now();
+        load();
+
+        assertThat(index.covers(ROOM_ID, beforeLoad.minusHours(23))).isTrue();
+        assertThat(index.covers(ROOM_ID, beforeLoad.minusDays(1).minusMinutes(1))).isFalse();
+        assertThat(index.covers(2L, day)).isFalse();
+        verify(jpaRepository).findActiveIntervalsEndingAfter(eq(ROOM_ID),
+                argThat(horizon -> !horizon.isBefore(beforeLoad.minusDays(1))
+                        && !horizon.isAfter(LocalDateTime.now().minusDays(1))));
+    }
+
+    @Test
+    @DisplayName("적재 중 커밋된 변경 - 그 전 스냅샷은 버리고 다시 적재해 변경이 빠지지 않음")
+    void 적재_중_동시_기록() throws InterruptedException {
+        ReservedInterval written = interval(7L, day.withHour(10), day.withHour(11));
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        when(jpaRepository.findActiveIntervalsEndingAfter(eq(ROOM_ID), any()))
+                .thenAnswer(invocation -> {
+                    // 첫 적재: 스냅샷을 읽은 뒤 다른 트랜잭션이 커밋할 때까지 대기 (스냅샷에는 written 없음)
+                    reading.countDown();
+                    committed.await(5, TimeUnit.SECONDS);
+                    return List.of();
+                })
+                .thenReturn(List.of(written));
+
+        index.warmUpAsync(ROOM_ID);
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        // 미적재 상태의 커밋 반영: 인덱스에는 아무것도 없지만 epoch가 올라감
+        index.apply(written, ReservationStatus.CONFIRMED);
+        committed.countDown();
+
+        awaitUntil(() -> {
+            index.warmUpAsync(ROOM_ID);
+            return index.covers(ROOM_ID, day);
+        });
+
+        assertThat(hasOverlap(day.withHour(10), day.withHour(11))).isTrue();
+        verify(jpaRepository, times(2)).findActiveIntervalsEndingAfter(eq(ROOM_ID), any());
+    }
+
+    @Test
+    @DisplayName("clear 이후에는 미적재 상태로 돌아가 DB 폴백")
+    void 초기화() {
+        load();
+        index.clear();
+
+        assertThat(index.covers(ROOM_ID, day)).isFalse();
+    }
+
+    @Test
+    @DisplayName("비활성(기본값 또는 sharded가 아닌 실행기) - 적재하지 않고 항상 DB 폴백")
+    void 비활성() {
+        for (ReservationIntervalIndex disabled : List.of(
+                new ReservationIntervalIndex(jpaRepository, mock(PlatformTransactionManager.class), false, "sharded"),
+                new ReservationIntervalIndex(jpaRepository, mock(PlatformTransactionManager.class), true, "direct"))) {
+            disabled.warmUpAsync(ROOM_ID);
+            disabled.apply(interval(1L, day.withHour(10), day.withHour(11)), ReservationStatus.CONFIRMED);
+
+            assertThat(disabled.covers(ROOM_ID, day)).isFalse();
+            disabled.shutdown();
+        }
+        verify(jpaRepository, never()).findActiveIntervalsEndingAfter(any(), any());
+    }
+
+    private void load() {
+        index.warmUpAsync(ROOM_ID);
+        awaitUntil(() -> index.covers(ROOM_ID, day));
+    }
+
+    private boolean hasOverlap(LocalDateTime startTime, LocalDateTime endTime) {
+        return index.hasOverlap(ROOM_ID, startTime, endTime, null);
+    }
+
+    private static ReservedInterval interval(Long reservationId, LocalDateTime startTime, LocalDateTime endTime) {
+        return new ReservedInterval(reservationId, ROOM_ID, startTime, endTime);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
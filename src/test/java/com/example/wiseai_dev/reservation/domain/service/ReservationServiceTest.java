@@ -1,24 +1,41 @@
 package com.example.wiseai_dev.reservation.domain.service;
 
+import com.example.wiseai_dev.global.retry.ContentionTracker;
 import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
 import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationPageResponse;
 import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
 import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationSeriesRequest;
 import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.reservation.domain.model.RecurrenceFrequency;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSearchCondition;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
 import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
 import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
 import com.example.wiseai_dev.user.domain.model.User;
 import com.example.wiseai_dev.user.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,10 +52,13 @@ class ReservationServiceTest {
         meetingRoomRepository = mock(MeetingRoomRepository.class);
         userRepository = mock(UserRepository.class);
 
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
         reservationService = new ReservationService(
                 reservationRepository,
                 meetingRoomRepository,
-                userRepository
+                userRepository,
+                meterRegistry,
+                new ContentionTracker(true, Duration.ofSeconds(10), 3, Duration.ofSeconds(60), 100, meterRegistry)
         );
     }
 
@@ -60,7 +80,7 @@ class ReservationServiceTest {
                 .name("홍길동")
                 .email("hong@test.com")
                 .build();
-        when(userRepository.findById(100L)).thenReturn(Optional.of(user));
+        when(userRepository.findReferenceById(100L)).thenReturn(Optional.of(user));
 
         when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -74,6 +94,190 @@ class ReservationServiceTest {
 
         verify(reservationRepository, times(1)).save(any());
         verify(meetingRoomRepository, times(1)).findById(1L);
-        verify(userRepository, times(1)).findById(100L);
+        verify(userRepository, times(1)).findReferenceById(100L);
+    }
+
+    @Test
+    @DisplayName("슬롯 선점에 실패하면 예약 생성 실패 (사전 겹침 조회 없음)")
+    void 겹치는_예약이_있으면_예약_생성_실패() {
+        // given: 저장 시 슬롯 선점이 DB 제약으로 거절됨
+        ReservationRequest request = new ReservationRequest();
+        request.setMeetingRoomId(1L);
+        request.setStartTime(LocalDateTime.of(2025, 8, 25, 10, 0));
+        request.setEndTime(LocalDateTime.of(2025, 8, 25, 11, 0));
+        request.setUserId(100L);
+
+        when(meetingRoomRepository.findById(1L)).thenReturn(Optional.of(new MeetingRoom(1L, "회의실A", 10, 10000)));
+        when(userRepository.findReferenceById(100L))
+                .thenReturn(Optional.of(User.builder().id(100L).name("홍길동").build()));
+        when(reservationRepository.save(any()))
+                .thenThrow(new IllegalStateException("해당 시간대에 이미 예약이 존재합니다."));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservation(request))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("해당 시간대에 이미 예약이 존재합니다.");
+
+        verify(reservationRepository, never()).existsOverlapping(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("예약 일괄 생성 - 점유 슬롯 조회 1회, 회의실/예약자 id당 1회 조회 후 saveAll 한 번으로 저장")
+    void 예약_일괄_생성_성공() {
+        // given: 같은 회의실/예약자의 매일 10~11시 예약 3건
+        List<ReservationRequest> requests = LongStream.range(0, 3)
+                .mapToObj(day -> request(LocalDateTime.of(2025, 8, 25, 10, 0).plusDays(day), 60))
+                .toList();
+        when(reservationRepository.findOccupiedSlots(any(), any(), any())).thenReturn(Map.of(1L, new long[3]));
+        when(meetingRoomRepository.findAllByIds(Set.of(1L))).thenReturn(Map.of(1L, new MeetingRoom(1L, "회의실A", 10, 10000)));
+        when(userRepository.findReferencesByIds(Set.of(100L)))
+                .thenReturn(Map.of(100L, User.builder().id(100L).name("홍길동").build()));
+        when(reservationRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<ReservationResponse> responses = reservationService.createReservations(requests);
+
+        // then
+        assertThat(responses).hasSize(3);
+        assertThat(responses).extracting(ReservationResponse::getTotalAmount).containsOnly(10000.0);
+        verify(reservationRepository, times(1)).findOccupiedSlots(
+                Set.of(1L), LocalDate.of(2025, 8, 25), LocalDate.of(2025, 8, 27));
+        verify(meetingRoomRepository, times(1)).findAllByIds(Set.of(1L));
+        verify(userRepository, times(1)).findReferencesByIds(Set.of(100L));
+        verify(reservationRepository, never()).existsOverlapping(any(), any(), any(), any());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("예약 일괄 생성 - 없는 예약자가 하나라도 있으면 점유 슬롯 조회 전에 전체 실패")
+    void 예약_일괄_생성_없는_예약자면_실패() {
+        // given: 두 번째 요청의 예약자(200L)가 존재하지 않음
+        ReservationRequest unknownBooker = request(LocalDateTime.of(2025, 8, 25, 13, 0), 60);
+        unknownBooker.setUserId(200L);
+        List<ReservationRequest> requests = List.of(request(LocalDateTime.of(2025, 8, 25, 10, 0), 60), unknownBooker);
+        when(meetingRoomRepository.findAllByIds(Set.of(1L))).thenReturn(Map.of(1L, new MeetingRoom(1L, "회의실A", 10, 10000)));
+        when(userRepository.findReferencesByIds(Set.of(100L, 200L)))
+                .thenReturn(Map.of(100L, User.builder().id(100L).name("홍길동").build()));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservations(requests))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 사용자입니다.");
+
+        verify(reservationRepository, never()).findOccupiedSlots(any(), any(), any());
+        verify(reservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("예약 일괄 생성 - 요청끼리 겹치면 전체 실패")
+    void 예약_일괄_생성_요청끼리_겹치면_실패() {
+        // given: 두 번째 요청이 첫 번째 요청과 10:30~11:00 겹침
+        List<ReservationRequest> requests = List.of(
+                request(LocalDateTime.of(2025, 8, 25, 10, 0), 60),
+                request(LocalDateTime.of(2025, 8, 25, 10, 30), 60)
+        );
+        when(reservationRepository.findOccupiedSlots(any(), any(), any())).thenReturn(Map.of(1L, new long[1]));
+        when(meetingRoomRepository.findAllByIds(Set.of(1L))).thenReturn(Map.of(1L, new MeetingRoom(1L, "회의실A", 10, 10000)));
+        when(userRepository.findReferencesByIds(Set.of(100L)))
+                .thenReturn(Map.of(100L, User.builder().id(100L).name("홍길동").build()));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservations(requests))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("2번째 예약: 해당 시간대에 이미 예약이 존재합니다.");
+
+        verify(reservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("반복 예약 생성 - 매주 월/목 4회를 범위 조회 1회 + saveAll 한 번으로 저장")
+    void 반복_예약_생성_성공() {
+        // given: 2025-08-25(월) 10~11시부터 매주 월/목, 4회
+        ReservationSeriesRequest request = seriesRequest(4);
+        when(reservationRepository.findOccupiedSlots(any(), any(), any())).thenReturn(Map.of(1L, new long[11]));
+        when(meetingRoomRepository.findAllByIds(Set.of(1L))).thenReturn(Map.of(1L, new MeetingRoom(1L, "회의실A", 10, 10000)));
+        when(userRepository.findReferencesByIds(Set.of(100L)))
+                .thenReturn(Map.of(100L, User.builder().id(100L).name("홍길동").build()));
+        when(reservationRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        List<ReservationResponse> responses = reservationService.createReservationSeries(request);
+
+        // then
+        assertThat(responses).extracting(ReservationResponse::getStartTime).containsExactly(
+                LocalDateTime.of(2025, 8, 25, 10, 0),
+                LocalDateTime.of(2025, 8, 28, 10, 0),
+                LocalDateTime.of(2025, 9, 1, 10, 0),
+                LocalDateTime.of(2025, 9, 4, 10, 0));
+        verify(reservationRepository, times(1)).findOccupiedSlots(
+                Set.of(1L), LocalDate.of(2025, 8, 25), LocalDate.of(2025, 9, 4));
+        verify(reservationRepository, times(1)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("반복 예약 생성 - 기존 예약과 겹치는 회차가 있으면 전체 실패하고 겹치는 회차를 알려줌")
+    void 반복_예약_생성_겹치는_회차가_있으면_실패() {
+        // given: 2025-09-01 10:00~11:00 이 이미 점유됨
+        long[] occupied = new long[11];
+        ReservationSlots.mark(occupied, LocalDate.of(2025, 8, 25),
+                LocalDateTime.of(2025, 9, 1, 10, 0), LocalDateTime.of(2025, 9, 1, 11, 0));
+        when(reservationRepository.findOccupiedSlots(any(), any(), any())).thenReturn(Map.of(1L, occupied));
+        when(meetingRoomRepository.findAllByIds(Set.of(1L))).thenReturn(Map.of(1L, new MeetingRoom(1L, "회의실A", 10, 10000)));
+        when(userRepository.findReferencesByIds(Set.of(100L)))
+                .thenReturn(Map.of(100L, User.builder().id(100L).name("홍길동").build()));
+
+        // when & then
+        assertThatThrownBy(() -> reservationService.createReservationSeries(seriesRequest(4)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 예약이 존재하는 회차가 1건 있습니다: 2025-09-01T10:00");
+
+        verify(reservationRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("커서 기반 예약 목록 조회 - 다음 페이지가 있으면 마지막 ID를 커서로 반환")
+    void 커서_기반_예약_목록_조회() {
+        // given: size(2) + 1건이 조회되면 다음 페이지 존재
+        ReservationSearchCondition condition = ReservationSearchCondition.builder()
+                .meetingRoomId(1L)
+                .build();
+        User user = User.builder().id(100L).name("홍길동").build();
+        List<Reservation> reservations = LongStream.rangeClosed(11, 13)
+                .mapToObj(id -> new Reservation(id, 1L,
+                        LocalDateTime.of(2025, 8, 25, 10, 0), LocalDateTime.of(2025, 8, 25, 11, 0),
+                        user, ReservationStatus.CONFIRMED, 10000, 0L))
+                .toList();
+        when(reservationRepository.findPage(condition, 10L, 3)).thenReturn(reservations);
+
+        // when
+        ReservationPageResponse page = reservationService.getReservationPage(condition, 10L, 2);
+
+        // then
+        assertThat(page.getItems()).extracting("id").containsExactly(11L, 12L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(12L);
+        verify(reservationRepository, times(1)).findPage(eq(condition), eq(10L), eq(3));
+        verify(reservationRepository, never()).findAll();
+    }
+
+    private ReservationSeriesRequest seriesRequest(int count) {
+        ReservationSeriesRequest request = new ReservationSeriesRequest();
+        request.setMeetingRoomId(1L);
+        request.setStartTime(LocalDateTime.of(2025, 8, 25, 10, 0));
+        request.setEndTime(LocalDateTime.of(2025, 8, 25, 11, 0));
+        request.setUserId(100L);
+        request.setFrequency(RecurrenceFrequency.WEEKLY);
+        request.setDaysOfWeek(Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY));
+        request.setCount(count);
+        return request;
+    }
+
+    private ReservationRequest request(LocalDateTime startTime, int minutes) {
+        ReservationRequest request = new ReservationRequest();
+        request.setMeetingRoomId(1L);
+        request.setStartTime(startTime);
+        request.setEndTime(startTime.plusMinutes(minutes));
+        request.setUserId(100L);
+        return request;
     }
 }
@@ -0,0 +1,123 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.repository.ReservationSlotBackfill;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 슬롯 행이 없는 기존 활성 예약 채우기
+ * - 채운 뒤에는 그 위에 겹치는 새 예약이 슬롯 선점에서 거절되고, 다시 실행해도 변화 없음
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class)
+@ActiveProfiles("test")
+class ReservationSlotBackfillTest {
+
+    @Autowired
+    private ReservationSlotBackfill reservationSlotBackfill;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Long meetingRoomId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(UserEntity.builder()
+                .name("슬롯채우기")
+                .email("slot-backfill-" + System.nanoTime() + "@test.com")
+                .build()).toDomainModel();
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("슬롯채우기회의실", 10, 10000)).getId();
+        base = LocalDateTime.now().plusDays(21).truncatedTo(ChronoUnit.DAYS).withHour(9);
+    }
+
+    @Test
+    @DisplayName("슬롯 행이 없는 확정 예약 - 채운 뒤 겹치는 새 예약은 거절")
+    void 슬롯_없는_활성_예약_채우기() {
+        Long legacyId = legacy(base, ReservationStatus.CONFIRMED);
+        assertThat(slotCount(legacyId)).isZero();
+
+        reservationSlotBackfill.backfill();
+
+        assertThat(slotCount(legacyId)).isEqualTo(2);
+        assertThatThrownBy(() -> reservationService.createReservation(request(base.plusMinutes(30))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 예약이 존재");
+
+        // 다시 실행해도 그대로
+        reservationSlotBackfill.backfill();
+        assertThat(slotCount(legacyId)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("취소/만료된 예약은 채우지 않아 그 시간대는 계속 예약 가능")
+    void 비활성_예약은_제외() {
+        Long cancelledId = legacy(base, ReservationStatus.CANCELLED);
+        Long expiredId = legacy(base.plusHours(2), ReservationStatus.EXPIRED);
+
+        reservationSlotBackfill.backfill();
+
+        assertThat(slotCount(cancelledId)).isZero();
+        assertThat(slotCount(expiredId)).isZero();
+        assertThat(reservationService.createReservation(request(base)).getId()).isNotNull();
+    }
+
+    /**
+     * reservation_slot 도입 이전에 저장된 예약 (슬롯 행 없음)
+     */
+    private Long legacy(LocalDateTime startTime, ReservationStatus status) {
+        Long reservationId = reservationRepository.save(Reservation.create(
+                meetingRoomId, startTime, startTime.plusHours(1), user, 10000, status)).getId();
+        jdbcTemplate.update("DELETE FROM reservation_slot WHERE reservation_id = ?", reservationId);
+        return reservationId;
+    }
+
+    private Long slotCount(Long reservationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation_slot WHERE reservation_id = ?", Long.class, reservationId);
+    }
+
+    private ReservationRequest request(LocalDateTime startTime) {
+        ReservationRequest request = new ReservationRequest();
+        request.setMeetingRoomId(meetingRoomId);
+        request.setStartTime(startTime);
+        request.setEndTime(startTime.plusHours(1));
+        request.setUserId(user.getId());
+        return request;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 슬롯 선점(reservation_slot) 기반 겹침 금지 동시성 검증
+ * - 사전 겹침 조회 없이 동시에 예약해도 DB 제약이 겹치는 예약을 거절해 이중 예약이 0건이어야 함
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class)
+@ActiveProfiles("test")
+@Slf4j
+class ReservationSlotConcurrencyTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long meetingRoomId;
+    private Long userId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 새 회의실을 써서 다른 테스트의 예약과 섞이지 않도록 함
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("동시예약회의실", 10, 10000)).getId();
+        userId = userJpaRepository.save(UserEntity.builder()
+                .name("동시예약자")
+                .email("slot-concurrency-" + System.nanoTime() + "@test.com")
+                .build()).getId();
+        base = LocalDateTime.now().plusDays(7).truncatedTo(ChronoUnit.DAYS).withHour(10);
+    }
+
+    @Test
+    @DisplayName("같은 시간대 동시 예약 - 1건만 성공하고 나머지는 겹침으로 거절")
+    void 같은_시간대_동시_예약() throws InterruptedException {
+        Result result = bookConcurrently(i -> request(base, 60));
+
+        assertThat(result.success.get()).isEqualTo(1);
+        assertThat(result.conflict.get()).isEqualTo(THREAD_COUNT - 1);
+        assertThat(result.other.get()).isZero();
+        assertThat(activeReservations()).hasSize(1);
+        assertThat(claimedSlots()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("서로 걸치는 시간대 동시 예약 - 이중 예약 0건")
+    void 걸치는_시간대_동시_예약() throws InterruptedException {
+        // 30분 간격 시작 × 60~120분 길이 → 대부분의 요청이 서로 일부 겹침
+        Result result = bookConcurrently(i -> request(base.plusMinutes(30L * (i % 8)), 30 * (2 + i % 3)));
+
+        assertThat(result.success.get()).isGreaterThanOrEqualTo(1);
+        assertThat(result.other.get()).isZero();
+        assertThat(result.success.get() + result.conflict.get()).isEqualTo(THREAD_COUNT);
+
+        List<Reservation> reservations = activeReservations();
+        assertThat(reservations).hasSize(result.success.get());
+        for (int i = 0; i < reservations.size(); i++) {
+            for (int j = i + 1; j < reservations.size(); j++) {
+                Reservation a = reservations.get(i);
+                Reservation b = reservations.get(j);
+                assertThat(a.getStartTime().isBefore(b.getEndTime()) && b.getStartTime().isBefore(a.getEndTime()))
+                        .as("이중 예약: %s ~ %s / %s ~ %s", a.getStartTime(), a.getEndTime(), b.getStartTime(), b.getEndTime())
+                        .isFalse();
+            }
+        }
+
+        // 선점 슬롯 수 = 성공한 예약들의 슬롯 합
+        long expectedSlots = reservations.stream()
+                .mapToLong(r -> ChronoUnit.MINUTES.between(r.getStartTime(), r.getEndTime()) / 30)
+                .sum();
+        assertThat(claimedSlots()).isEqualTo(expectedSlots);
+    }
+
+    private Result bookConcurrently(IntFunction<ReservationRequest> requestFactory) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(THREAD_COUNT); // 동시 시작을 위한 래치
+        CountDownLatch endLatch = new CountDownLatch(THREAD_COUNT);
+        Result result = new Result();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            ReservationRequest request = requestFactory.apply(i);
+            executorService.submit(() -> {
+                try {
+                    startLatch.countDown();
+                    startLatch.await();
+                    reservationService.createReservation(request);
+                    result.success.incrementAndGet();
+                } catch (IllegalStateException e) {
+                    result.conflict.incrementAndGet();
+                } catch (Exception e) {
+                    log.warn("예상하지 못한 예약 실패: {}", e.toString());
+                    result.other.incrementAndGet();
+                } finally {
+                    endLatch.countDown();
+                }
+            });
+        }
+
+        boolean completed = endLatch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+        log.info("동시 예약 결과 - 성공: {}, 겹침: {}, 기타: {}",
+                result.success.get(), result.conflict.get(), result.other.get());
+        assertThat(completed).isTrue();
+        return result;
+    }
+
+    // 활성(PENDING_PAYMENT / CONFIRMED) 예약만 조회됨
+    private List<Reservation> activeReservations() {
+        return reservationRepository.findByMeetingRoomIdAndTimeRange(meetingRoomId, base.minusDays(1), base.plusDays(1));
+    }
+
+    private long claimedSlots() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation_slot WHERE meeting_room_id = ?", Long.class, meetingRoomId);
+    }
+
+    private ReservationRequest request(LocalDateTime startTime, int minutes) {
+        ReservationRequest request = new ReservationRequest();
+        request.setMeetingRoomId(meetingRoomId);
+        request.setStartTime(startTime);
+        request.setEndTime(startTime.plusMinutes(minutes));
+        request.setUserId(userId);
+        return request;
+    }
+
+    private static final class Result {
+        private final AtomicInteger success = new AtomicInteger();
+        private final AtomicInteger conflict = new AtomicInteger();
+        private final AtomicInteger other = new AtomicInteger();
+    }
+}
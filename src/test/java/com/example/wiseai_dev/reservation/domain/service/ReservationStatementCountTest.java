@@ -0,0 +1,175 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.service.ReservationService;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.ReservationEntity;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.entity.ReservationSlotEntity;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.ReservationIntervalIndex;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hibernate 통계 기반 쿼리 수 검증
+ * - 예약 저장 시 사용자는 id 참조로만 연결되고 UserEntity를 로딩하지 않아야 함
+ * - 요금 계산용 회의실은 캐시에서 읽어 SELECT가 없어야 함
+ * - 예약 목록 조회는 예약자 수와 무관하게 SQL 한 번으로 끝나야 함 (N+1 없음)
+ * - 예약 ID는 시퀀스 블록(50개) 단위로 받으므로, 블록을 새로 받은 경우에만 시퀀스 조회 1건이 추가됨
+ * - 슬롯 선점(reservation_slot)은 예약 건수와 무관하게 배치 INSERT 1건
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class)
+@ActiveProfiles("test")
+class ReservationStatementCountTest {
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private ReservationIntervalIndex intervalIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Long meetingRoomId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("쿼리수검증회의실", 10, 10000)).getId();
+        userId = saveUser("홍길동");
+
+        // 겹침 검사가 DB 폴백 없이 인덱스로 처리되도록 적재 완료까지 대기
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!intervalIndex.covers(meetingRoomId, LocalDateTime.now()) && System.currentTimeMillis() < deadline) {
+            intervalIndex.warmUpAsync(meetingRoomId);
+            Thread.sleep(10);
+        }
+        assertThat(intervalIndex.covers(meetingRoomId, LocalDateTime.now())).isTrue();
+    }
+
+    @Test
+    @DisplayName("예약 생성 시 회의실/사용자 엔티티를 로딩하지 않고 3개의 SQL만 실행")
+    void 예약_생성_쿼리_수() {
+        // given
+        ReservationRequest request = new ReservationRequest();
+        request.setMeetingRoomId(meetingRoomId);
+        request.setStartTime(LocalDateTime.of(2030, 1, 7, 10, 0));
+        request.setEndTime(LocalDateTime.of(2030, 1, 7, 11, 0));
+        request.setUserId(userId);
+        long sequenceBefore = reservationSequenceValue();
+        statistics.clear();
+
+        // when
+        ReservationResponse response = reservationService.createReservation(request);
+
+        // then: 사용자 참조(id, name) 조회 + 예약 INSERT + 슬롯 선점 INSERT (회의실은 저장 시 캐시에 적재됨)
+        long sequenceCalls = reservationSequenceValue() != sequenceBefore ? 1 : 0;
+        assertThat(response.getBookerName()).isEqualTo("홍길동");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3 + sequenceCalls);
+        assertThat(statistics.getEntityStatistics(ReservationSlotEntity.class.getName()).getInsertCount()).isEqualTo(2);
+        assertThat(statistics.getEntityStatistics(UserEntity.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(UserEntity.class.getName()).getFetchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("예약 목록 조회 시 예약자별 추가 SELECT 없이 1개의 SQL만 실행")
+    void 예약_목록_조회_쿼리_수() {
+        // given: 서로 다른 예약자 3명의 예약
+        LocalDateTime base = LocalDateTime.of(2030, 1, 8, 9, 0);
+        for (int i = 0; i < 3; i++) {
+            User booker = User.builder().id(saveUser("예약자" + i)).build();
+            reservationRepository.save(Reservation.create(meetingRoomId, base.plusHours(i), base.plusHours(i + 1),
+                    booker, 10000, ReservationStatus.CONFIRMED));
+        }
+        statistics.clear();
+
+        // when
+        List<Reservation> reservations = reservationRepository.findByMeetingRoomIdAndTimeRange(
+                meetingRoomId, base, base.plusHours(3));
+
+        // then
+        assertThat(reservations).extracting(r -> r.getUser().getName())
+                .containsExactlyInAnyOrder("예약자0", "예약자1", "예약자2");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("예약 일괄 생성 시 점유 슬롯 조회 1회 + 사용자 조회 1회 + 배치 INSERT (예약, 슬롯 선점)")
+    void 예약_일괄_생성_쿼리_수() {
+        // given: 같은 예약자의 매주 반복 예약 10건
+        List<ReservationRequest> requests = IntStream.range(0, 10)
+                .mapToObj(week -> {
+                    ReservationRequest request = new ReservationRequest();
+                    request.setMeetingRoomId(meetingRoomId);
+                    request.setStartTime(LocalDateTime.of(2030, 2, 4, 10, 0).plusWeeks(week));
+                    request.setEndTime(LocalDateTime.of(2030, 2, 4, 11, 0).plusWeeks(week));
+                    request.setUserId(userId);
+                    return request;
+                })
+                .toList();
+        long sequenceBefore = reservationSequenceValue();
+        statistics.clear();
+
+        // when
+        List<ReservationResponse> responses = reservationService.createReservations(requests);
+
+        // then: 예약 10건과 슬롯 20건이 각각 하나의 INSERT 문(JDBC 배치)으로 전송됨
+        long sequenceCalls = reservationSequenceValue() != sequenceBefore ? 1 : 0;
+        assertThat(responses).hasSize(10).extracting(ReservationResponse::getId).doesNotContainNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4 + sequenceCalls);
+        assertThat(statistics.getEntityStatistics(ReservationEntity.class.getName()).getInsertCount()).isEqualTo(10);
+        assertThat(statistics.getEntityStatistics(ReservationSlotEntity.class.getName()).getInsertCount()).isEqualTo(20);
+    }
+
+    // 시퀀스의 다음 값 (Hibernate 통계에 잡히지 않도록 JDBC로 직접 조회)
+    private long reservationSequenceValue() {
+        return jdbcTemplate.queryForObject(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'RESERVATION_SEQ'",
+                Long.class);
+    }
+
+    private Long saveUser(String name) {
+        return userJpaRepository.save(UserEntity.builder()
+                .name(name)
+                .email("statement-count-" + System.nanoTime() + "@test.com")
+                .build()).getId();
+    }
+}
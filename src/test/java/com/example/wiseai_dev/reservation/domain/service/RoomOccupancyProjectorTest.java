@@ -0,0 +1,171 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.RoomOccupancyResponse;
+import com.example.wiseai_dev.reservation.application.service.RoomOccupancyService;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * room_daily_occupancy 프로젝션: 날짜별 집계 / 커밋 후 반영(flush) / 재구성(rebuild)
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class, properties = {
+        "reservation.occupancy.enabled=true",
+        "reservation.occupancy.flush-delay=20ms"
+})
+@ActiveProfiles("test")
+class RoomOccupancyProjectorTest {
+
+    @Autowired
+    private RoomOccupancyService roomOccupancyService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Long meetingRoomId;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(UserEntity.builder()
+                .name("점유집계")
+                .email("occupancy-" + System.nanoTime() + "@test.com")
+                .build()).toDomainModel();
+        meetingRoomId = newRoom();
+        day = LocalDate.now().plusDays(40);
+    }
+
+    @Test
+    @DisplayName("집계 - 결제 대기 포함 예약 시간 합산, 매출은 확정 예약만")
+    void 일자별_집계() {
+        save(meetingRoomId, day.atTime(10, 0), day.atTime(12, 0), 20000, ReservationStatus.PENDING_PAYMENT);
+        save(meetingRoomId, day.atTime(12, 0), day.atTime(13, 0), 10000, ReservationStatus.CONFIRMED);
+
+        RoomOccupancyResponse occupancy = awaitOccupancy(meetingRoomId, day, o -> o.getBookedMinutes() == 180);
+
+        assertThat(occupancy.getRevenue()).isEqualTo(10000);
+        assertThat(occupancy.getSlots()).isEqualTo(((1L << 26) - 1) & ~((1L << 20) - 1));
+    }
+
+    @Test
+    @DisplayName("자정을 넘는 예약 - 날짜별로 나뉘고 매출은 이용 시간 비율로 배분")
+    void 자정_넘는_예약_배분() {
+        save(meetingRoomId, day.atTime(23, 0), day.plusDays(1).atTime(2, 0), 30000, ReservationStatus.CONFIRMED);
+
+        RoomOccupancyResponse first = awaitOccupancy(meetingRoomId, day, o -> o.getBookedMinutes() == 60);
+        RoomOccupancyResponse second = awaitOccupancy(meetingRoomId, day.plusDays(1), o -> o.getBookedMinutes() == 120);
+
+        assertThat(first.getRevenue()).isEqualTo(10000);
+        assertThat(second.getRevenue()).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("취소 후 반영 - 예약이 없어진 날은 행 삭제")
+    void 취소_후_행_삭제() {
+        Reservation reservation = save(meetingRoomId, day.atTime(9, 0), day.atTime(10, 0), 10000,
+                ReservationStatus.CONFIRMED);
+        awaitOccupancy(meetingRoomId, day, o -> o.getBookedMinutes() == 60);
+
+        reservation.setStatus(ReservationStatus.CANCELLED);
+        reservationRepository.save(reservation);
+
+        awaitOccupancy(meetingRoomId, day, o -> o.getBookedMinutes() == 0);
+        assertThat(rowCount(meetingRoomId)).isZero();
+    }
+
+    @Test
+    @DisplayName("서로 떨어진 회의실/날짜가 한 번에 반영되어도 각각 정확히 계산")
+    void 떨어진_키_동시_반영() {
+        Long otherRoomId = newRoom();
+        LocalDate farDay = day.plusDays(300);
+
+        save(meetingRoomId, day.atTime(9, 0), day.atTime(10, 0), 10000, ReservationStatus.CONFIRMED);
+        save(otherRoomId, farDay.atTime(9, 0), farDay.atTime(11, 0), 20000, ReservationStatus.CONFIRMED);
+
+        assertThat(awaitOccupancy(meetingRoomId, day, o -> o.getBookedMinutes() == 60).getRevenue())
+                .isEqualTo(10000);
+        assertThat(awaitOccupancy(otherRoomId, farDay, o -> o.getBookedMinutes() == 120).getRevenue())
+                .isEqualTo(20000);
+        assertThat(rowCount(meetingRoomId)).isEqualTo(1);
+        assertThat(rowCount(otherRoomId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재구성 - 지워진 프로젝션 행을 원본 예약에서 복구")
+    void 재구성() {
+        save(meetingRoomId, day.atTime(14, 0), day.atTime(16, 0), 20000, ReservationStatus.CONFIRMED);
+        awaitOccupancy(meetingRoomId, day, o -> o.getBookedMinutes() == 120);
+
+        jdbcTemplate.update("DELETE FROM room_daily_occupancy WHERE meeting_room_id = ?", meetingRoomId);
+        assertThat(occupancy(meetingRoomId, day).getBookedMinutes()).isZero();
+
+        assertThat(roomOccupancyService.rebuild(meetingRoomId)).isEqualTo(1);
+
+        RoomOccupancyResponse rebuilt = awaitOccupancy(meetingRoomId, day, o -> o.getBookedMinutes() == 120);
+        assertThat(rebuilt.getRevenue()).isEqualTo(20000);
+        assertThat(rowCount(meetingRoomId)).isEqualTo(1);
+    }
+
+    private Long newRoom() {
+        return meetingRoomRepository.save(MeetingRoom.create("점유집계회의실", 10, 10000)).getId();
+    }
+
+    private Reservation save(Long roomId, LocalDateTime startTime, LocalDateTime endTime, double amount,
+                             ReservationStatus status) {
+        return reservationRepository.save(Reservation.create(roomId, startTime, endTime, user, amount, status));
+    }
+
+    private RoomOccupancyResponse occupancy(Long roomId, LocalDate date) {
+        return roomOccupancyService.getRoomOccupancy(roomId, date, date).get(0);
+    }
+
+    private long rowCount(Long roomId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM room_daily_occupancy WHERE meeting_room_id = ?", Long.class, roomId);
+    }
+
+    private RoomOccupancyResponse awaitOccupancy(Long roomId, LocalDate date, Predicate<RoomOccupancyResponse> condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        RoomOccupancyResponse occupancy = occupancy(roomId, date);
+        while (!condition.test(occupancy) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            occupancy = occupancy(roomId, date);
+        }
+        assertThat(condition.test(occupancy)).isTrue();
+        return occupancy;
+    }
+}
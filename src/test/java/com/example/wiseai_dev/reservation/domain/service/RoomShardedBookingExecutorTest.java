@@ -0,0 +1,233 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationRequest;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationResponse;
+import com.example.wiseai_dev.reservation.application.api.dto.ReservationUpdateRequest;
+import com.example.wiseai_dev.reservation.application.service.BookingExecutor;
+import com.example.wiseai_dev.reservation.application.service.RoomShardedBookingExecutor;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회의실 샤드 예약 실행기 (reservation.booking.executor=sharded)
+ * - 같은 회의실 요청은 한 레인에서 순서대로 검증/그룹 커밋되어 이중 예약과 낙관적 락 충돌이 없어야 함
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class, properties = {
+        "reservation.booking.executor=sharded",
+        "reservation.booking.shards=4"
+})
+@ActiveProfiles("test")
+class RoomShardedBookingExecutorTest {
+
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private BookingExecutor bookingExecutor;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        userId = userJpaRepository.save(UserEntity.builder()
+                .name("샤드예약자")
+                .email("sharded-" + System.nanoTime() + "@test.com")
+                .build()).getId();
+        base = LocalDateTime.now().plusDays(14).truncatedTo(ChronoUnit.DAYS).withHour(9);
+    }
+
+    @Test
+    @DisplayName("sharded 설정이면 회의실 샤드 실행기가 사용됨")
+    void 샤드_실행기_사용() {
+        assertThat(bookingExecutor).isInstanceOf(RoomShardedBookingExecutor.class);
+    }
+
+    @Test
+    @DisplayName("같은 시간대 동시 예약 - 레인에서 1건만 성공하고 나머지는 겹침으로 거절")
+    void 같은_시간대_동시_예약() throws Exception {
+        Long meetingRoomId = newMeetingRoom();
+        List<ReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            requests.add(request(meetingRoomId, base, 60));
+        }
+
+        List<Throwable> failures = new ArrayList<>();
+        int success = 0;
+        for (Future<ReservationResponse> result : submitConcurrently(requests)) {
+            try {
+                result.get(30, TimeUnit.SECONDS);
+                success++;
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+
+        assertThat(success).isEqualTo(1);
+        assertThat(failures).hasSize(THREAD_COUNT - 1)
+                .allSatisfy(error -> assertThat(error).isInstanceOf(IllegalStateException.class)
+                        .hasMessage("해당 시간대에 이미 예약이 존재합니다."));
+        assertThat(reservationRepository.findByMeetingRoomIdAndTimeRange(meetingRoomId, base, base.plusHours(1))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("여러 회의실 동시 예약 - 겹치지 않는 요청은 모두 성공하고 건별 처리 전환이 없음")
+    void 여러_회의실_동시_예약() throws Exception {
+        double fallbacksBefore = meterRegistry.counter("reservation.booking.fallback").count();
+        List<Long> meetingRoomIds = List.of(newMeetingRoom(), newMeetingRoom(), newMeetingRoom(), newMeetingRoom());
+        List<ReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Long meetingRoomId = meetingRoomIds.get(i % meetingRoomIds.size());
+            requests.add(request(meetingRoomId, base.plusHours(i / meetingRoomIds.size()), 60));
+        }
+
+        for (Future<ReservationResponse> result : submitConcurrently(requests)) {
+            assertThat(result.get(30, TimeUnit.SECONDS).getId()).isNotNull();
+        }
+
+        for (Long meetingRoomId : meetingRoomIds) {
+            assertThat(reservationRepository.findByMeetingRoomIdAndTimeRange(
+                    meetingRoomId, base, base.plusDays(1))).hasSize(THREAD_COUNT / meetingRoomIds.size());
+        }
+        assertThat(meterRegistry.counter("reservation.booking.fallback").count()).isEqualTo(fallbacksBefore);
+    }
+
+    @Test
+    @DisplayName("같은 예약의 변경 → 취소를 연달아 제출 - 순서대로 반영되고 슬롯이 반납됨")
+    void 변경_후_취소_연속_제출() {
+        Long meetingRoomId = newMeetingRoom();
+        Long reservationId = bookingExecutor.create(request(meetingRoomId, base, 60)).join().getId();
+
+        ReservationUpdateRequest update = new ReservationUpdateRequest();
+        update.setStartTime(base.plusHours(2));
+        update.setEndTime(base.plusHours(3));
+        update.setUserId(userId);
+        CompletableFuture<ReservationResponse> updated = bookingExecutor.update(reservationId, update);
+        CompletableFuture<ReservationResponse> cancelled = bookingExecutor.cancel(reservationId);
+        // 변경으로 비워진 시간대는 같은 레인의 다음 요청에서 바로 예약 가능
+        CompletableFuture<ReservationResponse> rebooked = bookingExecutor.create(request(meetingRoomId, base, 60));
+
+        assertThat(updated.join().getStartTime()).isEqualTo(base.plusHours(2));
+        assertThat(cancelled.join().getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(rebooked.join().getId()).isNotNull();
+
+        Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(reservation.getStartTime()).isEqualTo(base.plusHours(2));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation_slot WHERE reservation_id = ?", Long.class, reservationId)).isZero();
+    }
+
+    @Test
+    @DisplayName("겹치는 변경 요청은 레인에서 거절되고 예약은 그대로 유지")
+    void 겹치는_변경_거절() {
+        Long meetingRoomId = newMeetingRoom();
+        Long first = bookingExecutor.create(request(meetingRoomId, base, 60)).join().getId();
+        bookingExecutor.create(request(meetingRoomId, base.plusHours(1), 60)).join();
+
+        ReservationUpdateRequest update = new ReservationUpdateRequest();
+        update.setStartTime(base.plusMinutes(30));
+        update.setEndTime(base.plusMinutes(90));
+        update.setUserId(userId);
+
+        CompletableFuture<ReservationResponse> result = bookingExecutor.update(first, update);
+
+        assertThat(result).failsWithin(30, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(reservationRepository.findById(first).orElseThrow().getStartTime()).isEqualTo(base);
+    }
+
+    @Test
+    @DisplayName("같은 예약을 연달아 취소 - 먼저 읽은 예약이 이미 바뀌었어도 잠근 최신 행 기준으로 1건만 성공")
+    void 연속_취소() {
+        Long meetingRoomId = newMeetingRoom();
+        Long reservationId = bookingExecutor.create(request(meetingRoomId, base, 60)).join().getId();
+
+        CompletableFuture<ReservationResponse> first = bookingExecutor.cancel(reservationId);
+        CompletableFuture<ReservationResponse> second = bookingExecutor.cancel(reservationId);
+
+        assertThat(first.join().getStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(second).failsWithin(30, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IllegalStateException.class)
+                .withMessageContaining("이미 취소된 예약입니다.");
+        assertThat(reservationRepository.findById(reservationId).orElseThrow().getStatus())
+                .isEqualTo(ReservationStatus.CANCELLED);
+    }
+
+    private List<Future<ReservationResponse>> submitConcurrently(List<ReservationRequest> requests) {
+        ExecutorService executorService = Executors.newFixedThreadPool(requests.size());
+        CountDownLatch startLatch = new CountDownLatch(requests.size()); // 동시 시작을 위한 래치
+        List<Future<ReservationResponse>> results = new ArrayList<>();
+        for (ReservationRequest request : requests) {
+            results.add(executorService.submit(() -> {
+                startLatch.countDown();
+                startLatch.await();
+                try {
+                    return bookingExecutor.create(request).join();
+                } catch (CompletionException e) {
+                    throw (Exception) e.getCause();
+                }
+            }));
+        }
+        executorService.shutdown();
+        return results;
+    }
+
+    private Long newMeetingRoom() {
+        return meetingRoomRepository.save(MeetingRoom.create("샤드회의실", 10, 10000)).getId();
+    }
+
+    private ReservationRequest request(Long meetingRoomId, LocalDateTime startTime, int minutes) {
+        ReservationRequest request = new ReservationRequest();
+        request.setMeetingRoomId(meetingRoomId);
+        request.setStartTime(startTime);
+        request.setEndTime(startTime.plusMinutes(minutes));
+        request.setUserId(userId);
+        return request;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.wiseai_dev.reservation.domain.service;
+
+import com.example.wiseai_dev.WiseaiDevApplication;
+import com.example.wiseai_dev.meetingRoom.domain.model.MeetingRoom;
+import com.example.wiseai_dev.meetingRoom.domain.repository.MeetingRoomRepository;
+import com.example.wiseai_dev.reservation.domain.model.Reservation;
+import com.example.wiseai_dev.reservation.domain.model.ReservationSlots;
+import com.example.wiseai_dev.reservation.domain.model.ReservationStatus;
+import com.example.wiseai_dev.reservation.domain.model.ReservedInterval;
+import com.example.wiseai_dev.reservation.domain.repository.ReservationRepository;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.index.SlotBitmapAvailabilityEngine;
+import com.example.wiseai_dev.reservation.infrastructrue.presistence.repository.ReservationRepositoryImpl;
+import com.example.wiseai_dev.user.domain.model.User;
+import com.example.wiseai_dev.user.infrastructure.persistence.entity.UserEntity;
+import com.example.wiseai_dev.user.infrastructure.persistence.jpa.UserJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 슬롯 비트맵 가용성 엔진: 비트 점유/해제, 날짜 경계, DB 겹침 조회와의 일치, 윈도우 재적재
+ */
+@SpringBootTest(classes = WiseaiDevApplication.class, properties = {
+        "reservation.availability.engine=bitmap",
+        "reservation.availability.bitmap.reload-after=300ms"
+})
+@ActiveProfiles("test")
+class SlotBitmapAvailabilityEngineTest {
+
+    @Autowired
+    private SlotBitmapAvailabilityEngine engine;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    // 비트맵을 거치지 않는 기본 구현 (DB 겹침 조회 기준값)
+    @Autowired
+    private ReservationRepositoryImpl databaseRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    private User user;
+    private Long meetingRoomId;
+    private LocalDate day;
+
+    @BeforeEach
+    void setUp() {
+        user = userJpaRepository.save(UserEntity.builder()
+                .name("비트맵")
+                .email("bitmap-" + System.nanoTime() + "@test.com")
+                .build()).toDomainModel();
+        meetingRoomId = meetingRoomRepository.save(MeetingRoom.create("비트맵회의실", 10, 10000)).getId();
+        day = LocalDate.now().plusDays(20);
+    }
+
+    @Test
+    @DisplayName("점유/해제 - 예약 구간의 비트만 세우고 지우며, 맞닿은 구간은 겹침이 아님")
+    void 비트_점유_해제() {
+        load(meetingRoomId);
+        ReservedInterval interval = new ReservedInterval(1_000_001L, meetingRoomId, day.atTime(10, 0), day.atTime(11, 30));
+
+        engine.apply(interval, ReservationStatus.CONFIRMED);
+
+        assertThat(slotsOf(day)).isEqualTo(ReservationSlots.rangeMask(20, 23));
+        assertThat(engine.hasOverlap(meetingRoomId, day.atTime(11, 0), day.atTime(12, 0), null)).isTrue();
+        assertThat(engine.hasOverlap(meetingRoomId, day.atTime(11, 30), day.atTime(12, 0), null)).isFalse();
+        assertThat(engine.hasOverlap(meetingRoomId, day.atTime(9, 0), day.atTime(10, 0), null)).isFalse();
+        // 자기 자신을 제외하면 (수정 시) 겹치지 않음
+        assertThat(engine.hasOverlap(meetingRoomId, day.atTime(10, 30), day.atTime(12, 0), 1_000_001L)).isFalse();
+
+        engine.apply(new ReservedInterval(1_000_001L, meetingRoomId, day.atTime(14, 0), day.atTime(15, 0)),
+                ReservationStatus.CONFIRMED);
+        assertThat(slotsOf(day)).isEqualTo(ReservationSlots.rangeMask(28, 30));
+
+        engine.apply(interval, ReservationStatus.CANCELLED);
+        assertThat(slotsOf(day)).isZero();
+    }
+
+    @Test
+    @DisplayName("날짜 경계 - 자정을 넘는 예약은 두 날에 나뉘고, 자정에 끝나는 예약은 다음 날을 건드리지 않음")
+    void 날짜_경계() {
+        load(meetingRoomId);
+        LocalDate next = day.plusDays(1);
+
+        engine.apply(new ReservedInterval(1_000_002L, meetingRoomId, day.atTime(23, 0), next.atTime(1, 0)),
+                ReservationStatus.PENDING_PAYMENT);
+        engine.apply(new ReservedInterval(1_000_003L, meetingRoomId, next.atTime(22, 0), next.plusDays(1).atStartOfDay()),
+                ReservationStatus.CONFIRMED);
+
+        assertThat(slotsOf(day)).isEqualTo(ReservationSlots.rangeMask(46, 48));
+        assertThat(slotsOf(next)).isEqualTo(ReservationSlots.rangeMask(0, 2) | ReservationSlots.rangeMask(44, 48));
+        assertThat(slotsOf(next.plusDays(1))).isZero();
+        assertThat(engine.hasOverlap(meetingRoomId, next.atTime(0, 30), next.atTime(1, 30), null)).isTrue();
+        assertThat(engine.hasOverlap(meetingRoomId, day.atTime(22, 0), day.atTime(23, 0), null)).isFalse();
+        assertThat(engine.hasOverlap(meetingRoomId, next.plusDays(1).atStartOfDay(), next.plusDays(1).atTime(1, 0), null))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("DB 겹침 조회와 일치 - 저장된 예약에 대해 모든 후보 구간의 판정이 같음")
+    void DB_겹침_조회와_일치() {
+        save(day.atTime(9, 0), day.atTime(10, 30), ReservationStatus.CONFIRMED);
+        save(day.atTime(13, 0), day.atTime(14, 0), ReservationStatus.PENDING_PAYMENT);
+        save(day.atTime(23, 30), day.plusDays(1).atTime(0, 30), ReservationStatus.CONFIRMED);
+        save(day.atTime(16, 0), day.atTime(17, 0), ReservationStatus.CANCELLED);
+        load(meetingRoomId);
+
+        LocalDateTime from = day.atTime(8, 0);
+        for (int start = 0; start < 36; start++) {
+            for (int length = 1; length <= 4; length++) {
+                LocalDateTime startTime = from.plusMinutes(30L * start);
+                LocalDateTime endTime = startTime.plusMinutes(30L * length);
+                assertThat(engine.hasOverlap(meetingRoomId, startTime, endTime, null))
+                        .as("%s ~ %s", startTime, endTime)
+                        .isEqualTo(databaseRepository.existsOverlapping(meetingRoomId, startTime, endTime, null));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("reload-after 경과 - 조회 시 백그라운드로 다시 적재되어 비트맵 밖에서 들어온 예약도 반영")
+    void 윈도우_재적재() {
+        load(meetingRoomId);
+        // 비트맵에 알리지 않고 DB에만 저장 (다른 인스턴스에서 들어온 예약과 같은 상황)
+        databaseRepository.save(Reservation.create(meetingRoomId, day.atTime(10, 0), day.atTime(11, 0), user, 10000,
+                ReservationStatus.CONFIRMED));
+        assertThat(engine.hasOverlap(meetingRoomId, day.atTime(10, 0), day.atTime(11, 0), null)).isFalse();
+
+        awaitUntil(() -> engine.covers(meetingRoomId, day, day)
+                && engine.hasOverlap(meetingRoomId, day.atTime(10, 0), day.atTime(11, 0), null));
+    }
+
+    private void load(Long roomId) {
+        engine.warmUpAsync(roomId);
+        awaitUntil(() -> engine.covers(roomId, day, day.plusDays(2)));
+    }
+
+    private void save(LocalDateTime startTime, LocalDateTime endTime, ReservationStatus status) {
+        reservationRepository.save(Reservation.create(meetingRoomId, startTime, endTime, user, 10000, status));
+    }
+
+    private long slotsOf(LocalDate date) {
+        return engine.occupiedSlots(meetingRoomId, date, date)[0];
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -20,13 +20,22 @@ VALUES ('VirtualAccount', 'https://mock-api.local/virtual/pay', 'API_KEY_VIRTUAL
 
 -- 예약 데이터 (동시성 테스트용, 3명 각각 1건씩)
 -- User1 예약
-INSERT INTO reservations (meeting_room_id, start_time, end_time, status, total_amount, user_id, version)
-VALUES (1, '2025-09-02 10:00:00', '2025-09-02 11:00:00', 'PENDING_PAYMENT', 10000, 1, 0);
+INSERT INTO reservations (id, meeting_room_id, start_time, end_time, status, total_amount, user_id, version)
+VALUES (1, 1, '2025-09-02 10:00:00', '2025-09-02 11:00:00', 'PENDING_PAYMENT', 10000, 1, 0);
 
 -- User2 예약
-INSERT INTO reservations (meeting_room_id, start_time, end_time, status, total_amount, user_id, version)
-VALUES (1, '2025-09-02 11:00:00', '2025-09-02 12:00:00', 'PENDING_PAYMENT', 10000, 2, 0);
+INSERT INTO reservations (id, meeting_room_id, start_time, end_time, status, total_amount, user_id, version)
+VALUES (2, 1, '2025-09-02 11:00:00', '2025-09-02 12:00:00', 'PENDING_PAYMENT', 10000, 2, 0);
 
 -- User3 예약
-INSERT INTO reservations (meeting_room_id, start_time, end_time, status, total_amount, user_id, version)
-VALUES (1, '2025-09-02 13:00:00', '2025-09-02 14:00:00', 'PENDING_PAYMENT', 10000, 3, 0);
+INSERT INTO reservations (id, meeting_room_id, start_time, end_time, status, total_amount, user_id, version)
+VALUES (3, 1, '2025-09-02 13:00:00', '2025-09-02 14:00:00', 'PENDING_PAYMENT', 10000, 3, 0);
+
+-- 위 예약들이 선점한 30분 슬롯 (회의실, 슬롯 시작) PK로 겹침 금지
+INSERT INTO reservation_slot (meeting_room_id, slot_start, reservation_id)
+VALUES (1, '2025-09-02 10:00:00', 1), (1, '2025-09-02 10:30:00', 1),
+       (1, '2025-09-02 11:00:00', 2), (1, '2025-09-02 11:30:00', 2),
+       (1, '2025-09-02 13:00:00', 3), (1, '2025-09-02 13:30:00', 3);
+
+-- 예약 ID는 시퀀스(reservation_seq)로 발급되므로 직접 넣은 행 다음 값부터 시작
+ALTER SEQUENCE reservation_seq RESTART WITH 4;